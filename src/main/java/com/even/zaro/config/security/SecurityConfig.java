@@ -46,6 +46,7 @@ public class SecurityConfig {
                         .requestMatchers("/api/auth/**").permitAll() // auth 인증 없이
                                 .requestMatchers("/api/posts/home").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/posts").permitAll()
+                                .requestMatchers(HttpMethod.GET, "/api/posts/feed").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/search").permitAll()
                                 .requestMatchers(HttpMethod.GET, "/api/search/es").permitAll() // search 로 합쳐질 예정
                                 .requestMatchers( "/api/posts/rank").permitAll()
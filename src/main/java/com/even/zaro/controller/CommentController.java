@@ -1,5 +1,6 @@
 package com.even.zaro.controller;
 
+import com.even.zaro.dto.CursorResponse;
 import com.even.zaro.dto.PageResponse;
 import com.even.zaro.dto.comment.CommentPageResponse;
 import com.even.zaro.dto.comment.CommentRequestDto;
@@ -67,6 +68,26 @@ public class CommentController {
         return ResponseEntity.ok(ApiResponse.success("댓글 리스트를 불러왔습니다.", responseDto));
     }
 
+    @Operation(summary = "댓글 리스트 커서 조회",
+            description = """
+                {postId} 게시글의 댓글을 작성순으로 커서 기반 조회합니다.
+
+                - 첫 요청은 `cursor` 없이 호출하고, 이후에는 응답의 `nextCursor`를 그대로 전달합니다.
+                - `hasNext`가 false 이면 마지막 페이지입니다.
+                - `size`는 최대 50까지 허용됩니다.
+                """,
+            security = {@SecurityRequirement(name = "bearer-key")})
+    @GetMapping("/posts/{postId}/comments/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<CommentResponseDto>>> readCommentsByCursor(
+            @Parameter(description = "게시글 ID", example = "1") @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal JwtUserInfoDto userInfoDto
+    ) {
+        CursorResponse<CommentResponseDto> responseDto = commentService.readCommentsByCursor(postId, cursor, size, userInfoDto);
+        return ResponseEntity.ok(ApiResponse.success("댓글 리스트를 불러왔습니다.", responseDto));
+    }
+
     @Operation(summary = "댓글 수정", description = "{commentId}에 해당하는 댓글 내용을 수정합니다.",
             security = {@SecurityRequirement(name = "bearer-key")})
     @PatchMapping("comments/{commentId}")
@@ -1,7 +1,9 @@
 package com.even.zaro.controller;
 
+import com.even.zaro.dto.CursorResponse;
 import com.even.zaro.dto.jwt.JwtUserInfoDto;
 import com.even.zaro.dto.notification.NotificationDto;
+import com.even.zaro.dto.notification.UnreadNotificationCountDto;
 import com.even.zaro.global.ApiResponse;
 import com.even.zaro.service.NotificationService;
 import com.even.zaro.service.NotificationSseService;
@@ -40,6 +42,36 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success("로그인 한 사용자의 알림 목록 조회 성공 !", notifications));
     }
 
+    @Operation(
+            summary = "유저 알림함 커서 조회 (인증 필요)",
+            description = """
+                로그인 된 유저의 알림을 최신순으로 커서 기반 조회합니다.
+
+                - 첫 요청은 `cursor` 없이 호출하고, 이후에는 응답의 `nextCursor`를 그대로 전달합니다.
+                - `hasNext`가 false 이면 마지막 페이지입니다.
+                - `size`는 최대 50까지 허용됩니다.
+                """,
+            security = {@SecurityRequirement(name = "bearer-key")})
+    @GetMapping("/inbox")
+    public ResponseEntity<ApiResponse<CursorResponse<NotificationDto>>> getNotificationInbox(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthenticationPrincipal JwtUserInfoDto userInfoDto) {
+        CursorResponse<NotificationDto> notifications = notificationService.getNotificationInbox(userInfoDto.getUserId(), cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("로그인 한 사용자의 알림함 조회 성공 !", notifications));
+    }
+
+    @Operation(
+            summary = "읽지 않은 알림 수 조회 (인증 필요)",
+            description = "로그인 된 유저의 읽지 않은 알림 수를 조회합니다.",
+            security = {@SecurityRequirement(name = "bearer-key")})
+    @GetMapping("/unread-count")
+    public ResponseEntity<ApiResponse<UnreadNotificationCountDto>> getUnreadCount(
+            @AuthenticationPrincipal JwtUserInfoDto userInfoDto) {
+        long unreadCount = notificationService.getUnreadCount(userInfoDto.getUserId());
+        return ResponseEntity.ok(ApiResponse.success("읽지 않은 알림 수 조회 성공 !", new UnreadNotificationCountDto(unreadCount)));
+    }
+
     @Operation(
             summary = "개별 알림 읽음 처리 (인증 필요)",
             description = "로그인 된 유저의 개별 알림을 읽음 처리합니다.",
@@ -65,9 +97,16 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success("모든 알림이 읽음 처리되었습니다."));
     }
 
+    @Operation(
+            summary = "알림 SSE 구독 (인증 필요)",
+            description = "알림 이벤트의 id 는 알림 id 입니다. 재연결 시 Last-Event-ID 를 보내면 놓친 알림만 다시 전송하고, "
+                    + "놓친 알림을 확인할 수 없으면 reset 이벤트를 보냅니다. (이때 알림 목록을 다시 조회)",
+            security = {@SecurityRequirement(name = "bearer-key")})
     @GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
     public SseEmitter subscribe(
-            @AuthenticationPrincipal JwtUserInfoDto userInfoDto, HttpServletResponse response
+            @AuthenticationPrincipal JwtUserInfoDto userInfoDto,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            HttpServletResponse response
     ) {
         log.info("[SSE] /subscribe 진입: userId = {}", userInfoDto.getUserId());
 
@@ -77,6 +116,6 @@ public class NotificationController {
         response.setHeader("Connection", "keep-alive");
         response.setHeader("X-Accel-Buffering", "no"); // 버퍼링 방지
 
-        return notificationSseService.connect(userInfoDto.getUserId());
+        return notificationSseService.connect(userInfoDto.getUserId(), lastEventId);
     }
 }
@@ -1,5 +1,6 @@
 package com.even.zaro.controller;
 
+import com.even.zaro.dto.CursorResponse;
 import com.even.zaro.dto.PageResponse;
 import com.even.zaro.dto.jwt.JwtUserInfoDto;
 import com.even.zaro.dto.post.*;
@@ -64,11 +65,31 @@ public class PostController {
             Pageable pageable,
             @AuthenticationPrincipal JwtUserInfoDto userInfoDto
     ){
-        PageResponse<PostPreviewDto> posts = postService.getPostListPage(category, tag, pageable);
+        PageResponse<PostPreviewDto> posts = postService.getPostListPage(category, tag, pageable, currentUserId(userInfoDto));
 
         return ResponseEntity.ok(ApiResponse.success("게시글 리스트 조회가 성공했습니다.",posts));
     }
 
+    @Operation(summary = "게시글 피드 조회 (커서)", description = """
+            커서 기반으로 게시글 리스트를 최신순 조회합니다.
+
+            - 첫 페이지는 `cursor` 없이 요청합니다.
+            - 응답의 `nextCursor` 를 다음 요청의 `cursor` 로 전달합니다. (`hasNext` 가 false 면 마지막 페이지)
+            - 전체 페이지 수가 필요한 경우 기존 `/api/posts` (페이지 번호 방식)를 사용합니다.
+            - 로그인한 경우 각 게시글에 좋아요 여부(`liked`)가 포함됩니다.
+            """)
+    @GetMapping("/feed")
+    public ResponseEntity<ApiResponse<CursorResponse<PostPreviewDto>>> getPostFeed(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @AuthenticationPrincipal JwtUserInfoDto userInfoDto
+    ) {
+        CursorResponse<PostPreviewDto> posts = postService.getPostFeed(category, tag, cursor, size, currentUserId(userInfoDto));
+        return ResponseEntity.ok(ApiResponse.success("게시글 피드 조회가 성공했습니다.", posts));
+    }
+
 
 
     @Operation(summary = "게시글 상세 조회", description = "게시글의 상세 내용을 조회합니다.",security = {@SecurityRequirement(name = "bearer-key")})
@@ -128,6 +149,21 @@ public class PostController {
     }
 
 
+    @Operation(summary = "게시글 목록 좋아요 여부 일괄 조회", description = """
+            게시글 id 목록 중 사용자가 좋아요를 누른 게시글 id 만 반환합니다. (최대 100개)
+
+            - 예) `/api/posts/likes?postIds=1,2,3`
+            """, security = {@SecurityRequirement(name = "bearer-key")})
+    @GetMapping("/likes")
+    public ResponseEntity<ApiResponse<List<Long>>> getLikedPostIds(
+            @RequestParam List<Long> postIds,
+            @AuthenticationPrincipal JwtUserInfoDto userInfoDto
+    ) {
+        List<Long> likedPostIds = postLikeService.getLikedPostIds(userInfoDto.getUserId(), postIds);
+        return ResponseEntity.ok(ApiResponse.success("게시글 목록 좋아요 여부 조회가 성공하였습니다.", likedPostIds));
+    }
+
+
     @Operation(summary = "게시글 신고", description = "게시글을 신고합니다.", security = {@SecurityRequirement(name = "bearer-key")})
     @PostMapping("/{postId}/report")
     public ResponseEntity<ApiResponse<ReportResponseDto>> reportPost(
@@ -139,11 +175,19 @@ public class PostController {
         return ResponseEntity.ok(ApiResponse.success("게시글 신고가 완료되었습니다.", response));
     }
 
-    @Operation(summary = "실시간 인기 게시글 조회", description = "좋아요 수 & 댓글 수 를 기반으로 계산하여 실시간 인기 게시글 10개를 조회합니다.")
+    @Operation(summary = "인기 게시글 조회", description = "좋아요 수 & 댓글 수 를 기반으로 계산한 인기 게시글을 조회합니다. " +
+            "type : REALTIME(기본, 누적 점수) / HOT(시간 감쇠 점수) / DAILY(24시간) / WEEKLY(7일), category 는 REALTIME 외 유형에서만 적용됩니다.")
     @GetMapping("/rank")
-    public ApiResponse<?> getRankedPosts() {
-        List<PostRankResponseDto> result = postService.getRankedPosts();
+    public ApiResponse<?> getRankedPosts(
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String category
+    ) {
+        List<PostRankResponseDto> result = postService.getRankedPosts(type, category);
         return ApiResponse.success("실시간 인기 게시글이 확인 되었습니다.", Map.of("posts", result));
     }
 
+    // 목록 조회는 비로그인도 허용하므로 principal 이 없을 수 있음
+    private Long currentUserId(JwtUserInfoDto userInfoDto) {
+        return userInfoDto != null ? userInfoDto.getUserId() : null;
+    }
 }
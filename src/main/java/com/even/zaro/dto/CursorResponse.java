@@ -0,0 +1,27 @@
+package com.even.zaro.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Schema(description = "커서 기반 페이징 응답 포맷")
+public class CursorResponse<T> {
+
+    @ArraySchema(schema = @Schema(description = "데이터 목록"))
+    private final List<T> content;
+
+    @Schema(description = "다음 페이지 조회용 커서 (마지막 페이지면 null)", example = "MjAyNS0wNi0wMVQxMjozNDo1Ni4xMTF8NDI", nullable = true)
+    private final String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    public CursorResponse(List<T> content, String nextCursor) {
+        this.content = content;
+        this.nextCursor = nextCursor;
+        this.hasNext = nextCursor != null;
+    }
+}
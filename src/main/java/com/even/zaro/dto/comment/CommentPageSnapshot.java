@@ -0,0 +1,46 @@
+package com.even.zaro.dto.comment;
+
+import com.even.zaro.global.util.CursorCodec;
+
+import java.util.List;
+
+/**
+ * 게시글의 작성순 앞부분 댓글 (댓글 페이지 캐시 값)
+ * 커서 / 페이지 번호 요청은 이 목록을 잘라서 응답하고, 캐시된 범위를 벗어나면 DB 에서 조회합니다.
+ *
+ * @param comments (createdAt, id) 오름차순
+ * @param complete 게시글의 댓글을 모두 담고 있는지 여부
+ */
+public record CommentPageSnapshot(List<CommentSnapshot> comments, boolean complete) {
+
+    /// @return cursor 이후 최대 limit 개 (캐시된 범위를 벗어나면 null)
+    public List<CommentSnapshot> after(CursorCodec.Position cursor, int limit) {
+        int from = 0;
+        if (cursor != null) {
+            while (from < comments.size() && !isAfter(comments.get(from), cursor)) {
+                from++;
+            }
+        }
+        return slice(from, limit);
+    }
+
+    /// @return offset 부터 최대 limit 개 (캐시된 범위를 벗어나면 null)
+    public List<CommentSnapshot> range(long offset, int limit) {
+        if (offset > comments.size()) {
+            return complete ? List.of() : null;
+        }
+        return slice((int) offset, limit);
+    }
+
+    private List<CommentSnapshot> slice(int from, int limit) {
+        if (!complete && from + limit > comments.size()) {
+            return null;
+        }
+        return comments.subList(from, Math.min(from + limit, comments.size()));
+    }
+
+    private static boolean isAfter(CommentSnapshot comment, CursorCodec.Position cursor) {
+        int compared = comment.createdAt().compareTo(cursor.createdAt());
+        return compared > 0 || (compared == 0 && comment.id() > cursor.id());
+    }
+}
@@ -0,0 +1,23 @@
+package com.even.zaro.dto.comment;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 중 조회자와 무관한 부분 (댓글 페이지 캐시 저장 단위)
+ * 작성자 여부(isMine)는 요청마다 따로 계산해서 덧붙입니다.
+ * 신고된 댓글 / 탈퇴한 작성자는 적재 시점에 가려 둡니다.
+ */
+public record CommentSnapshot(
+        Long id,
+        String content,
+        Long userId,
+        String nickname,
+        String profileImage,
+        LocalDate liveAloneDate,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long mentionedUserId,
+        String mentionedUserNickname
+) {
+}
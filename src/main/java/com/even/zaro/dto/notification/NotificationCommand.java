@@ -0,0 +1,18 @@
+package com.even.zaro.dto.notification;
+
+import com.even.zaro.entity.Notification;
+
+/**
+ * 알림 생성 요청 (알림 파이프라인 입력)
+ * 엔티티 대신 id 만 담아서, 요청 트랜잭션이 끝난 뒤 다른 스레드에서 처리해도 지연 로딩이 필요 없습니다.
+ *
+ * @param recipientId 알림을 받을 유저
+ * @param actorId 알림을 발생시킨 유저 (묶인 알림이면 마지막 행위자)
+ * @param actorCount 묶인 행위자 수
+ */
+public record NotificationCommand(Long recipientId, Long actorId, Notification.Type type, Long targetId, int actorCount) {
+
+    public NotificationCommand(Long recipientId, Long actorId, Notification.Type type, Long targetId) {
+        this(recipientId, actorId, type, targetId, 1);
+    }
+}
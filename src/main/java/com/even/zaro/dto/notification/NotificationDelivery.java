@@ -0,0 +1,10 @@
+package com.even.zaro.dto.notification;
+
+/**
+ * 노드 간 SSE 전달 메시지 항목
+ * (새로 저장된 알림만 전달하므로 isRead 는 수신 노드에서 기본값 false 로 복원됩니다)
+ *
+ * @param userId 알림을 받을 유저
+ */
+public record NotificationDelivery(Long userId, NotificationDto notification) {
+}
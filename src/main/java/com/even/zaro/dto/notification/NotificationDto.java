@@ -47,6 +47,9 @@ public class NotificationDto {
     @Schema(description = "알림 발생 주체 프로필 이미지", example = "/images/profile/uuid.png")
     private String actorProfileImage;
 
+    @Schema(description = "함께 묶인 다른 행위자 수 (LIKE, \"맛잘알님 외 41명\")", example = "41")
+    private int othersCount;
+
     // 타입별 필요 정보
 
     @Schema(description = "게시글 ID", example = "2")
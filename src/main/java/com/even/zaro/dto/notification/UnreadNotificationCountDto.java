@@ -0,0 +1,14 @@
+package com.even.zaro.dto.notification;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "읽지 않은 알림 수 응답 dto")
+public class UnreadNotificationCountDto {
+
+    @Schema(description = "읽지 않은 알림 수", example = "3")
+    private long unreadCount;
+}
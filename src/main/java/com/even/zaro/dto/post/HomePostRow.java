@@ -0,0 +1,25 @@
+package com.even.zaro.dto.post;
+
+import com.even.zaro.entity.Post;
+import com.even.zaro.entity.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * 홈 화면 카테고리별 최신 게시글 row (캐시 저장 단위)
+ * 본문은 RANDOM_BUY 카테고리만 채워집니다.
+ */
+public record HomePostRow(
+        Post.Category category,
+        Long postId,
+        String title,
+        String content,
+        String thumbnailImage,
+        int likeCount,
+        int commentCount,
+        LocalDateTime createdAt,
+        String writerNickname,
+        String writerProfileImage,
+        Status writerStatus
+) {
+}
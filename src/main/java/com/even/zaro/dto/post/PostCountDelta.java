@@ -0,0 +1,23 @@
+package com.even.zaro.dto.post;
+
+/**
+ * 아직 DB 에 반영되지 않은 좋아요/댓글 수 증감분
+ * 조회 시 DB 값에 더해서 응답합니다. ({@link com.even.zaro.service.PostCounterService})
+ */
+public record PostCountDelta(int likes, int comments) {
+
+    public static final PostCountDelta NONE = new PostCountDelta(0, 0);
+
+    public boolean isEmpty() {
+        return likes == 0 && comments == 0;
+    }
+
+    /// 음수 증감분이 먼저 반영돼도 0 미만으로 내려가지 않도록 보정
+    public int applyToLikes(int likeCount) {
+        return Math.max(0, likeCount + likes);
+    }
+
+    public int applyToComments(int commentCount) {
+        return Math.max(0, commentCount + comments);
+    }
+}
@@ -0,0 +1,26 @@
+package com.even.zaro.dto.post;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 상세 중 수정/삭제 전까지 바뀌지 않는 부분 (캐시 저장 단위)
+ * 좋아요/댓글 수와 조회자별 팔로우 여부는 요청마다 따로 조회해서 덧붙입니다.
+ * 탈퇴한 작성자는 적재 시점에 "알 수 없는 사용자" 로 가려 둡니다.
+ */
+public record PostDetailSnapshot(
+        Long postId,
+        String title,
+        String content,
+        String thumbnailImage,
+        String category,
+        String tag,
+        List<String> postImageList,
+        LocalDateTime createdAt,
+        Long writerId,
+        String writerNickname,
+        String writerProfileImage,
+        LocalDate writerLiveAloneDate
+) {
+}
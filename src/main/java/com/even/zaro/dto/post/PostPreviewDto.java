@@ -42,6 +42,9 @@ public class PostPreviewDto {
     @Schema(description = "댓글 수", example = "3")
     private int commentCount;
 
+    @Schema(description = "로그인 유저의 좋아요 여부 (비로그인 시 생략)", example = "true", nullable = true)
+    private Boolean liked;
+
     @Schema(description = "작성자 프로필 이미지 URL", example = "https://your-cdn.com/default.png", nullable = true)
     private String writerProfileImage;
 
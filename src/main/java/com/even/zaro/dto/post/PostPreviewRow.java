@@ -0,0 +1,35 @@
+package com.even.zaro.dto.post;
+
+import com.even.zaro.entity.Post;
+import com.even.zaro.entity.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 projection
+ * Post 엔티티(TEXT 본문, 지연로딩 작성자)를 로딩하지 않고 목록에 필요한 컬럼(저장된 미리보기 포함)과 작성자 정보만 한 번의 join 쿼리로 가져옵니다.
+ */
+public record PostPreviewRow(
+        Long postId,
+        String title,
+        String contentPreview,
+        String thumbnailImage,
+        Post.Category category,
+        Post.Tag tag,
+        int likeCount,
+        int commentCount,
+        LocalDateTime createdAt,
+        String writerNickname,
+        String writerProfileImage,
+        Status writerStatus
+) {
+
+    public PostPreviewRow withPending(PostCountDelta pending) {
+        if (pending.isEmpty()) {
+            return this;
+        }
+        return new PostPreviewRow(postId, title, contentPreview, thumbnailImage, category, tag,
+                pending.applyToLikes(likeCount), pending.applyToComments(commentCount),
+                createdAt, writerNickname, writerProfileImage, writerStatus);
+    }
+}
@@ -0,0 +1,42 @@
+package com.even.zaro.dto.post;
+
+import com.even.zaro.entity.Post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실시간 인기글 랭킹 항목
+ * Redis 랭킹(ZSET + 메타 hash)과 DB 재구축/대체 조회에서 공통으로 사용합니다.
+ */
+public record PostRankEntry(
+        Long postId,
+        String title,
+        Post.Category category,
+        int likeCount,
+        int commentCount,
+        double score,
+        LocalDateTime createdAt
+) {
+    public static PostRankEntry from(Post post) {
+        return new PostRankEntry(
+                post.getId(),
+                post.getTitle(),
+                post.getCategory(),
+                post.getLikeCount(),
+                post.getCommentCount(),
+                post.getScore(),
+                post.getCreatedAt()
+        );
+    }
+
+    /// 아직 DB 에 반영되지 않은 증감분을 더한 좋아요/댓글 수로 점수를 다시 계산 (Post.updateScore 와 같은 가중치)
+    public PostRankEntry withPending(PostCountDelta pending) {
+        if (pending.isEmpty()) {
+            return this;
+        }
+        int likes = pending.applyToLikes(likeCount);
+        int comments = pending.applyToComments(commentCount);
+        return new PostRankEntry(postId, title, category, likes, comments,
+                likes * Post.LIKE_SCORE_WEIGHT + comments * Post.COMMENT_SCORE_WEIGHT, createdAt);
+    }
+}
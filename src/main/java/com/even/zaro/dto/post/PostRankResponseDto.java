@@ -1,6 +1,5 @@
 package com.even.zaro.dto.post;
 
-import com.even.zaro.entity.Post;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,16 +35,16 @@ public class PostRankResponseDto {
     @Schema(description = "카테고리", example = "DAILY_LIFE")
     private String category;
 
-    public static PostRankResponseDto from(Post post, int baselineRankIndex, int currentRankIndex, int rankChange) {
+    public static PostRankResponseDto from(PostRankEntry entry, int baselineRankIndex, int currentRankIndex, int rankChange) {
         return PostRankResponseDto.builder()
-                .postId(post.getId())
-                .title(post.getTitle())
-                .likeCount(post.getLikeCount())
-                .commentCount(post.getCommentCount())
+                .postId(entry.postId())
+                .title(entry.title())
+                .likeCount(entry.likeCount())
+                .commentCount(entry.commentCount())
                 .baselineRankIndex(baselineRankIndex)
                 .currentRankIndex(currentRankIndex)
                 .rankChange(rankChange)
-                .category(post.getCategory().name())
+                .category(entry.category().name())
                 .build();
     }
 }
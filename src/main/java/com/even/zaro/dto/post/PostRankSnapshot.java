@@ -0,0 +1,28 @@
+package com.even.zaro.dto.post;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 인기글 순위 스냅샷 (불변)
+ * 랭킹 키별로 기준 순위(하루 단위)와 직전 순위(주기적 교체)를 postId -> 순위 로 보관합니다.
+ *
+ * @param version 스냅샷 버전 (생성 시각 epoch millis, 없으면 null)
+ * @param baselineDate 기준 순위를 기록한 날짜
+ */
+public record PostRankSnapshot(
+        String version,
+        LocalDate baselineDate,
+        Map<String, Map<Long, Integer>> baseline,
+        Map<String, Map<Long, Integer>> prev
+) {
+    public static final PostRankSnapshot EMPTY = new PostRankSnapshot(null, null, Map.of(), Map.of());
+
+    public Map<Long, Integer> baselineOf(String rankKey) {
+        return baseline.getOrDefault(rankKey, Map.of());
+    }
+
+    public Map<Long, Integer> prevOf(String rankKey) {
+        return prev.getOrDefault(rankKey, Map.of());
+    }
+}
@@ -0,0 +1,25 @@
+package com.even.zaro.dto.post;
+
+import java.time.Duration;
+
+/**
+ * 인기글 랭킹 유형
+ * REALTIME 은 누적 점수, 나머지는 스케줄러가 최근 활동 게시글만 주기적으로 재계산한 랭킹입니다.
+ */
+public enum PostRankType {
+    REALTIME(null),            // 누적 점수 (좋아요 3점, 댓글 5점)
+    HOT(Duration.ofDays(7)),   // 작성 후 경과 시간으로 감쇠한 점수
+    DAILY(Duration.ofDays(1)), // 최근 24시간 내 작성된 게시글
+    WEEKLY(Duration.ofDays(7)); // 최근 7일 내 작성된 게시글
+
+    private final Duration window;
+
+    PostRankType(Duration window) {
+        this.window = window;
+    }
+
+    /// 랭킹 대상이 되는 작성 기간 (REALTIME 은 제한 없음)
+    public Duration getWindow() {
+        return window;
+    }
+}
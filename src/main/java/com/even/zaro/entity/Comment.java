@@ -9,7 +9,12 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = {
+        // 게시글 댓글 목록 (작성순) - InnoDB 보조 인덱스에는 PK(id)가 뒤에 붙으므로 (created_at, id) 커서 조회도 정렬 없이 사용
+        @Index(name = "idx_comment_post_created", columnList = "post_id, is_deleted, created_at"),
+        // 프로필 작성 댓글 목록 (최신순)
+        @Index(name = "idx_comment_user_created", columnList = "user_id, is_deleted, created_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -2,12 +2,18 @@ package com.even.zaro.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notification")
+@Table(name = "notification", indexes = {
+        // 유저 알림 목록 (최신순)
+        @Index(name = "idx_notification_user_created", columnList = "user_id, created_at"),
+        // 읽지 않은 알림 수 / 전체 읽음 처리
+        @Index(name = "idx_notification_user_read_created", columnList = "user_id, is_read, created_at")
+})
 @Getter
 @Setter
 @Builder(toBuilder = true) // testCode용으로 추가 (실제는 Listener에서 자동생성)
@@ -26,6 +32,12 @@ public class Notification {
     @Column(name = "actor_user_id")
     private Long actorUserId;
 
+    // 묶인 알림의 행위자 수 (actor_user_id 는 마지막 행위자, "X님 외 N명")
+    @Builder.Default
+    @ColumnDefault("1")
+    @Column(name = "actor_count", nullable = false)
+    private int actorCount = 1;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "type", nullable = false)
     private Type type;
@@ -2,25 +2,45 @@ package com.even.zaro.entity;
 
 import com.even.zaro.global.ErrorCode;
 import com.even.zaro.global.exception.post.PostException;
+import com.even.zaro.global.util.PostContentSanitizer;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        // 카테고리+태그 목록 / 피드 (최신순)
+        @Index(name = "idx_post_category_tag_created", columnList = "category, tag, is_deleted, is_reported, created_at"),
+        // 카테고리 목록 / 피드 / 홈 화면 (최신순)
+        @Index(name = "idx_post_category_created", columnList = "category, is_deleted, is_reported, created_at"),
+        // 전체 목록 / 피드 (최신순)
+        @Index(name = "idx_post_visible_created", columnList = "is_deleted, is_reported, created_at"),
+        // 인기글 DB 조회 (점수순)
+        @Index(name = "idx_post_visible_score", columnList = "is_deleted, is_reported, score, created_at"),
+        // 프로필 작성 게시글 목록 (최신순)
+        @Index(name = "idx_post_user_created", columnList = "user_id, is_deleted, created_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+// 좋아요/댓글/신고 수, 점수, 숨김 여부는 카운터 반영(JDBC) / 신고 숨김(벌크 update)이 직접 갱신하므로
+// 수정/삭제 시에는 바뀐 컬럼만 update 해서 그 사이 반영된 값을 이전 값으로 덮어쓰지 않도록 함
+@DynamicUpdate
 public class Post {
 
+    // 인기글 점수 가중치 (좋아요 3점, 댓글 5점)
+    public static final double LIKE_SCORE_WEIGHT = 3.0;
+    public static final double COMMENT_SCORE_WEIGHT = 5.0;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -35,6 +55,10 @@ public class Post {
     @Column(nullable = false,columnDefinition = "TEXT")
     private String content;
 
+    // 목록 조회용 평문 미리보기 (본문 저장 시점에 계산)
+    @Column(name = "content_preview", length = 255)
+    private String contentPreview;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private Category category;
@@ -90,6 +114,7 @@ public class Post {
 
     public void changeContent(String content) {
         this.content = content;
+        this.contentPreview = PostContentSanitizer.toPreview(content);
     }
 
     public void changeTag(Tag tag) {
@@ -125,7 +150,7 @@ public class Post {
     }
 
     public void updateScore(){
-        this.score = (this.likeCount * 3.0) + (this.commentCount * 5.0);
+        this.score = (this.likeCount * LIKE_SCORE_WEIGHT) + (this.commentCount * COMMENT_SCORE_WEIGHT);
     }
 
     public enum Category {
@@ -179,6 +204,7 @@ public class Post {
                 .thumbnailImage(thumbnailImage)
                 .postImageList(postImageList)
                 .user(user)
+                .contentPreview(PostContentSanitizer.toPreview(content))
                 .build();
 
         post.updateScore();
@@ -188,10 +214,10 @@ public class Post {
     public void update(String title, String content, Tag tag, List<String> postImageList, String thumbnailImage) {
         this.title = title;
         this.content = content;
+        this.contentPreview = PostContentSanitizer.toPreview(content);
         this.tag = tag;
         this.postImageList = postImageList;
         this.thumbnailImage = thumbnailImage;
-        this.updateScore();
     }
 
 }
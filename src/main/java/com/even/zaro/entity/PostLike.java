@@ -8,7 +8,13 @@ import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "post_like")
+@Table(name = "post_like", uniqueConstraints = {
+        // 좋아요 중복 방지는 이 제약조건에 맡김 (PostLikeRepository.insertIgnore)
+        @UniqueConstraint(name = "uk_post_like_user_post", columnNames = {"user_id", "post_id"})
+}, indexes = {
+        // 프로필 좋아요 게시글 목록 (좋아요 누른 최신순)
+        @Index(name = "idx_post_like_user_created", columnList = "user_id, created_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
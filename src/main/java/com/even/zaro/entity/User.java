@@ -21,7 +21,11 @@ import java.util.UUID;
 @Builder
 @Table(
     name = "users",
-    uniqueConstraints = @UniqueConstraint(columnNames = {"provider", "provider_id"})
+    uniqueConstraints = @UniqueConstraint(columnNames = {"provider", "provider_id"}),
+    indexes = {
+        // 휴면 전환 대상 조회
+        @Index(name = "idx_users_status_last_login", columnList = "status, last_login_at")
+    }
 )
 public class User {
 
@@ -23,6 +23,7 @@ public enum ErrorCode {
     INVALID_UPLOAD_TYPE(HttpStatus.BAD_REQUEST, "type은 'profile' 또는 'post' 여야 합니다."),
     UNAUTHORIZED_IMAGE_DELETE(HttpStatus.UNAUTHORIZED, "이미지 삭제 권한이 았는 사용자가 아닙니다."),
     INVALID_FILE_EXTENSION(HttpStatus.BAD_REQUEST,  "지원하지 않는 이미지 확장자입니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "올바르지 않은 커서입니다."),
 
     // 회원 User
     EMAIL_REQUIRED(HttpStatus.BAD_REQUEST, "이메일은 필수 입력 값입니다."),
@@ -78,12 +79,14 @@ public enum ErrorCode {
     IMAGE_REQUIRED_FOR_RANDOM_BUY(HttpStatus.BAD_REQUEST, "이미지는 필수입니다."),
     INVALID_CATEGORY(HttpStatus.BAD_REQUEST, "올바르지 않은 카테고리입니다."),
     INVALID_TAG(HttpStatus.BAD_REQUEST, "올바르지 않은 태그입니다."),
+    INVALID_RANK_TYPE(HttpStatus.BAD_REQUEST, "올바르지 않은 인기글 유형입니다."),
     POST_NOT_FOUND(HttpStatus.NOT_FOUND,"게시글을 찾을 수 없습니다."),
     INVALID_POST_OWNER(HttpStatus.FORBIDDEN, "권한이 없습니다."),
     INVALID_TAG_FOR_CATEGORY(HttpStatus.BAD_REQUEST, "해당 카테고리에는 사용할 수 없는 태그입니다."),
     THUMBNAIL_NOT_IN_IMAGE_LIST(HttpStatus.BAD_REQUEST, "썸네일은 이미지 목록에 포함되어야 합니다."),
     ALREADY_LIKED(HttpStatus.BAD_REQUEST, "이미 좋아요를 누른 게시글입니다."),
     LIKE_NOT_POST(HttpStatus.NOT_FOUND, "좋아요 정보가 존재하지 않습니다."),
+    LIKE_CHECK_TOO_MANY_POSTS(HttpStatus.BAD_REQUEST, "좋아요 여부는 한 번에 최대 100개 게시글까지 조회할 수 있습니다."),
     EMAIL_NOT_VERIFIED_LIKE(HttpStatus.FORBIDDEN, "이메일 인증이 완료되지 않아 좋아요 기능을 이용할 수 없습니다."),
     SEARCH_KEYWORD_REQUIRED(HttpStatus.BAD_REQUEST, "검색어는 필수입니다."),
     CATEGORY_REQUIRED(HttpStatus.BAD_REQUEST, "카테고리는 필수입니다."),
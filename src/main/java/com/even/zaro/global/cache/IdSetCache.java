@@ -0,0 +1,147 @@
+package com.even.zaro.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 소유자(유저) 별 id 집합 캐시 - Caffeine(L1) + Redis set(L2, cache:{name}:{ownerId})
+ * 팔로잉 유저 / 좋아요한 게시글처럼 "A 가 B 를 ~했는가" 를 목록 단위로 확인할 때 사용합니다.
+ * - L2 집합에는 DB 에서 전체를 적재했다는 표시로 {@link #LOADED_MARKER} 를 함께 넣습니다.
+ *   표시가 없는 집합(추가 반영만 된 상태)은 일부만 담고 있을 수 있으므로 DB 에서 다시 적재해 합칩니다.
+ * - 추가/제거는 커밋 이후 L2 에 SADD/SREM 으로 반영하고, 모든 노드의 L1 에서 해당 소유자를 제거합니다.
+ * Redis 장애 시에는 L1 + loader 로만 동작합니다.
+ * 제거 커밋 직전에 DB 를 읽은 적재가 제거 이후에 L2 에 쓰면 remoteTtl 동안 제거가 반영되지 않을 수 있습니다.
+ */
+@Slf4j
+public class IdSetCache {
+
+    private static final String KEY_PREFIX = "cache:";
+    private static final String LOADED_MARKER = "0";
+
+    private final String name;
+    private final Cache<Long, Set<Long>> local;
+    private final Duration remoteTtl;
+    private final Function<Long, Collection<Long>> loader;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TwoLevelCacheManager manager;
+
+    IdSetCache(String name, Cache<Long, Set<Long>> local, Duration remoteTtl, Function<Long, Collection<Long>> loader,
+               RedisTemplate<String, String> redisTemplate, TwoLevelCacheManager manager) {
+        this.name = name;
+        this.local = local;
+        this.remoteTtl = remoteTtl;
+        this.loader = loader;
+        this.redisTemplate = redisTemplate;
+        this.manager = manager;
+    }
+
+    /// @return ids 중 ownerId 의 집합에 들어 있는 id
+    public Set<Long> intersect(Long ownerId, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        Set<Long> members = local.get(ownerId, this::load);
+        return ids.stream()
+                .filter(members::contains)
+                .collect(Collectors.toSet());
+    }
+
+    public boolean contains(Long ownerId, Long id) {
+        return local.get(ownerId, this::load).contains(id);
+    }
+
+    /// 커밋 이후 호출
+    public void add(Long ownerId, Long id) {
+        String key = key(ownerId);
+        try {
+            // 아직 적재되지 않은 집합이어도 추가해 두고(표시 없음), 다음 적재 때 DB 결과와 합쳐짐
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForSet().add(key, id.toString());
+                    ops.expire(key, remoteTtl);
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("[캐시] {} 추가 반영 실패 ownerId={} {}", name, ownerId, e.getMessage());
+        }
+        invalidateLocal(ownerId);
+    }
+
+    /// 커밋 이후 호출
+    public void remove(Long ownerId, Long id) {
+        try {
+            redisTemplate.opsForSet().remove(key(ownerId), id.toString());
+        } catch (DataAccessException e) {
+            log.warn("[캐시] {} 제거 반영 실패 ownerId={} {}", name, ownerId, e.getMessage());
+        }
+        invalidateLocal(ownerId);
+    }
+
+    void evictLocal(String ownerId) {
+        local.invalidate(Long.valueOf(ownerId));
+    }
+
+    private void invalidateLocal(Long ownerId) {
+        local.invalidate(ownerId);
+        manager.publishInvalidation(name, ownerId.toString());
+    }
+
+    private Set<Long> load(Long ownerId) {
+        String key = key(ownerId);
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(key);
+            if (members != null && members.contains(LOADED_MARKER)) {
+                return members.stream()
+                        .filter(member -> !LOADED_MARKER.equals(member))
+                        .map(Long::valueOf)
+                        .collect(Collectors.toUnmodifiableSet());
+            }
+        } catch (DataAccessException e) {
+            log.warn("[캐시] {} L2 조회 실패, DB 조회로 대체 ownerId={} {}", name, ownerId, e.getMessage());
+        }
+
+        Set<Long> ids = Set.copyOf(loader.apply(ownerId));
+        storeRemote(key, ids);
+        return ids;
+    }
+
+    private void storeRemote(String key, Set<Long> ids) {
+        List<String> members = new ArrayList<>(ids.size() + 1);
+        members.add(LOADED_MARKER);
+        ids.forEach(id -> members.add(id.toString()));
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForSet().add(key, members.toArray(String[]::new));
+                    ops.expire(key, remoteTtl);
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("[캐시] {} L2 저장 실패 key={} {}", name, key, e.getMessage());
+        }
+    }
+
+    private String key(Long ownerId) {
+        return KEY_PREFIX + name + ":" + ownerId;
+    }
+}
@@ -0,0 +1,158 @@
+package com.even.zaro.global.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caffeine(L1, 노드 로컬) + Redis(L2, 노드 공유) 2단계 캐시
+ * - 조회 : L1 -> L2 -> loader 순서, 같은 키의 동시 miss 는 노드당 loader 한 번만 실행
+ * - 무효화 : 키 버전 증가(INCR) 후 pub/sub 으로 모든 노드의 L1 제거 ({@link TwoLevelCacheManager})
+ * - L2 값은 "{적재 시작 시점 버전}|{JSON}" 으로 저장하고, 현재 버전과 다르면 버립니다.
+ *   무효화 직전에 DB 를 읽은 요청이 무효화 이후에 예전 값을 L2 에 써도 다시 노출되지 않습니다.
+ * Redis 장애 시에는 L1 + loader 로만 동작합니다.
+ *
+ * @param <V> JSON 직렬화 가능한 값 타입
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+
+    private static final String INITIAL_VERSION = "0";
+    private static final char VERSION_SEPARATOR = '|';
+
+    private final String name;
+    private final Cache<String, V> local;
+    private final Duration remoteTtl;
+    private final JavaType valueType;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final TwoLevelCacheManager manager;
+
+    TwoLevelCache(String name, Cache<String, V> local, Duration remoteTtl, JavaType valueType,
+                  RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper, TwoLevelCacheManager manager) {
+        this.name = name;
+        this.local = local;
+        this.remoteTtl = remoteTtl;
+        this.valueType = valueType;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.manager = manager;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public V get(String key, Supplier<V> loader) {
+        return local.get(key, k -> loadRemote(Set.of(k), missing -> {
+            V value = loader.get();
+            return value != null ? Map.of(k, value) : Map.of();
+        }).get(k));
+    }
+
+    /**
+     * 여러 키 조회 : L1 에 없는 키만 L2 에서 한 번에(MGET) 읽고, 그래도 없는 키만 bulkLoader 한 번으로 적재
+     *
+     * @param bulkLoader 누락된 키 집합 -> 값 (결과에 없는 키는 캐시하지 않음)
+     */
+    public Map<String, V> getAll(Collection<String> keys, Function<Set<String>, Map<String, V>> bulkLoader) {
+        return local.getAll(keys, missingKeys -> loadRemote(new LinkedHashSet<>(missingKeys), bulkLoader));
+    }
+
+    /// 모든 노드에서 해당 키 무효화 (커밋 이후에 호출)
+    public void evict(String key) {
+        try {
+            redisTemplate.opsForValue().increment(versionKey(key));
+            redisTemplate.expire(versionKey(key), remoteTtl.multipliedBy(2));
+            redisTemplate.delete(valueKey(key));
+        } catch (DataAccessException e) {
+            log.warn("[캐시] {} L2 무효화 실패 key={} {}", name, key, e.getMessage());
+        }
+        local.invalidate(key);
+        manager.publishInvalidation(name, key);
+    }
+
+    /// 다른 노드의 무효화 메시지 수신 시 L1 만 제거
+    void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    private Map<String, V> loadRemote(Set<String> keys, Function<Set<String>, Map<String, V>> bulkLoader) {
+        List<String> keyList = new ArrayList<>(keys);
+        Map<String, V> result = new HashMap<>();
+        // 적재 시작 시점의 키별 버전 (L2 조회 실패 시 비어 있고, 이때는 L2 에 저장하지 않음)
+        Map<String, String> versions = new HashMap<>();
+
+        try {
+            List<String> redisKeys = new ArrayList<>();
+            keyList.forEach(key -> {
+                redisKeys.add(valueKey(key));
+                redisKeys.add(versionKey(key));
+            });
+            List<String> cached = redisTemplate.opsForValue().multiGet(redisKeys);
+            for (int i = 0; cached != null && i < keyList.size(); i++) {
+                String version = Objects.requireNonNullElse(cached.get(i * 2 + 1), INITIAL_VERSION);
+                versions.put(keyList.get(i), version);
+                V value = decode(cached.get(i * 2), version);
+                if (value != null) {
+                    result.put(keyList.get(i), value);
+                }
+            }
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[캐시] {} L2 조회 실패 keys={} {}", name, keys, e.getMessage());
+            result.clear();
+            versions.clear();
+        }
+
+        Set<String> missing = new LinkedHashSet<>(keys);
+        missing.removeAll(result.keySet());
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<String, V> loaded = bulkLoader.apply(missing);
+        loaded.forEach((key, value) -> {
+            if (versions.containsKey(key)) {
+                store(key, versions.get(key), value);
+            }
+        });
+        result.putAll(loaded);
+        return result;
+    }
+
+    private V decode(String cached, String currentVersion) throws JsonProcessingException {
+        if (cached == null) {
+            return null;
+        }
+        int separator = cached.indexOf(VERSION_SEPARATOR);
+        if (separator < 0 || !cached.substring(0, separator).equals(currentVersion)) {
+            return null;
+        }
+        return objectMapper.readValue(cached.substring(separator + 1), valueType);
+    }
+
+    private void store(String key, String version, V value) {
+        try {
+            redisTemplate.opsForValue().set(valueKey(key), version + VERSION_SEPARATOR + objectMapper.writeValueAsString(value), remoteTtl);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.warn("[캐시] {} L2 저장 실패 key={} {}", name, key, e.getMessage());
+        }
+    }
+
+    private String valueKey(String key) {
+        return "cache:" + name + ":" + key;
+    }
+
+    private String versionKey(String key) {
+        return "cache:" + name + ":" + key + ":version";
+    }
+}
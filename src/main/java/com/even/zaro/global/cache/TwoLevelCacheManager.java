@@ -0,0 +1,115 @@
+package com.even.zaro.global.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 2단계 캐시 생성 및 노드 간 L1 무효화 전파
+ * 무효화 메시지는 "{캐시 이름}|{키}" 형식으로 {@link #INVALIDATION_CHANNEL} 에 발행되고,
+ * 구독 중인 모든 노드(발행한 노드 포함)가 해당 캐시의 L1 에서 키를 제거합니다.
+ * {@link TwoLevelCache} / {@link IdSetCache} 가 아닌 로컬 캐시도 {@link #registerLocal} 로 같은 채널을 사용할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TwoLevelCacheManager implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidate";
+    private static final String SEPARATOR = "|";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, Consumer<String>> localEvictors = new ConcurrentHashMap<>();
+
+    /**
+     * @param localTtl L1 만료 시간 (무효화 메시지 유실 대비 상한)
+     * @param localMaxSize L1 최대 키 개수
+     * @param remoteTtl L2 만료 시간
+     */
+    public <V> TwoLevelCache<V> create(String name, TypeReference<V> valueType,
+                                       Duration localTtl, long localMaxSize, Duration remoteTtl) {
+        TwoLevelCache<V> cache = new TwoLevelCache<>(
+                name,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(localTtl)
+                        .maximumSize(localMaxSize)
+                        .build(),
+                remoteTtl,
+                objectMapper.getTypeFactory().constructType(valueType),
+                redisTemplate,
+                objectMapper,
+                this
+        );
+        registerLocal(name, cache::evictLocal);
+        return cache;
+    }
+
+    /**
+     * @param loader 소유자 id -> DB 기준 전체 id 집합
+     * @param localTtl L1 만료 시간 (무효화 메시지 유실 대비 상한)
+     * @param localMaxSize L1 최대 소유자 수
+     * @param remoteTtl L2 만료 시간
+     */
+    public IdSetCache createIdSet(String name, Function<Long, Collection<Long>> loader,
+                                  Duration localTtl, long localMaxSize, Duration remoteTtl) {
+        IdSetCache cache = new IdSetCache(
+                name,
+                Caffeine.newBuilder()
+                        .expireAfterWrite(localTtl)
+                        .maximumSize(localMaxSize)
+                        .build(),
+                remoteTtl,
+                loader,
+                redisTemplate,
+                this
+        );
+        registerLocal(name, cache::evictLocal);
+        return cache;
+    }
+
+    /// 무효화 메시지 수신 시 실행할 로컬 캐시 제거 함수 등록
+    public void registerLocal(String name, Consumer<String> localEvictor) {
+        if (localEvictors.putIfAbsent(name, localEvictor) != null) {
+            throw new IllegalStateException("이미 등록된 캐시 이름입니다: " + name);
+        }
+    }
+
+    public void publishInvalidation(String name, String key) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, name + SEPARATOR + key);
+        } catch (DataAccessException e) {
+            // 다른 노드의 L1 은 localTtl 이 지나면 만료됨
+            log.warn("[캐시] {} 무효화 전파 실패 key={} {}", name, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+        Consumer<String> localEvictor = localEvictors.get(body.substring(0, separator));
+        if (localEvictor != null) {
+            localEvictor.accept(body.substring(separator + 1));
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.even.zaro.global.elasticsearch.document;
 
 import com.even.zaro.entity.Post;
+import com.even.zaro.global.util.PostContentSanitizer;
 import jakarta.persistence.Id;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -47,17 +48,10 @@ public class PostEsDocument {
     private String createdAt;
 
     public static PostEsDocument from(Post post) {
-
-        String cleanContent = post.getContent()
-                .replaceAll("!\\[.*?]\\(.*?\\)", "")
-                .replaceAll("<[^>]*>", "")
-                .replaceAll("\\s+", " ")
-                .trim();
-
         return PostEsDocument.builder()
                 .id(post.getId())
                 .title(post.getTitle())
-                .content(cleanContent)
+                .content(PostContentSanitizer.toPlainText(post.getContent()))
                 .thumbnailImage(post.getThumbnailImage())
                 .category(post.getCategory().name())
                 .tag(post.getTag().name())
@@ -0,0 +1,11 @@
+package com.even.zaro.global.event.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/// 댓글 수정/삭제/신고 처리로 댓글 목록에 보이는 내용이 바뀐 경우
+@Getter
+@RequiredArgsConstructor
+public class CommentChangedEvent {
+    private final Long postId;
+}
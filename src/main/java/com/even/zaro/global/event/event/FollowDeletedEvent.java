@@ -0,0 +1,11 @@
+package com.even.zaro.global.event.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class FollowDeletedEvent {
+    private final Long followerId;
+    private final Long followeeId;
+}
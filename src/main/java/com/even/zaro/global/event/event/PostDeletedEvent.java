@@ -1,5 +1,6 @@
 package com.even.zaro.global.event.event;
 
+import com.even.zaro.entity.Post;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -7,4 +8,5 @@ import lombok.Getter;
 @AllArgsConstructor
 public class PostDeletedEvent {
     private final Long postId;
+    private final Post.Category category;
 }
@@ -1,11 +1,11 @@
 package com.even.zaro.global.event.event;
 
-import com.even.zaro.entity.PostLike;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 @Getter
 @RequiredArgsConstructor
 public class PostLikeCreatedEvent {
-    private final PostLike postLike;
+    private final Long userId;
+    private final Long postId;
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.even.zaro.global.event.event;
+
+import com.even.zaro.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostReportedEvent {
+    private final Long postId;
+    private final Post.Category category;
+}
@@ -0,0 +1,14 @@
+package com.even.zaro.global.event.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class PostScoreChangedEvent {
+
+    private final Long postId;
+    private final int likeDelta;
+    private final int commentDelta;
+
+}
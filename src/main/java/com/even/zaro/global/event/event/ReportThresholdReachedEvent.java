@@ -0,0 +1,16 @@
+package com.even.zaro.global.event.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/// 신고 수가 숨김 기준에 도달한 게시글/댓글 (커밋 이후 숨김 작업 큐에 등록)
+@Getter
+@RequiredArgsConstructor
+public class ReportThresholdReachedEvent {
+    private final Target target;
+    private final Long targetId;
+
+    public enum Target {
+        POST, COMMENT
+    }
+}
@@ -0,0 +1,12 @@
+package com.even.zaro.global.event.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/// 알림 생성(+) / 읽음 처리(-)로 읽지 않은 알림 수가 바뀐 경우
+@Getter
+@RequiredArgsConstructor
+public class UnreadNotificationCountChangedEvent {
+    private final Long userId;
+    private final int delta;
+}
@@ -0,0 +1,27 @@
+package com.even.zaro.global.event.listener;
+
+import com.even.zaro.global.event.event.CommentChangedEvent;
+import com.even.zaro.global.event.event.CommentCreatedEvent;
+import com.even.zaro.service.CommentPageCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/// 커밋된 댓글 변경을 댓글 페이지 캐시에 반영
+@Component
+@RequiredArgsConstructor
+public class CommentCacheEventListener {
+
+    private final CommentPageCache commentPageCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(CommentCreatedEvent event) {
+        commentPageCache.evict(event.getComment().getPost().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(CommentChangedEvent event) {
+        commentPageCache.evict(event.getPostId());
+    }
+}
@@ -0,0 +1,29 @@
+package com.even.zaro.global.event.listener;
+
+import com.even.zaro.global.event.event.FollowCreatedEvent;
+import com.even.zaro.global.event.event.FollowDeletedEvent;
+import com.even.zaro.service.FollowGraphService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/// 커밋된 팔로우/언팔로우를 팔로우 그래프 캐시에 반영
+@Component
+@RequiredArgsConstructor
+public class FollowGraphEventListener {
+
+    private final FollowGraphService followGraphService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(FollowCreatedEvent event) {
+        followGraphService.onFollowed(
+                event.getFollow().getFollower().getId(),
+                event.getFollow().getFollowee().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(FollowDeletedEvent event) {
+        followGraphService.onUnfollowed(event.getFollowerId(), event.getFolloweeId());
+    }
+}
@@ -0,0 +1,27 @@
+package com.even.zaro.global.event.listener;
+
+import com.even.zaro.global.event.event.PostLikeCreatedEvent;
+import com.even.zaro.global.event.event.PostLikeDeletedEvent;
+import com.even.zaro.service.LikedPostCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/// 커밋된 좋아요/좋아요 취소를 좋아요한 게시글 캐시에 반영
+@Component
+@RequiredArgsConstructor
+public class LikedPostEventListener {
+
+    private final LikedPostCache likedPostCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PostLikeCreatedEvent event) {
+        likedPostCache.onLiked(event.getUserId(), event.getPostId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PostLikeDeletedEvent event) {
+        likedPostCache.onUnliked(event.getUserId(), event.getPostId());
+    }
+}
@@ -0,0 +1,21 @@
+package com.even.zaro.global.event.listener;
+
+import com.even.zaro.global.event.event.ReportThresholdReachedEvent;
+import com.even.zaro.service.ModerationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/// 커밋된 신고 중 숨김 기준에 도달한 대상을 숨김 작업 큐에 등록
+@Component
+@RequiredArgsConstructor
+public class ModerationEventListener {
+
+    private final ModerationService moderationService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(ReportThresholdReachedEvent event) {
+        moderationService.enqueue(event.getTarget(), event.getTargetId());
+    }
+}
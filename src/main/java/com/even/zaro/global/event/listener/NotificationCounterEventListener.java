@@ -0,0 +1,21 @@
+package com.even.zaro.global.event.listener;
+
+import com.even.zaro.global.event.event.UnreadNotificationCountChangedEvent;
+import com.even.zaro.service.NotificationCounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/// 커밋된 알림 생성 / 읽음 처리를 읽지 않은 알림 수에 반영
+@Component
+@RequiredArgsConstructor
+public class NotificationCounterEventListener {
+
+    private final NotificationCounterService notificationCounterService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(UnreadNotificationCountChangedEvent event) {
+        notificationCounterService.add(event.getUserId(), event.getDelta());
+    }
+}
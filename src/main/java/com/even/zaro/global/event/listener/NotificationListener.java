@@ -9,22 +9,26 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 알림 생성은 작성자 트랜잭션이 커밋된 뒤에 처리합니다.
+ * (알림 저장 실패 / 지연이 댓글·좋아요·팔로우 요청을 롤백시키거나 늦추지 않도록)
+ */
 @Component
 @RequiredArgsConstructor
 public class NotificationListener {
     private final NotificationService notificationService;
 
-    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleComment(CommentCreatedEvent event) {
         notificationService.createCommentNotification(event.getComment());
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handlePostLike(PostLikeCreatedEvent event) {
-        notificationService.createPostLikeNotification(event.getPostLike());
+        notificationService.createPostLikeNotification(event.getUserId(), event.getPostId());
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleFollow(FollowCreatedEvent event) {
         notificationService.createFollowNotification(event.getFollow());
     }
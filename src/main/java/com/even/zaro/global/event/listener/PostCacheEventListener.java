@@ -0,0 +1,38 @@
+package com.even.zaro.global.event.listener;
+
+import com.even.zaro.global.event.event.PostDeletedEvent;
+import com.even.zaro.global.event.event.PostReportedEvent;
+import com.even.zaro.global.event.event.PostSavedEvent;
+import com.even.zaro.service.HomePostPreviewCache;
+import com.even.zaro.service.PostDetailCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/// 커밋된 게시글 변경을 게시글 상세 / 홈 화면(해당 카테고리) 캐시에 반영
+@Component
+@RequiredArgsConstructor
+public class PostCacheEventListener {
+
+    private final HomePostPreviewCache homePostPreviewCache;
+    private final PostDetailCache postDetailCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PostSavedEvent event) {
+        postDetailCache.evict(event.getPost().getId());
+        homePostPreviewCache.evict(event.getPost().getCategory());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PostDeletedEvent event) {
+        postDetailCache.evict(event.getPostId());
+        homePostPreviewCache.evict(event.getCategory());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PostReportedEvent event) {
+        postDetailCache.evict(event.getPostId());
+        homePostPreviewCache.evict(event.getCategory());
+    }
+}
@@ -0,0 +1,24 @@
+package com.even.zaro.global.event.listener;
+
+import com.even.zaro.global.event.event.PostScoreChangedEvent;
+import com.even.zaro.service.PostCounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/// 커밋된 좋아요/댓글 수 증감분을 카운터에 누적 (랭킹 반영보다 먼저 실행)
+@Component
+@RequiredArgsConstructor
+public class PostCounterEventListener {
+
+    private final PostCounterService postCounterService;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PostScoreChangedEvent event) {
+        postCounterService.increment(event.getPostId(), event.getLikeDelta(), event.getCommentDelta());
+    }
+}
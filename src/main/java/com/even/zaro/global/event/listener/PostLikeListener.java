@@ -15,6 +15,6 @@ public class PostLikeListener {
 
     @PostPersist
     public void onPostLikePersist(PostLike postLike) {
-        eventPublisher.publishEvent(new PostLikeCreatedEvent(postLike));
+        eventPublisher.publishEvent(new PostLikeCreatedEvent(postLike.getUser().getId(), postLike.getPost().getId()));
     }
 }
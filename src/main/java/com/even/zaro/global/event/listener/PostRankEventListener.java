@@ -0,0 +1,62 @@
+package com.even.zaro.global.event.listener;
+
+import com.even.zaro.global.event.event.PostDeletedEvent;
+import com.even.zaro.global.event.event.PostReportedEvent;
+import com.even.zaro.global.event.event.PostSavedEvent;
+import com.even.zaro.global.event.event.PostScoreChangedEvent;
+import com.even.zaro.service.PostRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 커밋된 게시글 변경만 Redis 랭킹에 반영
+ * Redis 반영에 실패해도 요청은 성공시키고, 어긋난 랭킹은 정합성 검사/재구축으로 복구합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostRankEventListener {
+
+    private final PostRankingService postRankingService;
+
+    // 카운터 누적(PostCounterEventListener) 이후에 실행되므로 처음 등록할 때 이번 변경까지 포함한 증감분으로 등록됨
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PostScoreChangedEvent event) {
+        try {
+            postRankingService.applyScoreChange(event.getPostId(), event.getLikeDelta(), event.getCommentDelta());
+        } catch (DataAccessException e) {
+            log.warn("[인기글 랭킹] 점수 반영 실패 postId={} {}", event.getPostId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PostSavedEvent event) {
+        try {
+            postRankingService.refreshTitle(event.getPost());
+        } catch (DataAccessException e) {
+            log.warn("[인기글 랭킹] 제목 반영 실패 postId={} {}", event.getPost().getId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PostDeletedEvent event) {
+        removeFromRanking(event.getPostId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handle(PostReportedEvent event) {
+        removeFromRanking(event.getPostId());
+    }
+
+    private void removeFromRanking(Long postId) {
+        try {
+            postRankingService.remove(postId);
+        } catch (DataAccessException e) {
+            log.warn("[인기글 랭킹] 제외 실패 postId={} {}", postId, e.getMessage());
+        }
+    }
+}
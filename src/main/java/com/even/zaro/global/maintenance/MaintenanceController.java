@@ -0,0 +1,65 @@
+package com.even.zaro.global.maintenance;
+
+import com.even.zaro.global.ApiResponse;
+import com.even.zaro.service.NotificationPipeline;
+import com.even.zaro.service.NotificationSseService;
+import com.even.zaro.service.PostRankingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/maintenance")
+@RequiredArgsConstructor
+@Tag(name = "개발용입니다.", description = "개발용 API 입니다. 프론트에서 사용하지 않습니다. 메롱 ~:)")
+public class MaintenanceController {
+
+    private final PostPreviewBackfillJob postPreviewBackfillJob;
+    private final PostRankingService postRankingService;
+    private final NotificationPipeline notificationPipeline;
+    private final NotificationSseService notificationSseService;
+
+    @Operation(summary = "게시글 미리보기 백필", description = "content_preview 가 비어있는 게시글의 미리보기를 채웁니다.", security = {@SecurityRequirement(name = "bearer-key")})
+    @PostMapping("/post-preview/backfill")
+    public ResponseEntity<ApiResponse<Integer>> backfillPostPreview() {
+        int updated = postPreviewBackfillJob.run();
+        if (updated < 0) {
+            return ResponseEntity.ok(ApiResponse.success("이미 백필이 진행 중입니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.success("게시글 미리보기 백필이 완료되었습니다.", updated));
+    }
+
+    @Operation(summary = "인기글 랭킹 재구축", description = "DB 기준으로 Redis 인기글 랭킹을 다시 만듭니다.", security = {@SecurityRequirement(name = "bearer-key")})
+    @PostMapping("/post-rank/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildPostRank() {
+        int count = postRankingService.rebuild();
+        if (count < 0) {
+            return ResponseEntity.ok(ApiResponse.success("이미 재구축이 진행 중입니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.success("인기글 랭킹 재구축이 완료되었습니다.", count));
+    }
+
+    @Operation(summary = "인기글 랭킹 정합성 검사", description = "DB 와 Redis 인기글 랭킹의 누락/불필요/점수 불일치 게시글을 조회합니다.", security = {@SecurityRequirement(name = "bearer-key")})
+    @GetMapping("/post-rank/consistency")
+    public ResponseEntity<ApiResponse<PostRankingService.ConsistencyReport>> checkPostRankConsistency() {
+        return ResponseEntity.ok(ApiResponse.success("인기글 랭킹 정합성 검사가 완료되었습니다.", postRankingService.checkConsistency()));
+    }
+
+    @Operation(summary = "알림 파이프라인 상태", description = "알림 저장/전송 대기열 길이와 누적 처리 수를 확인합니다.", security = {@SecurityRequirement(name = "bearer-key")})
+    @GetMapping("/notification-pipeline")
+    public ResponseEntity<ApiResponse<NotificationPipeline.Metrics>> notificationPipelineMetrics() {
+        return ResponseEntity.ok(ApiResponse.success("알림 파이프라인 상태 조회 성공", notificationPipeline.metrics()));
+    }
+
+    @Operation(summary = "SSE 연결 상태", description = "이 노드의 SSE 연결 수와 전송 큐 대기 시간(lag)이 큰 연결을 확인합니다.", security = {@SecurityRequirement(name = "bearer-key")})
+    @GetMapping("/sse")
+    public ResponseEntity<ApiResponse<NotificationSseService.SseMetrics>> sseMetrics() {
+        return ResponseEntity.ok(ApiResponse.success("SSE 연결 상태 조회 성공", notificationSseService.metrics()));
+    }
+}
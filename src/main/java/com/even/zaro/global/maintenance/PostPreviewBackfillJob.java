@@ -0,0 +1,82 @@
+package com.even.zaro.global.maintenance;
+
+import com.even.zaro.global.util.PostContentSanitizer;
+import com.even.zaro.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * content_preview 컬럼 도입 이전에 작성된 게시글의 미리보기를 채우는 백필 작업
+ * id 기준으로 CHUNK_SIZE 개씩 끊어서 chunk 마다 별도 트랜잭션으로 저장합니다.
+ * 대상은 content_preview 가 null 인 행뿐이라 여러 번(여러 노드에서) 실행해도 결과가 같습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostPreviewBackfillJob {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    /// 배포 직후 남아있는 행을 백그라운드로 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        Thread.ofVirtual().name("post-preview-backfill").start(this::run);
+    }
+
+    /**
+     * @return 미리보기를 채운 게시글 수 (이미 실행 중이면 -1)
+     */
+    public int run() {
+        if (!running.compareAndSet(false, true)) {
+            return -1;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            long lastId = 0L;
+            int updated = 0;
+
+            while (true) {
+                List<PostRepository.ContentView> chunk =
+                        postRepository.findContentsWithoutPreview(lastId, PageRequest.of(0, CHUNK_SIZE));
+                if (chunk.isEmpty()) {
+                    break;
+                }
+
+                Integer count = transactionTemplate.execute(status -> {
+                    int sum = 0;
+                    for (PostRepository.ContentView view : chunk) {
+                        sum += postRepository.updateContentPreview(
+                                view.getId(), PostContentSanitizer.toPreview(view.getContent()));
+                    }
+                    return sum;
+                });
+
+                updated += count != null ? count : 0;
+                lastId = chunk.get(chunk.size() - 1).getId();
+            }
+
+            if (updated > 0) {
+                log.info("[게시글 미리보기 백필] {}건 완료 ({}ms)", updated, System.currentTimeMillis() - startedAt);
+            }
+            return updated;
+        } catch (Exception e) {
+            log.error("[게시글 미리보기 백필] 실패", e);
+            throw e;
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.even.zaro.global.purge;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 행을 id 범위 단위로 나눠 삭제
+ * - 삭제 대상 id 를 오름차순으로 최대 {@link #CHUNK_SIZE} 개 찾고, 그 [첫 id, 마지막 id] 범위를 조건과 함께 bulk DELETE 합니다.
+ *   (엔티티를 모두 읽어 한 건씩 지우지 않고, 범위 밖 행은 잠그지 않음)
+ * - chunk 마다 커밋하고 {@link #PAUSE} 만큼 쉬어서, 새벽 정리 작업이 자주 쓰는 테이블을 오래 잠그지 않습니다.
+ * 이미 트랜잭션 안에서 호출되면(테스트 등) 그 트랜잭션에 참여합니다.
+ */
+@Slf4j
+@Component
+public class ChunkedPurger {
+
+    static final int CHUNK_SIZE = 1_000;
+    private static final Duration PAUSE = Duration.ofMillis(100);
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ChunkedPurger(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * @param name 로그에 남길 대상 이름
+     */
+    public PurgeResult purge(String name, PurgeTarget target) {
+        long startedAt = System.nanoTime();
+        long afterId = 0;
+        long deleted = 0;
+        int chunks = 0;
+
+        while (true) {
+            long from = afterId;
+            Chunk chunk = transactionTemplate.execute(status -> {
+                List<Long> ids = target.findIdsAfter(from, PageRequest.of(0, CHUNK_SIZE));
+                if (ids.isEmpty()) {
+                    return new Chunk(0, from, 0);
+                }
+                long last = ids.get(ids.size() - 1);
+                return new Chunk(ids.size(), last, target.deleteRange(ids.get(0), last));
+            });
+            if (chunk == null || chunk.found() == 0) {
+                break;
+            }
+            chunks++;
+            deleted += chunk.deleted();
+            // 범위 안에서 조건이 바뀌어 남은 행은 다시 보지 않음
+            afterId = chunk.lastId();
+
+            if (chunk.found() < CHUNK_SIZE || !pause()) {
+                break;
+            }
+        }
+
+        PurgeResult result = new PurgeResult(deleted, chunks, Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("[Purge] {} {}건 삭제 ({}개 chunk, {}ms, {}건/초)",
+                name, result.deleted(), result.chunks(), result.elapsed().toMillis(), result.rowsPerSecond());
+        return result;
+    }
+
+    /// @return 인터럽트되면 false (남은 행은 다음 실행에서 삭제)
+    private boolean pause() {
+        try {
+            Thread.sleep(PAUSE);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private record Chunk(int found, long lastId, int deleted) {
+    }
+
+    /**
+     * 삭제 대상 (조건은 두 쿼리에서 같아야 함)
+     */
+    public interface PurgeTarget {
+
+        /// afterId 보다 큰 삭제 대상 id (오름차순, 최대 limit 개)
+        List<Long> findIdsAfter(long afterId, Pageable limit);
+
+        /// [fromId, toId] 범위에서 조건을 다시 확인하며 bulk DELETE
+        int deleteRange(long fromId, long toId);
+    }
+
+    public record PurgeResult(long deleted, int chunks, Duration elapsed) {
+
+        public long rowsPerSecond() {
+            long millis = Math.max(elapsed.toMillis(), 1);
+            return deleted * 1000 / millis;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.even.zaro.global.scheduler;
+
+import com.even.zaro.service.ModerationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ModerationScheduler {
+
+    private final ModerationService moderationService;
+
+    // 5초마다 신고 기준에 도달한 게시글/댓글을 모아서 숨김 처리
+    @Scheduled(fixedDelay = 5 * 1000, initialDelay = 5 * 1000)
+    public void processHideJobs() {
+        try {
+            moderationService.processHideJobs();
+        } catch (DataAccessException e) {
+            log.warn("[Scheduler] 신고 숨김 처리 실패 : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.even.zaro.global.scheduler;
+
+import com.even.zaro.service.PostCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostCounterScheduler {
+
+    private final PostCounterService postCounterService;
+
+    // 10초마다 Redis 에 누적된 좋아요/댓글 수 증감분을 DB 에 반영
+    @Scheduled(fixedDelay = 10 * 1000, initialDelay = 10 * 1000)
+    public void flushPostCounters() {
+        try {
+            postCounterService.flush();
+        } catch (DataAccessException e) {
+            log.warn("[Scheduler] 게시글 카운터 반영 실패 : {}", e.getMessage());
+        }
+    }
+}
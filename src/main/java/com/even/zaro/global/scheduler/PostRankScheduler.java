@@ -0,0 +1,38 @@
+package com.even.zaro.global.scheduler;
+
+import com.even.zaro.service.PostRankSnapshotStore;
+import com.even.zaro.service.PostRankWindowService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostRankScheduler {
+
+    private final PostRankWindowService postRankWindowService;
+    private final PostRankSnapshotStore postRankSnapshotStore;
+
+    // 5분마다 최근 활동 게시글의 HOT / DAILY / WEEKLY 랭킹 재계산
+    @Scheduled(fixedDelay = 5 * 60 * 1000, initialDelay = 60 * 1000)
+    public void refreshWindowRankings() {
+        try {
+            postRankWindowService.refresh();
+        } catch (DataAccessException e) {
+            log.warn("[Scheduler] 기간별 인기글 랭킹 재계산 실패 : {}", e.getMessage());
+        }
+    }
+
+    // 10분마다 순위 스냅샷 교체 (직전 순위 갱신, 날짜가 바뀌면 기준 순위도 갱신)
+    @Scheduled(cron = "0 */10 * * * *")
+    public void rotateRankSnapshot() {
+        try {
+            postRankSnapshotStore.rotate();
+        } catch (DataAccessException e) {
+            log.warn("[Scheduler] 인기글 순위 스냅샷 교체 실패 : {}", e.getMessage());
+        }
+    }
+}
@@ -1,32 +1,54 @@
 package com.even.zaro.global.scheduler;
 
+import com.even.zaro.global.purge.ChunkedPurger;
 import com.even.zaro.repository.EmailTokenRepository;
 import com.even.zaro.repository.PasswordResetRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+// chunk 마다 커밋하도록 @Transactional 없이 실행
 @Component
 @RequiredArgsConstructor
 public class TokenCleanupScheduler {
 
     private final EmailTokenRepository emailTokenRepository;
     private final PasswordResetRepository passwordResetRepository;
+    private final ChunkedPurger chunkedPurger;
 
     @Scheduled(cron = "0 30 2 * * *")
-    @Transactional
     public void deleteExpiredEmailTokens() {
         LocalDateTime oneDayAgo = LocalDateTime.now().minusDays(1);
-        emailTokenRepository.deleteByExpiredAtBefore(oneDayAgo);
+        chunkedPurger.purge("email_token", new ChunkedPurger.PurgeTarget() {
+            @Override
+            public List<Long> findIdsAfter(long afterId, Pageable limit) {
+                return emailTokenRepository.findIdsExpiredBefore(oneDayAgo, afterId, limit);
+            }
+
+            @Override
+            public int deleteRange(long fromId, long toId) {
+                return emailTokenRepository.deleteExpiredBeforeInRange(oneDayAgo, fromId, toId);
+            }
+        });
     }
 
     @Scheduled(cron = "0 45 2 * * *")
-    @Transactional
     public void deleteExpiredPasswordTokens() {
         LocalDateTime oneDayAgo = LocalDateTime.now().minusDays(1);
-        passwordResetRepository.deleteByExpiredAtBefore(oneDayAgo);
+        chunkedPurger.purge("password_reset_token", new ChunkedPurger.PurgeTarget() {
+            @Override
+            public List<Long> findIdsAfter(long afterId, Pageable limit) {
+                return passwordResetRepository.findIdsExpiredBefore(oneDayAgo, afterId, limit);
+            }
+
+            @Override
+            public int deleteRange(long fromId, long toId) {
+                return passwordResetRepository.deleteExpiredBeforeInRange(oneDayAgo, fromId, toId);
+            }
+        });
     }
 }
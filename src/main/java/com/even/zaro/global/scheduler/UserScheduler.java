@@ -3,11 +3,13 @@ package com.even.zaro.global.scheduler;
 import com.even.zaro.entity.DormancyNoticeLog;
 import com.even.zaro.entity.Status;
 import com.even.zaro.entity.User;
+import com.even.zaro.global.purge.ChunkedPurger;
 import com.even.zaro.repository.DormancyNoticeLogRepository;
 import com.even.zaro.repository.UserRepository;
 import com.even.zaro.service.EmailService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +25,7 @@ public class UserScheduler {
     private final UserRepository userRepository;
     private final DormancyNoticeLogRepository dormancyNoticeLogRepository;
     private final EmailService emailService;
+    private final ChunkedPurger chunkedPurger;
 
     // PENDING 회원 삭제
     @Scheduled(cron = "0 15 18 * * *") // 매일 3시 15분(kst)
@@ -48,14 +51,22 @@ public class UserScheduler {
         log.info("[Scheduler] Dormant 1년 경과 -> 탈퇴 처리 ! (Dormant starting date = {})", now.minusYears(1));
     }
 
-    // 탈퇴 3년 경과 -> 회원 정보 영구 삭제
+    // 탈퇴 3년 경과 -> 회원 정보 영구 삭제 (chunk 마다 커밋하도록 @Transactional 없이 실행)
     @Scheduled(cron = "0 45 18 * * *") // 매일 3시 45분(kst)
-    @Transactional
     public void deleteWithdrawnUsers() {
         LocalDateTime threshold = LocalDateTime.now().minusYears(3);
-        List<User> users = userRepository.findByStatusAndDeletedAtBefore(Status.DELETED, threshold);
-        userRepository.deleteAll(users);
-        log.info("[Scheduler] 탈퇴 회원 영구 삭제 ! (withdrawal date = {})", threshold);
+        ChunkedPurger.PurgeResult result = chunkedPurger.purge("users", new ChunkedPurger.PurgeTarget() {
+            @Override
+            public List<Long> findIdsAfter(long afterId, Pageable limit) {
+                return userRepository.findIdsByStatusAndDeletedAtBefore(Status.DELETED, threshold, afterId, limit);
+            }
+
+            @Override
+            public int deleteRange(long fromId, long toId) {
+                return userRepository.deleteByStatusAndDeletedAtBeforeInRange(Status.DELETED, threshold, fromId, toId);
+            }
+        });
+        log.info("[Scheduler] 탈퇴 회원 영구 삭제 ! (withdrawal date = {}, 삭제 수: {})", threshold, result.deleted());
     }
 
     // 탈퇴 30일 경과 -> 회원 정보 임의 값 변경
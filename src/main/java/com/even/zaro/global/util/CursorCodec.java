@@ -0,0 +1,49 @@
+package com.even.zaro.global.util;
+
+import com.even.zaro.global.ErrorCode;
+import com.even.zaro.global.exception.CustomException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) 기준 seek 페이징에 사용하는 커서 인코더/디코더
+ * 클라이언트에는 내부 구조를 노출하지 않도록 base64url 문자열로 전달합니다.
+ */
+public final class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /// 커서가 없으면 첫 페이지 조회로 간주하여 null 반환
+    public static Position decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx < 0) {
+                throw new CustomException(ErrorCode.INVALID_CURSOR);
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, idx));
+            Long id = Long.valueOf(raw.substring(idx + 1));
+            return new Position(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public record Position(LocalDateTime createdAt, Long id) {
+    }
+}
@@ -14,6 +14,14 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
@@ -41,7 +49,8 @@ public class NotificationMapper {
                 .createdAt(notification.getCreatedAt().atOffset(ZoneOffset.UTC))
                 .actorId(actor.getId())
                 .actorName(actor.getNickname())
-                .actorProfileImage(actor.getProfileImage());
+                .actorProfileImage(actor.getProfileImage())
+                .othersCount(notification.getActorCount() - 1);
 
         if (type == Notification.Type.LIKE) {
             Post post = postRepository.findById(notification.getTargetId())
@@ -63,4 +72,119 @@ public class NotificationMapper {
 
         return builder.build();
     }
+
+    /**
+     * 알림 목록 일괄 변환
+     * 행위자 / 게시글 / 댓글 id 를 모아 종류별로 IN 쿼리 한 번씩(필요한 컬럼만) 조회한 뒤 메모리에서 조립합니다.
+     * 대상을 찾지 못한 경우의 예외는 {@link #toDto} 와 같습니다.
+     */
+    public List<NotificationDto> toDtos(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        notifications.forEach(notification -> {
+            if (notification.getActorUserId() == null) {
+                throw new NotificationException(ErrorCode.ACTOR_USER_NOT_FOUND);
+            }
+        });
+        return convert(notifications, false);
+    }
+
+    /**
+     * 실시간 전송용 일괄 변환 - 행위자 / 대상(게시글, 댓글)이 그 사이 삭제된 알림만 빼고 변환
+     *
+     * @return 변환된 알림만 포함 (순서 유지)
+     */
+    public List<NotificationDto> toDtosSkippingMissing(List<Notification> notifications) {
+        List<Notification> withActor = notifications.stream()
+                .filter(notification -> notification.getActorUserId() != null)
+                .toList();
+        if (withActor.isEmpty()) {
+            return List.of();
+        }
+        return convert(withActor, true);
+    }
+
+    private List<NotificationDto> convert(List<Notification> notifications, boolean skipMissing) {
+        Map<Long, UserRepository.ActorView> actors = loadViews(
+                collectIds(notifications, Notification::getActorUserId, null),
+                userRepository::findActorViewsByIdIn, UserRepository.ActorView::getId);
+        Map<Long, PostRepository.NotificationPostView> posts = loadViews(
+                collectIds(notifications, Notification::getTargetId, Notification.Type.LIKE),
+                postRepository::findNotificationViewsByIdIn, PostRepository.NotificationPostView::getId);
+        Map<Long, CommentRepository.NotificationCommentView> comments = loadViews(
+                collectIds(notifications, Notification::getTargetId, Notification.Type.COMMENT),
+                commentRepository::findNotificationViewsByIdIn, CommentRepository.NotificationCommentView::getId);
+
+        List<NotificationDto> dtos = new ArrayList<>(notifications.size());
+        for (Notification notification : notifications) {
+            UserRepository.ActorView actor = find(actors, notification.getActorUserId(), skipMissing,
+                    () -> new UserException(ErrorCode.USER_NOT_FOUND));
+            if (actor == null) {
+                continue;
+            }
+
+            NotificationDto.NotificationDtoBuilder builder = NotificationDto.builder()
+                    .id(notification.getId())
+                    .type(notification.getType())
+                    .targetId(notification.getTargetId())
+                    .isRead(notification.isRead())
+                    .createdAt(notification.getCreatedAt().atOffset(ZoneOffset.UTC))
+                    .actorId(actor.getId())
+                    .actorName(actor.getNickname())
+                    .actorProfileImage(actor.getProfileImage())
+                    .othersCount(notification.getActorCount() - 1);
+
+            if (notification.getType() == Notification.Type.LIKE) {
+                PostRepository.NotificationPostView post = find(posts, notification.getTargetId(), skipMissing,
+                        () -> new PostException(ErrorCode.POST_NOT_FOUND));
+                if (post == null) {
+                    continue;
+                }
+                builder.postId(post.getId())
+                        .category(post.getCategory().name())
+                        .thumbnailImage(post.getThumbnailImage());
+            }
+
+            if (notification.getType() == Notification.Type.COMMENT) {
+                CommentRepository.NotificationCommentView comment = find(comments, notification.getTargetId(), skipMissing,
+                        () -> new CommentException(ErrorCode.COMMENT_NOT_FOUND));
+                if (comment == null) {
+                    continue;
+                }
+                builder.comment(comment.getContent())
+                        .postId(comment.getPostId())
+                        .category(comment.getCategory().name())
+                        .thumbnailImage(comment.getThumbnailImage());
+            }
+
+            dtos.add(builder.build());
+        }
+        return dtos;
+    }
+
+    /// @param type null 이면 모든 알림
+    private Set<Long> collectIds(List<Notification> notifications, Function<Notification, Long> idGetter, Notification.Type type) {
+        return notifications.stream()
+                .filter(notification -> type == null || notification.getType() == type)
+                .map(idGetter)
+                .collect(Collectors.toSet());
+    }
+
+    private <V> Map<Long, V> loadViews(Set<Long> ids, Function<Collection<Long>, List<V>> loader, Function<V, Long> idGetter) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return loader.apply(ids).stream()
+                .collect(Collectors.toMap(idGetter, Function.identity()));
+    }
+
+    /// @return 찾지 못하면 skipMissing 일 때 null, 아니면 예외
+    private <V> V find(Map<Long, V> views, Long id, boolean skipMissing, Supplier<? extends RuntimeException> exception) {
+        V view = views.get(id);
+        if (view == null && !skipMissing) {
+            throw exception.get();
+        }
+        return view;
+    }
 }
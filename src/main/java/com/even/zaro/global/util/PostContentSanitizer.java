@@ -0,0 +1,137 @@
+package com.even.zaro.global.util;
+
+/**
+ * 게시글 본문(HTML/마크다운)을 평문으로 변환하는 유틸
+ * 정규식 체인 대신 한 번의 순회로 태그, 마크다운 이미지, 마크다운 기호를 제거하고 공백을 정리합니다.
+ */
+public final class PostContentSanitizer {
+
+    /// 목록 미리보기로 저장하는 최대 길이 (code point 기준)
+    public static final int PREVIEW_LENGTH = 200;
+
+    private static final String LT_ENTITY = "&lt;";
+    private static final String GT_ENTITY = "&gt;";
+
+    private PostContentSanitizer() {
+    }
+
+    /// 목록 미리보기용 평문 (PREVIEW_LENGTH 까지만 잘라서 반환)
+    public static String toPreview(String content) {
+        return sanitize(content, PREVIEW_LENGTH);
+    }
+
+    /// 검색 색인용 평문 (전체 본문)
+    public static String toPlainText(String content) {
+        return sanitize(content, Integer.MAX_VALUE);
+    }
+
+    private static String sanitize(String content, int maxLength) {
+        if (content == null || content.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder(Math.min(content.length(), maxLength));
+        int length = 0;
+        boolean pendingSpace = false;
+        boolean closingBracketExists = true;
+        int i = 0;
+        int n = content.length();
+
+        while (i < n && length < maxLength) {
+            char c = content.charAt(i);
+            int step = 1;
+
+            // &lt; &gt; 는 태그 문자로 취급
+            if (c == '&') {
+                if (content.startsWith(LT_ENTITY, i)) {
+                    c = '<';
+                    step = LT_ENTITY.length();
+                } else if (content.startsWith(GT_ENTITY, i)) {
+                    c = '>';
+                    step = GT_ENTITY.length();
+                }
+            }
+
+            // <태그> 제거 (닫는 괄호가 없으면 문자 그대로 유지)
+            if (c == '<' && closingBracketExists) {
+                int end = findTagEnd(content, i + step);
+                if (end >= 0) {
+                    i = end;
+                    continue;
+                }
+                closingBracketExists = false;
+            }
+
+            // ![alt](url) 마크다운 이미지 제거
+            if (c == '!' && i + 1 < n && content.charAt(i + 1) == '[') {
+                int end = findMarkdownImageEnd(content, i + 2);
+                if (end >= 0) {
+                    i = end;
+                    continue;
+                }
+            }
+
+            i += step;
+
+            if (c == '\\' || c == '*' || c == '_' || c == '`' || c == '~' || c == '>') {
+                continue;
+            }
+
+            if (Character.isWhitespace(c)) {
+                pendingSpace = length > 0;
+                continue;
+            }
+
+            if (pendingSpace) {
+                sb.append(' ');
+                length++;
+                pendingSpace = false;
+                if (length >= maxLength) {
+                    break;
+                }
+            }
+
+            sb.append(c);
+            // 서로게이트 쌍(이모지 등)은 한 글자로 세고 중간에서 자르지 않음
+            if (Character.isHighSurrogate(c) && i < n && Character.isLowSurrogate(content.charAt(i))) {
+                sb.append(content.charAt(i));
+                i++;
+            }
+            length++;
+        }
+
+        return sb.toString();
+    }
+
+    /// 태그 종료('>' 또는 &gt;) 다음 위치, 없으면 -1
+    private static int findTagEnd(String content, int from) {
+        for (int j = from; j < content.length(); j++) {
+            char c = content.charAt(j);
+            if (c == '>') {
+                return j + 1;
+            }
+            if (c == '&' && content.startsWith(GT_ENTITY, j)) {
+                return j + GT_ENTITY.length();
+            }
+        }
+        return -1;
+    }
+
+    /// "](url)" 까지 같은 줄에서 찾아 다음 위치 반환, 없으면 -1
+    private static int findMarkdownImageEnd(String content, int from) {
+        int j = from;
+        int n = content.length();
+        while (j < n && content.charAt(j) != '\n') {
+            if (content.charAt(j) == ']' && j + 1 < n && content.charAt(j + 1) == '(') {
+                for (int k = j + 2; k < n && content.charAt(k) != '\n'; k++) {
+                    if (content.charAt(k) == ')') {
+                        return k + 1;
+                    }
+                }
+                return -1;
+            }
+            j++;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,26 @@
+package com.even.zaro.global.util;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 작성 후 경과 시간으로 감쇠하는 인기 점수 (gravity 방식)
+ * hot = 점수 / (경과시간(h) + 2) ^ GRAVITY
+ * 오래된 인기글은 시간이 지날수록 점수가 떨어져 새 게시글이 상위에 오를 수 있습니다.
+ */
+public final class PostHotScore {
+
+    private static final double GRAVITY = 1.8;
+    private static final double AGE_OFFSET_HOURS = 2.0;
+
+    private PostHotScore() {
+    }
+
+    public static double calculate(double score, LocalDateTime createdAt, LocalDateTime now) {
+        if (score <= 0 || createdAt == null) {
+            return 0;
+        }
+        double ageHours = Math.max(0, Duration.between(createdAt, now).toSeconds() / 3600.0);
+        return score / Math.pow(ageHours + AGE_OFFSET_HOURS, GRAVITY);
+    }
+}
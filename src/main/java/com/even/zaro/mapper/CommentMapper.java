@@ -1,8 +1,10 @@
 package com.even.zaro.mapper;
 
 import com.even.zaro.dto.comment.CommentResponseDto;
+import com.even.zaro.dto.comment.CommentSnapshot;
 import com.even.zaro.dto.comment.MentionedUserDto;
 import com.even.zaro.entity.Comment;
+import com.even.zaro.entity.Status;
 import com.even.zaro.entity.User;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -50,18 +52,44 @@ public interface CommentMapper {
     @Mapping(target = "commentLocatedPage", source = "commentLocatedPage")
     CommentResponseDto toCreateDto(Comment comment, Long currentUserId, Integer commentLocatedPage);
 
-    @Mapping(target = "content", expression = "java(comment.isReported() ? \"신고로 삭제된 댓글입니다.\" : comment.getContent())")
-    @Mapping(source = "comment.user.id", target = "userId")
-    @Mapping(target = "nickname", expression = "java(comment.getUser().getStatus() == com.even.zaro.entity.Status.DELETED ? \"알 수 없는 사용자\" : comment.getUser().getNickname())")
-    @Mapping(target = "profileImage", expression = "java(comment.getUser().getStatus() == com.even.zaro.entity.Status.DELETED ? null : comment.getUser().getProfileImage())")
-    @Mapping(source = "comment.user.liveAloneDate", target = "liveAloneDate")
-    @Mapping(target = "createdAt", source = "comment.createdAt")
-    @Mapping(target = "updatedAt", source = "comment.updatedAt")
-    @Mapping(target = "isEdited", expression = "java(com.even.zaro.mapper.CommentMapper.isEdited(comment.getCreatedAt(), comment.getUpdatedAt()))")
-    @Mapping(target = "isMine", expression = "java(com.even.zaro.mapper.CommentMapper.isMine(comment.getUser(), currentUserId))")
-    @Mapping(target = "mentionedUser", expression = "java(com.even.zaro.mapper.CommentMapper.toMentionedUserDto(comment.getMentionedUser()))")
-    @Mapping(target = "commentLocatedPage", ignore = true)
-    CommentResponseDto toListDto(Comment comment, Long currentUserId);
+    /// 댓글 페이지 캐시 적재용 (신고된 댓글 / 탈퇴한 작성자는 가려서 저장)
+    default CommentSnapshot toSnapshot(Comment comment) {
+        User writer = comment.getUser();
+        boolean writerDeleted = writer.getStatus() == Status.DELETED;
+        User mentionedUser = comment.getMentionedUser();
+        return new CommentSnapshot(
+                comment.getId(),
+                comment.isReported() ? "신고로 삭제된 댓글입니다." : comment.getContent(),
+                writer.getId(),
+                writerDeleted ? "알 수 없는 사용자" : writer.getNickname(),
+                writerDeleted ? null : writer.getProfileImage(),
+                writer.getLiveAloneDate(),
+                comment.getCreatedAt(),
+                comment.getUpdatedAt(),
+                mentionedUser != null ? mentionedUser.getId() : null,
+                mentionedUser != null ? mentionedUser.getNickname() : null
+        );
+    }
+
+    /// 캐시된 댓글 + 요청마다 계산한 작성자 여부
+    default CommentResponseDto toListDto(CommentSnapshot snapshot, Long currentUserId) {
+        return new CommentResponseDto(
+                snapshot.id(),
+                snapshot.content(),
+                snapshot.userId(),
+                snapshot.nickname(),
+                snapshot.profileImage(),
+                snapshot.liveAloneDate(),
+                map(snapshot.createdAt()),
+                map(snapshot.updatedAt()),
+                isEdited(snapshot.createdAt(), snapshot.updatedAt()),
+                snapshot.userId().equals(currentUserId),
+                snapshot.mentionedUserId() != null
+                        ? new MentionedUserDto(snapshot.mentionedUserId(), snapshot.mentionedUserNickname())
+                        : null,
+                null
+        );
+    }
 
     @Mapping(source = "comment.user.id", target = "userId")
     @Mapping(source = "comment.user.nickname", target = "nickname")
@@ -1,17 +1,21 @@
 package com.even.zaro.mapper;
 
 import com.even.zaro.dto.post.HomePostPreviewResponse;
+import com.even.zaro.dto.post.HomePostRow;
 import com.even.zaro.dto.post.PostDetailResponse;
+import com.even.zaro.dto.post.PostDetailSnapshot;
 import com.even.zaro.dto.post.PostPreviewDto;
+import com.even.zaro.dto.post.PostPreviewRow;
 import com.even.zaro.entity.Post;
+import com.even.zaro.entity.Status;
+import com.even.zaro.entity.User;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.Mappings;
-import org.mapstruct.Named;
 
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface PostMapper {
@@ -28,40 +32,100 @@ public interface PostMapper {
     @Mapping(source = "user.liveAloneDate", target = "user.liveAloneDate")
     PostDetailResponse toPostDetailDto(Post post);
 
+    /// 게시글 상세 캐시 적재용 (탈퇴한 작성자는 가려서 저장)
+    default PostDetailSnapshot toPostDetailSnapshot(Post post) {
+        User writer = post.getUser();
+        boolean writerDeleted = writer.getStatus() == Status.DELETED;
+        return new PostDetailSnapshot(
+                post.getId(),
+                post.getTitle(),
+                post.getContent(),
+                post.getThumbnailImage(),
+                post.getCategory().name(),
+                post.getTag() != null ? post.getTag().name() : null,
+                List.copyOf(post.getPostImageList()),
+                post.getCreatedAt(),
+                writer.getId(),
+                writerDeleted ? "알 수 없는 사용자" : writer.getNickname(),
+                writerDeleted ? null : writer.getProfileImage(),
+                writerDeleted ? null : writer.getLiveAloneDate()
+        );
+    }
+
+    /// 캐시된 상세 + 요청마다 조회한 좋아요/댓글 수, 팔로우 여부
+    default PostDetailResponse toPostDetailDto(PostDetailSnapshot snapshot, int likeCount, int commentCount, boolean following) {
+        return PostDetailResponse.builder()
+                .postId(snapshot.postId())
+                .title(snapshot.title())
+                .content(snapshot.content())
+                .thumbnailImage(snapshot.thumbnailImage())
+                .category(snapshot.category())
+                .tag(snapshot.tag())
+                .likeCount(likeCount)
+                .commentCount(commentCount)
+                .postImageList(snapshot.postImageList())
+                .createdAt(map(snapshot.createdAt()))
+                .user(PostDetailResponse.UserInfo.builder()
+                        .userId(snapshot.writerId())
+                        .nickname(snapshot.writerNickname())
+                        .profileImage(snapshot.writerProfileImage())
+                        .liveAloneDate(snapshot.writerLiveAloneDate())
+                        .following(following)
+                        .build())
+                .build();
+    }
+
     @Mapping(source = "id", target = "postId")
     @Mapping(target = "writerNickname", expression = "java(post.getUser().getStatus() == com.even.zaro.entity.Status.DELETED ? \"알 수 없는 사용자\" : post.getUser().getNickname())")
     @Mapping(target = "writerProfileImage", expression = "java(post.getUser().getStatus() == com.even.zaro.entity.Status.DELETED ? null : post.getUser().getProfileImage())")
-    @Mapping(target = "content", source = "content", qualifiedByName = "stripHtmlTags")
+    @Mapping(target = "content", source = "contentPreview", defaultValue = "")
+    @Mapping(target = "liked", ignore = true)
     PostPreviewDto toPostPreviewDto(Post post);
 
-    @Mapping(source = "id", target = "postId")
-    @Mapping(source = "createdAt", target = "createdAt", dateFormat = "yyyy-MM-dd")
-    HomePostPreviewResponse.SimplePostDto toSimplePostDto(Post post);
-
-    @Mappings({
-            @Mapping(source = "id", target = "postId"),
-            @Mapping(source = "title", target = "title"),
-            @Mapping(source = "content", target = "content"),
-            @Mapping(source = "thumbnailImage", target = "thumbnailImage"),
-            @Mapping(source = "likeCount", target = "likeCount"),
-            @Mapping(source = "commentCount", target = "commentCount"),
-            @Mapping(source = "user.profileImage", target = "writerProfileImage"),
-            @Mapping(source = "user.nickname", target = "writerNickname"),
-            @Mapping(source = "createdAt", target = "createdAt", dateFormat = "yyyy-MM-dd")
-    })
-    HomePostPreviewResponse.RandomBuyPostDto toRandomBuyDto(Post post);
+    /**
+     * 목록 projection 결과 매핑 (엔티티 로딩 없이 조회한 row 사용)
+     *
+     * @param liked 로그인 유저의 좋아요 여부 (비로그인이면 null)
+     */
+    default PostPreviewDto toPostPreviewDto(PostPreviewRow row, Boolean liked) {
+        boolean writerDeleted = row.writerStatus() == Status.DELETED;
+        return PostPreviewDto.builder()
+                .postId(row.postId())
+                .title(row.title())
+                .content(row.contentPreview() != null ? row.contentPreview() : "")
+                .thumbnailImage(row.thumbnailImage())
+                .category(row.category().name())
+                .tag(row.tag() != null ? row.tag().name() : null)
+                .likeCount(row.likeCount())
+                .commentCount(row.commentCount())
+                .liked(liked)
+                .writerNickname(writerDeleted ? "알 수 없는 사용자" : row.writerNickname())
+                .writerProfileImage(writerDeleted ? null : row.writerProfileImage())
+                .createdAt(map(row.createdAt()))
+                .build();
+    }
 
+    /// 홈 화면 row 매핑 (작성일은 yyyy-MM-dd)
+    default HomePostPreviewResponse.SimplePostDto toSimplePostDto(HomePostRow row) {
+        return HomePostPreviewResponse.SimplePostDto.builder()
+                .postId(row.postId())
+                .title(row.title())
+                .createdAt(row.createdAt() != null ? row.createdAt().toLocalDate().toString() : null)
+                .build();
+    }
 
-    @Named("stripHtmlTags")
-    default String stripHtmlTags(String html) {
-        if (html == null) return "";
-        html = html.replace("&lt;", "<").replace("&gt;", ">");
-        return html
-                .replaceAll("(?i)<br\\s*/?>", "")
-                .replaceAll("<[^>]*>", "")
-                .replaceAll("\\\\","")
-                .replaceAll("[*_`~>]", "")
-                .replaceAll("\\s+", " ")
-                .trim();
+    default HomePostPreviewResponse.RandomBuyPostDto toRandomBuyDto(HomePostRow row) {
+        boolean writerDeleted = row.writerStatus() == Status.DELETED;
+        return HomePostPreviewResponse.RandomBuyPostDto.builder()
+                .postId(row.postId())
+                .title(row.title())
+                .content(row.content())
+                .thumbnailImage(row.thumbnailImage())
+                .likeCount(row.likeCount())
+                .commentCount(row.commentCount())
+                .writerProfileImage(writerDeleted ? null : row.writerProfileImage())
+                .writerNickname(writerDeleted ? "알 수 없는 사용자" : row.writerNickname())
+                .createdAt(row.createdAt() != null ? row.createdAt().toLocalDate().toString() : null)
+                .build();
     }
 }
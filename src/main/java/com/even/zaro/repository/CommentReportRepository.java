@@ -7,5 +7,4 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface CommentReportRepository extends JpaRepository<CommentReport, Long> {
     boolean existsByCommentAndUser(Comment comment, User user);
-    int countByComment(Comment comment);
 }
@@ -5,10 +5,17 @@ import com.even.zaro.entity.Post;
 import com.even.zaro.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,12 +23,73 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     Page<Comment> findByUserAndIsDeletedFalse(User user, Pageable pageable);
 
-    @EntityGraph(attributePaths = {"user"})
-    Page<Comment> findByPostIdAndIsDeletedFalse(Long postId, Pageable pageable);
+    /// 전체 댓글 수는 Post.commentCount 를 사용하므로 COUNT 쿼리 없이 Slice 로 조회
+    @EntityGraph(attributePaths = {"user", "mentionedUser"})
+    Slice<Comment> findByPostIdAndIsDeletedFalse(Long postId, Pageable pageable);
+
+    /// (createdAt, id) 기준 seek 조회의 첫 페이지
+    @EntityGraph(attributePaths = {"user", "mentionedUser"})
+    List<Comment> findByPostIdAndIsDeletedFalseOrderByCreatedAtAscIdAsc(Long postId, Pageable limit);
+
+    /// (createdAt, id) 기준 seek 조회 - 커서 이후의 댓글만 limit 만큼 조회 (OFFSET / COUNT X)
+    @EntityGraph(attributePaths = {"user", "mentionedUser"})
+    @Query("""
+            SELECT c FROM Comment c
+             WHERE c.post.id = :postId
+               AND c.isDeleted = false
+               AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))
+             ORDER BY c.createdAt ASC, c.id ASC
+            """)
+    List<Comment> findByPostIdAfterCursor(@Param("postId") Long postId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Long id,
+                                          Pageable limit);
 
     Optional<Comment> findByIdAndIsDeletedFalse(Long commentId);
 
     Optional<Comment> findByIdAndIsDeletedFalseAndIsReportedFalse(Long commentId);
 
-    int countByPostAndIsDeletedFalse(Post post);
-}
\ No newline at end of file
+    /// 신고 수 원자적 증가 (행 잠금은 신고 트랜잭션 동안만 유지)
+    @Modifying
+    @Query("UPDATE Comment c SET c.reportCount = c.reportCount + 1 WHERE c.id = :id")
+    int incrementReportCount(@Param("id") Long id);
+
+    @Query("SELECT c.reportCount FROM Comment c WHERE c.id = :id")
+    int findReportCountById(@Param("id") Long id);
+
+    /// 숨김 처리 대상 (신고 수가 기준 이상이면서 아직 노출 중인 댓글)
+    @Query("SELECT c.id AS id, c.post.id AS postId FROM Comment c WHERE c.id IN :ids AND c.isDeleted = false AND c.isReported = false AND c.reportCount >= :threshold")
+    List<ModerationView> findHideCandidates(@Param("ids") Collection<Long> ids, @Param("threshold") int threshold);
+
+    /// updated_at 이 갱신되지 않도록(수정됨 표시 X) 벌크 update 로 숨김 처리
+    @Modifying
+    @Query("UPDATE Comment c SET c.isReported = true WHERE c.id IN :ids")
+    int markAsReportedByIds(@Param("ids") Collection<Long> ids);
+
+    /// 알림 목록의 댓글 + 게시글 정보 (필요한 컬럼만, IN 쿼리 한 번)
+    @Query("""
+            SELECT c.id AS id, c.content AS content,
+                   p.id AS postId, p.category AS category, p.thumbnailImage AS thumbnailImage
+              FROM Comment c JOIN c.post p
+             WHERE c.id IN :ids
+            """)
+    List<NotificationCommentView> findNotificationViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface ModerationView {
+        Long getId();
+
+        Long getPostId();
+    }
+
+    interface NotificationCommentView {
+        Long getId();
+
+        String getContent();
+
+        Long getPostId();
+
+        Post.Category getCategory();
+
+        String getThumbnailImage();
+    }
+}
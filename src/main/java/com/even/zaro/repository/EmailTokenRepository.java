@@ -2,10 +2,15 @@ package com.even.zaro.repository;
 
 import com.even.zaro.entity.EmailToken;
 import com.even.zaro.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,5 +19,12 @@ public interface EmailTokenRepository extends JpaRepository<EmailToken, Long> {
 
     void deleteByUser(User user);
 
-    void deleteByExpiredAtBefore(LocalDateTime day);
+    /// 만료 토큰 정리 - afterId 이후 삭제 대상 id (id 오름차순)
+    @Query("SELECT t.id FROM EmailToken t WHERE t.id > :afterId AND t.expiredAt < :day ORDER BY t.id")
+    List<Long> findIdsExpiredBefore(@Param("day") LocalDateTime day, @Param("afterId") long afterId, Pageable limit);
+
+    /// 만료 토큰 정리 - id 범위 bulk delete
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM EmailToken t WHERE t.id BETWEEN :fromId AND :toId AND t.expiredAt < :day")
+    int deleteExpiredBeforeInRange(@Param("day") LocalDateTime day, @Param("fromId") long fromId, @Param("toId") long toId);
 }
\ No newline at end of file
@@ -2,6 +2,9 @@ package com.even.zaro.repository;
 
 import com.even.zaro.entity.Follow;
 import com.even.zaro.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -16,6 +19,12 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
     Optional<Follow> findByFollowerAndFollowee(User follower, User followee);
 
+    // 목록 렌더링 시 상대 유저를 행마다 지연 로딩하지 않도록 함께 조회
+    @EntityGraph(attributePaths = "followee")
     List<Follow> findByFollower(User follower);
+    @EntityGraph(attributePaths = "follower")
     List<Follow> findByFollowee(User followee);
+
+    @Query("SELECT f.followee.id FROM Follow f WHERE f.follower.id = :followerId")
+    List<Long> findFolloweeIdsByFollowerId(@Param("followerId") Long followerId);
 }
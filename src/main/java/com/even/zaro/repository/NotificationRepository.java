@@ -2,7 +2,11 @@ package com.even.zaro.repository;
 
 import com.even.zaro.entity.Notification;
 import com.even.zaro.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,9 +18,40 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     List<Notification> findAllByUserOrderByCreatedAtDesc(User user);
 
+    /// (createdAt, id) 기준 seek 조회의 첫 페이지 (최신순)
+    List<Notification> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Pageable limit);
+
+    /// (createdAt, id) 기준 seek 조회 - 커서 이전(더 오래된) 알림만 limit 만큼 조회 (OFFSET / COUNT X)
+    @Query("""
+            SELECT n FROM Notification n
+             WHERE n.user.id = :userId
+               AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id))
+             ORDER BY n.createdAt DESC, n.id DESC
+            """)
+    List<Notification> findByUserIdBeforeCursor(@Param("userId") Long userId,
+                                                @Param("createdAt") LocalDateTime createdAt,
+                                                @Param("id") Long id,
+                                                Pageable limit);
+
     Optional<Notification> findByIdAndUserId(Long notificationId, Long userId);
 
-    List<Notification> findAllByUserIdAndIsReadFalse(Long userId);
+    long countByUserIdAndIsReadFalse(Long userId);
+
+    /// 전체 읽음 처리 (엔티티를 불러오지 않고 update 한 번)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
+
+    /// 보관 기간 정리 - afterId 이후 삭제 대상 id (id 오름차순)
+    @Query("SELECT n.id FROM Notification n WHERE n.id > :afterId AND n.createdAt < :deletingDate ORDER BY n.id")
+    List<Long> findIdsCreatedBefore(@Param("deletingDate") LocalDateTime deletingDate,
+                                    @Param("afterId") long afterId,
+                                    Pageable limit);
 
-    void deleteByCreatedAtBefore(LocalDateTime deletingDate);
+    /// 보관 기간 정리 - id 범위 bulk delete
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.id BETWEEN :fromId AND :toId AND n.createdAt < :deletingDate")
+    int deleteCreatedBeforeInRange(@Param("deletingDate") LocalDateTime deletingDate,
+                                   @Param("fromId") long fromId,
+                                   @Param("toId") long toId);
 }
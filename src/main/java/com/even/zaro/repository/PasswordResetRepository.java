@@ -1,9 +1,14 @@
 package com.even.zaro.repository;
 
 import com.even.zaro.entity.PasswordResetToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PasswordResetRepository extends JpaRepository<PasswordResetToken, Long> {
@@ -11,5 +16,12 @@ public interface PasswordResetRepository extends JpaRepository<PasswordResetToke
 
     void deleteByEmail(String email);
 
-    void deleteByExpiredAtBefore(LocalDateTime day);
+    /// 만료 토큰 정리 - afterId 이후 삭제 대상 id (id 오름차순)
+    @Query("SELECT t.id FROM PasswordResetToken t WHERE t.id > :afterId AND t.expiredAt < :day ORDER BY t.id")
+    List<Long> findIdsExpiredBefore(@Param("day") LocalDateTime day, @Param("afterId") long afterId, Pageable limit);
+
+    /// 만료 토큰 정리 - id 범위 bulk delete
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM PasswordResetToken t WHERE t.id BETWEEN :fromId AND :toId AND t.expiredAt < :day")
+    int deleteExpiredBeforeInRange(@Param("day") LocalDateTime day, @Param("fromId") long fromId, @Param("toId") long toId);
 }
@@ -5,8 +5,12 @@ import com.even.zaro.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -14,4 +18,29 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     Page<PostLike> findByUser(User user, Pageable pageable);
     Optional<PostLike> findByUserIdAndPostId(Long userId, Long postId);
     boolean existsByUserIdAndPostId(Long userId, Long postId);
+
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId")
+    List<Long> findLikedPostIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 삭제되지 않은 게시글에만 추가하고, (user_id, post_id) 유니크 제약조건에 걸리면 무시하는 insert
+     * 게시글 확인과 추가를 쿼리 한 번으로 처리하며, 엔티티를 거치지 않으므로 PostLikeListener(@PostPersist) 는 실행되지 않습니다.
+     *
+     * @return 실제로 추가된 행 수 (이미 좋아요했거나 게시글이 없으면 0)
+     */
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO post_like (post_id, user_id, created_at)
+            SELECT p.id, :userId, CURRENT_TIMESTAMP FROM post p WHERE p.id = :postId AND p.is_deleted = false
+            """, nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    /// @return 실제로 삭제된 행 수 (좋아요하지 않았거나 게시글이 삭제된 경우 0)
+    @Modifying
+    @Query("""
+            DELETE FROM PostLike pl
+            WHERE pl.user.id = :userId AND pl.post.id = :postId
+              AND EXISTS (SELECT 1 FROM Post p WHERE p.id = :postId AND p.isDeleted = false)
+            """)
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
 }
\ No newline at end of file
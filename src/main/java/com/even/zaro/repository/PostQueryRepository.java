@@ -0,0 +1,281 @@
+package com.even.zaro.repository;
+
+import com.even.zaro.dto.post.PostPreviewRow;
+import com.even.zaro.dto.post.PostRankEntry;
+import com.even.zaro.entity.Post;
+import com.even.zaro.global.util.CursorCodec;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static com.even.zaro.entity.QPost.post;
+import static com.even.zaro.entity.QPostLike.postLike;
+import static com.even.zaro.entity.QUser.user;
+
+@Repository
+@RequiredArgsConstructor
+public class PostQueryRepository {
+
+    // 목록 정렬에 허용하는 필드 (그 외 정렬 요청은 무시하고 최신순 정렬)
+    private static final Map<String, ComparableExpressionBase<?>> POST_SORTABLE = Map.of(
+            "createdAt", post.createdAt,
+            "likeCount", post.likeCount,
+            "commentCount", post.commentCount
+    );
+
+    // 좋아요 목록은 좋아요 누른 시각 기준으로 정렬
+    private static final Map<String, ComparableExpressionBase<?>> LIKED_SORTABLE = Map.of(
+            "createdAt", postLike.createdAt
+    );
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * (createdAt, id) 기준 seek 방식으로 게시글 피드를 조회합니다.
+     * OFFSET 과 COUNT 쿼리 없이 커서 이후의 게시글만 limit 만큼 가져옵니다.
+     *
+     * @param category 카테고리 (null 이면 전체)
+     * @param tag 태그 (null 이면 카테고리 전체)
+     * @param cursor 직전 페이지 마지막 게시글 위치 (null 이면 첫 페이지)
+     * @param limit 조회할 최대 개수 (다음 페이지 존재 여부 확인을 위해 size + 1 로 호출)
+     */
+    public List<PostPreviewRow> findFeedPreviews(Post.Category category, Post.Tag tag, CursorCodec.Position cursor, int limit) {
+        return queryFactory
+                .select(previewProjection())
+                .from(post)
+                .join(post.user, user)
+                .where(
+                        post.isDeleted.isFalse(),
+                        post.isReported.isFalse(),
+                        categoryEq(category),
+                        tagEq(tag),
+                        afterCursor(cursor)
+                )
+                .orderBy(post.createdAt.desc(), post.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 페이지 번호 방식(PageResponse 호환)으로 게시글 목록을 조회합니다.
+     */
+    public Page<PostPreviewRow> findPreviewPage(Post.Category category, Post.Tag tag, Pageable pageable) {
+        BooleanExpression[] conditions = {
+                post.isDeleted.isFalse(),
+                post.isReported.isFalse(),
+                categoryEq(category),
+                tagEq(tag)
+        };
+
+        List<PostPreviewRow> content = queryFactory
+                .select(previewProjection())
+                .from(post)
+                .join(post.user, user)
+                .where(conditions)
+                .orderBy(toOrderSpecifiers(pageable.getSort(), POST_SORTABLE, post.id))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(post.count())
+                .from(post)
+                .where(conditions);
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 특정 유저가 작성한 게시글 목록 (프로필)
+     */
+    public Page<PostPreviewRow> findUserPostPreviews(Long userId, Pageable pageable) {
+        List<PostPreviewRow> content = queryFactory
+                .select(previewProjection())
+                .from(post)
+                .join(post.user, user)
+                .where(post.user.id.eq(userId), post.isDeleted.isFalse())
+                .orderBy(toOrderSpecifiers(pageable.getSort(), POST_SORTABLE, post.id))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(post.count())
+                .from(post)
+                .where(post.user.id.eq(userId), post.isDeleted.isFalse());
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 특정 유저가 좋아요 누른 게시글 목록 (프로필)
+     */
+    public Page<PostPreviewRow> findLikedPostPreviews(Long userId, Pageable pageable) {
+        List<PostPreviewRow> content = queryFactory
+                .select(previewProjection())
+                .from(postLike)
+                .join(postLike.post, post)
+                .join(post.user, user)
+                .where(postLike.user.id.eq(userId))
+                .orderBy(toOrderSpecifiers(pageable.getSort(), LIKED_SORTABLE, postLike.id))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(postLike.count())
+                .from(postLike)
+                .where(postLike.user.id.eq(userId));
+
+        return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 인기글 랭킹 대상 (점수 0 초과, 삭제/신고 제외)
+     * Redis 장애 시 대체 조회에 사용합니다.
+     *
+     * @param category 카테고리 (null 이면 전체)
+     * @param createdAfter 작성 시각 하한 (null 이면 전체 기간)
+     */
+    public List<PostRankEntry> findRankEntries(Post.Category category, LocalDateTime createdAfter) {
+        return queryFactory
+                .select(rankEntryProjection())
+                .from(post)
+                .where(
+                        post.isDeleted.isFalse(),
+                        post.isReported.isFalse(),
+                        post.score.gt(0),
+                        categoryEq(category),
+                        createdAfter != null ? post.createdAt.after(createdAfter) : null
+                )
+                .fetch();
+    }
+
+    /**
+     * 랭킹 재구축 / 정합성 검사용 id keyset 조회 (삭제/신고 제외)
+     * 전체를 한 번에 읽지 않고 afterId 이후 limit 건씩 id 순으로 가져옵니다.
+     * DB 점수가 0 이어도 반영 전 증감분으로 랭킹 대상이 될 수 있으므로 점수 조건은 호출하는 쪽에서 확인합니다.
+     *
+     * @param afterId 직전 chunk 의 마지막 게시글 id (처음은 0)
+     */
+    public List<PostRankEntry> findRankEntriesAfter(long afterId, int limit) {
+        return queryFactory
+                .select(rankEntryProjection())
+                .from(post)
+                .where(
+                        post.id.gt(afterId),
+                        post.isDeleted.isFalse(),
+                        post.isReported.isFalse()
+                )
+                .orderBy(post.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /// 최근 활동 게시글 재계산용 (id 목록 기준)
+    public List<PostRankEntry> findRankEntriesByIds(Collection<Long> postIds) {
+        return queryFactory
+                .select(rankEntryProjection())
+                .from(post)
+                .where(
+                        post.id.in(postIds),
+                        post.isDeleted.isFalse(),
+                        post.isReported.isFalse(),
+                        post.score.gt(0)
+                )
+                .fetch();
+    }
+
+    /// 랭킹 재구축 / 정합성 검사용 id 목록 조회 (점수 조건은 findRankEntriesAfter 와 같이 호출하는 쪽에서 확인)
+    public List<PostRankEntry> findVisibleRankEntriesByIds(Collection<Long> postIds) {
+        return queryFactory
+                .select(rankEntryProjection())
+                .from(post)
+                .where(
+                        post.id.in(postIds),
+                        post.isDeleted.isFalse(),
+                        post.isReported.isFalse()
+                )
+                .fetch();
+    }
+
+    private Expression<PostRankEntry> rankEntryProjection() {
+        return Projections.constructor(PostRankEntry.class,
+                post.id,
+                post.title,
+                post.category,
+                post.likeCount,
+                post.commentCount,
+                post.score,
+                post.createdAt
+        );
+    }
+
+    private Expression<PostPreviewRow> previewProjection() {
+        return Projections.constructor(PostPreviewRow.class,
+                post.id,
+                post.title,
+                post.contentPreview,
+                post.thumbnailImage,
+                post.category,
+                post.tag,
+                post.likeCount,
+                post.commentCount,
+                post.createdAt,
+                user.nickname,
+                user.profileImage,
+                user.status
+        );
+    }
+
+    /// tieBreaker 는 정렬 기준 컬럼과 같은 테이블의 id 를 사용해야 인덱스 순서 그대로 읽음 (좋아요 목록은 post_like.id)
+    private OrderSpecifier<?>[] toOrderSpecifiers(Sort sort, Map<String, ComparableExpressionBase<?>> sortable,
+                                                  ComparableExpressionBase<Long> tieBreaker) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            ComparableExpressionBase<?> path = sortable.get(order.getProperty());
+            if (path != null) {
+                orders.add(new OrderSpecifier<>(order.isAscending() ? Order.ASC : Order.DESC, path));
+            }
+        }
+        if (orders.isEmpty()) {
+            orders.add(sortable.get("createdAt").desc());
+        }
+        // 동일 시각 항목의 순서를 고정하기 위해 id 를 마지막 정렬 기준으로 사용
+        orders.add(tieBreaker.desc());
+        return orders.toArray(OrderSpecifier[]::new);
+    }
+
+    private BooleanExpression categoryEq(Post.Category category) {
+        return category != null ? post.category.eq(category) : null;
+    }
+
+    private BooleanExpression tagEq(Post.Tag tag) {
+        return tag != null ? post.tag.eq(tag) : null;
+    }
+
+    private BooleanExpression afterCursor(CursorCodec.Position cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return post.createdAt.lt(cursor.createdAt())
+                .or(post.createdAt.eq(cursor.createdAt()).and(post.id.lt(cursor.id())));
+    }
+}
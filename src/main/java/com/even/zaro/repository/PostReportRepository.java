@@ -7,5 +7,4 @@ import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface PostReportRepository extends JpaRepository<PostReport, Long> {
     boolean existsByPostAndUser(Post post, User user);
-    int countByPost(Post post);
 }
@@ -1,15 +1,18 @@
 package com.even.zaro.repository;
 
 import com.even.zaro.entity.Post;
+import com.even.zaro.entity.Status;
 import com.even.zaro.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,13 +28,48 @@ public interface PostRepository extends JpaRepository<Post, Long> {
 
     Optional<Post> findByIdAndIsDeletedFalseAndIsReportedFalse(Long postId);
 
-    @EntityGraph(attributePaths = {"postImageList"})
-    Optional<Post> findByIdAndIsDeletedFalse(Long postId);
+    /// 좋아요 요청에서 게시글 존재만 확인 (엔티티 / 이미지 목록을 읽지 않음)
+    boolean existsByIdAndIsDeletedFalse(Long postId);
 
-    List<Post> findTop5ByCategoryAndIsDeletedFalseAndIsReportedFalseOrderByCreatedAtDesc(Post.Category category);
+    /// 좋아요 알림 대상 (게시글 작성자 id 만 조회)
+    @Query("SELECT p.user.id FROM Post p WHERE p.id = :id")
+    Optional<Long> findUserIdById(@Param("id") Long id);
+
+    /**
+     * 홈 화면용 카테고리별 최신 게시글 top N (작성자 join, 쿼리 한 번)
+     * 카테고리마다 ROW_NUMBER 로 순번을 매긴 뒤 limit 이하만 남기며, 본문은 RANDOM_BUY 만 조회합니다.
+     */
+    @Query(value = """
+            SELECT ranked.* FROM (
+                SELECT p.category AS category,
+                       p.id AS postId,
+                       p.title AS title,
+                       CASE WHEN p.category = 'RANDOM_BUY' THEN p.content END AS content,
+                       p.thumbnail_image AS thumbnailImage,
+                       p.like_count AS likeCount,
+                       p.comment_count AS commentCount,
+                       p.created_at AS createdAt,
+                       u.nickname AS writerNickname,
+                       u.profile_image AS writerProfileImage,
+                       u.status AS writerStatus,
+                       ROW_NUMBER() OVER (PARTITION BY p.category ORDER BY p.created_at DESC, p.id DESC) AS rn
+                FROM post p
+                JOIN users u ON u.id = p.user_id
+                WHERE p.category IN (:categories)
+                AND p.is_deleted = false
+                AND p.is_reported = false
+            ) ranked
+            WHERE ranked.rn <= :limit
+            ORDER BY ranked.category, ranked.rn
+            """, nativeQuery = true)
+    List<HomePostView> findHomeTopPosts(@Param("categories") Collection<String> categories, @Param("limit") int limit);
 
     boolean existsByIdAndIsDeletedFalseAndIsReportedFalse(Long postId);
 
+    /// 게시글 상세에서 요청마다 조회하는 값 (노출 가능한 게시글의 좋아요/댓글 수, 나머지는 캐시)
+    @Query("SELECT p.likeCount AS likeCount, p.commentCount AS commentCount FROM Post p WHERE p.id = :id AND p.isDeleted = false AND p.isReported = false")
+    Optional<CountView> findVisibleCountsById(@Param("id") Long id);
+
     Page<Post> findByCategoryAndTagAndIsDeletedFalseAndIsReportedFalse(Post.Category category, Post.Tag tag, Pageable pageable);
 
     @Query("""
@@ -42,4 +80,84 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     ORDER BY p.score DESC, p.createdAt DESC
 """)
     List<Post> findTopPosts(@Param("minScore") int minScore, Pageable pageable);
+
+    /// content_preview 백필 대상 (id 오름차순 keyset 조회)
+    @Query("SELECT p.id AS id, p.content AS content FROM Post p WHERE p.contentPreview IS NULL AND p.id > :lastId ORDER BY p.id ASC")
+    List<ContentView> findContentsWithoutPreview(@Param("lastId") Long lastId, Pageable pageable);
+
+    /// updated_at 이 갱신되지 않도록 벌크 update 로 미리보기만 저장
+    @Modifying
+    @Query("UPDATE Post p SET p.contentPreview = :preview WHERE p.id = :id")
+    int updateContentPreview(@Param("id") Long id, @Param("preview") String preview);
+
+    /// 신고 수 원자적 증가 (행 잠금은 신고 트랜잭션 동안만 유지)
+    @Modifying
+    @Query("UPDATE Post p SET p.reportCount = p.reportCount + 1 WHERE p.id = :id")
+    int incrementReportCount(@Param("id") Long id);
+
+    @Query("SELECT p.reportCount FROM Post p WHERE p.id = :id")
+    int findReportCountById(@Param("id") Long id);
+
+    /// 숨김 처리 대상 (신고 수가 기준 이상이면서 아직 노출 중인 게시글)
+    @Query("SELECT p.id AS id, p.category AS category FROM Post p WHERE p.id IN :ids AND p.isDeleted = false AND p.isReported = false AND p.reportCount >= :threshold")
+    List<ModerationView> findHideCandidates(@Param("ids") Collection<Long> ids, @Param("threshold") int threshold);
+
+    /// updated_at 과 좋아요/댓글 수(write-behind 카운터가 갱신)를 덮어쓰지 않도록 벌크 update 로 숨김 처리
+    @Modifying
+    @Query("UPDATE Post p SET p.isReported = true WHERE p.id IN :ids")
+    int markAsReportedByIds(@Param("ids") Collection<Long> ids);
+
+    /// 알림 목록의 게시글 정보 (필요한 컬럼만, IN 쿼리 한 번)
+    @Query("SELECT p.id AS id, p.category AS category, p.thumbnailImage AS thumbnailImage FROM Post p WHERE p.id IN :ids")
+    List<NotificationPostView> findNotificationViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface HomePostView {
+        Post.Category getCategory();
+
+        Long getPostId();
+
+        String getTitle();
+
+        String getContent();
+
+        String getThumbnailImage();
+
+        Integer getLikeCount();
+
+        Integer getCommentCount();
+
+        LocalDateTime getCreatedAt();
+
+        String getWriterNickname();
+
+        String getWriterProfileImage();
+
+        Status getWriterStatus();
+    }
+
+    interface CountView {
+        int getLikeCount();
+
+        int getCommentCount();
+    }
+
+    interface ContentView {
+        Long getId();
+
+        String getContent();
+    }
+
+    interface ModerationView {
+        Long getId();
+
+        Post.Category getCategory();
+    }
+
+    interface NotificationPostView {
+        Long getId();
+
+        Post.Category getCategory();
+
+        String getThumbnailImage();
+    }
 }
@@ -4,12 +4,14 @@ import com.even.zaro.entity.Provider;
 import com.even.zaro.entity.Status;
 import com.even.zaro.entity.User;
 import io.lettuce.core.dynamic.annotation.Param;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +35,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
     List<User> findByStatusAndUpdatedAtBefore(Status status, LocalDateTime time);
     List<User> findByStatusAndDeletedAtBefore(Status status, LocalDateTime threshold);
 
+    /// 영구 삭제 대상 정리 - afterId 이후 삭제 대상 id (id 오름차순)
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId AND u.status = :status AND u.deletedAt < :threshold ORDER BY u.id")
+    List<Long> findIdsByStatusAndDeletedAtBefore(@Param("status") Status status,
+                                                 @Param("threshold") LocalDateTime threshold,
+                                                 @Param("afterId") long afterId,
+                                                 Pageable limit);
+
+    /// 영구 삭제 대상 정리 - id 범위 bulk delete
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM User u WHERE u.id BETWEEN :fromId AND :toId AND u.status = :status AND u.deletedAt < :threshold")
+    int deleteByStatusAndDeletedAtBeforeInRange(@Param("status") Status status,
+                                                @Param("threshold") LocalDateTime threshold,
+                                                @Param("fromId") long fromId,
+                                                @Param("toId") long toId);
+
     @Query(value = """
             SELECT * FROM users u
             WHERE u.status = :status
@@ -44,4 +61,16 @@ public interface UserRepository extends JpaRepository<User, Long> {
             )
             """, nativeQuery = true)
     List<User> findDormancyNoticeTargetsNative(@Param("status") String status, @Param("time") LocalDateTime time);
+
+    /// 알림 목록의 행위자 정보 (필요한 컬럼만, IN 쿼리 한 번)
+    @Query("SELECT u.id AS id, u.nickname AS nickname, u.profileImage AS profileImage FROM User u WHERE u.id IN :ids")
+    List<ActorView> findActorViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface ActorView {
+        Long getId();
+
+        String getNickname();
+
+        String getProfileImage();
+    }
 }
@@ -0,0 +1,42 @@
+package com.even.zaro.service;
+
+import com.even.zaro.dto.comment.CommentPageSnapshot;
+import com.even.zaro.global.cache.TwoLevelCache;
+import com.even.zaro.global.cache.TwoLevelCacheManager;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 게시글별 댓글 페이지 캐시 (postId 단위, 버전 관리는 {@link TwoLevelCache})
+ * 커서마다 따로 저장하지 않고 작성순 앞부분을 한 값으로 저장해서, 댓글 변경 시 키 하나만 무효화합니다.
+ * 댓글 작성/수정/삭제/신고 처리가 커밋되면 무효화되며, 작성자 프로필 변경은 만료 시간까지만 늦게 반영됩니다.
+ */
+@Component
+public class CommentPageCache {
+
+    /// 게시글당 캐시하는 앞부분 댓글 수 (이후 댓글은 DB 조회)
+    public static final int CACHED_COMMENT_COUNT = 200;
+
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(1);
+    private static final long LOCAL_MAX_SIZE = 5_000;
+    private static final Duration REMOTE_TTL = Duration.ofMinutes(30);
+
+    private final TwoLevelCache<CommentPageSnapshot> cache;
+
+    public CommentPageCache(TwoLevelCacheManager cacheManager) {
+        this.cache = cacheManager.create("comment:page", new TypeReference<>() {},
+                LOCAL_TTL, LOCAL_MAX_SIZE, REMOTE_TTL);
+    }
+
+    public CommentPageSnapshot get(Long postId, Supplier<CommentPageSnapshot> loader) {
+        return cache.get(postId.toString(), loader);
+    }
+
+    /// 커밋 이후 호출
+    public void evict(Long postId) {
+        cache.evict(postId.toString());
+    }
+}
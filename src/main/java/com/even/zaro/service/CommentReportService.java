@@ -4,11 +4,13 @@ import com.even.zaro.dto.post.ReportRequestDTO;
 import com.even.zaro.dto.post.ReportResponseDto;
 import com.even.zaro.entity.*;
 import com.even.zaro.global.ErrorCode;
+import com.even.zaro.global.event.event.ReportThresholdReachedEvent;
 import com.even.zaro.global.exception.comment.CommentException;
 import com.even.zaro.repository.CommentReportRepository;
 import com.even.zaro.repository.CommentRepository;
 import com.even.zaro.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,7 @@ public class CommentReportService {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReportResponseDto reportComment(Long commentId, ReportRequestDTO request, Long userId) {
@@ -50,11 +53,10 @@ public class CommentReportService {
                 .build());
 
 
-        int reportCount = commentReportRepository.countByComment(comment);
-        comment.changeReportCount(reportCount);
-
-        if (reportCount >=5 && !comment.isReported()) {
-            comment.markAsReported();
+        // 숨김 처리(DB / 댓글 페이지 캐시)는 기준 도달 시 큐에 등록해서 비동기로 처리 (ModerationService)
+        commentRepository.incrementReportCount(commentId);
+        if (commentRepository.findReportCountById(commentId) >= ModerationService.HIDE_THRESHOLD) {
+            eventPublisher.publishEvent(new ReportThresholdReachedEvent(ReportThresholdReachedEvent.Target.COMMENT, commentId));
         }
 
         return new ReportResponseDto(
@@ -1,22 +1,31 @@
 package com.even.zaro.service;
 
+import com.even.zaro.dto.CursorResponse;
 import com.even.zaro.dto.comment.CommentPageResponse;
+import com.even.zaro.dto.comment.CommentPageSnapshot;
 import com.even.zaro.dto.comment.CommentResponseDto;
 import com.even.zaro.dto.comment.CommentRequestDto;
+import com.even.zaro.dto.comment.CommentSnapshot;
 import com.even.zaro.dto.comment.MentionedUserDto;
 import com.even.zaro.dto.jwt.JwtUserInfoDto;
+import com.even.zaro.dto.post.PostCountDelta;
 import com.even.zaro.entity.Comment;
 import com.even.zaro.entity.Post;
 import com.even.zaro.entity.User;
 import com.even.zaro.global.ErrorCode;
+import com.even.zaro.global.event.event.CommentChangedEvent;
 import com.even.zaro.global.exception.comment.CommentException;
+import com.even.zaro.global.util.CursorCodec;
 import com.even.zaro.mapper.CommentMapper;
 import com.even.zaro.repository.CommentRepository;
 import com.even.zaro.repository.PostRepository;
 import com.even.zaro.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,17 +33,25 @@ import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+    // 캐시된 댓글은 작성순이므로 작성순 요청만 캐시에서 응답
+    private static final Sort CACHED_SORT = Sort.by(Sort.Direction.ASC, "createdAt");
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostService postService;
     private final UserService userService;
     private final CommentMapper commentMapper;
+    private final PostCounterService postCounterService;
+    private final CommentPageCache commentPageCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public CommentResponseDto createComment(Long postId, CommentRequestDto requestDto, JwtUserInfoDto userInfoDto, int pageSize) {
@@ -59,26 +76,73 @@ public class CommentService {
                 .mentionedUser(mentionedUser)
                 .build();
 
-        commentRepository.save(comment);
-        post.changeCommentCount(post.getCommentCount() + 1);
-        post.updateScore();
-        postRepository.save(post);
+        // 댓글 수 증가는 커밋 이후 반영되므로 지금 작성한 댓글을 더해서 위치 계산
+        int commentLocatedPage = calculateTotalPages(currentCommentCount(post) + 1, pageSize);
 
-        int commentLocatedPage = calculateTotalPages(post, pageSize);
+        commentRepository.save(comment);
+        postService.updatePostScore(post.getId(), 0, 1);
 
         return commentMapper.toCreateDto(comment, currentUserId, commentLocatedPage);
     }
 
+    /**
+     * 페이지 번호 방식 댓글 조회
+     * 작성순 앞부분은 댓글 페이지 캐시({@link CommentPageCache})에서 읽고, 작성자 여부만 요청마다 계산합니다.
+     * 전체 댓글 수는 COUNT 쿼리 대신 게시글에 유지되는 댓글 수(+ 아직 반영되지 않은 증감분)를 사용합니다.
+     */
     @Transactional(readOnly = true)
     public CommentPageResponse readAllComments(Long postId, Pageable pageable, JwtUserInfoDto userInfoDto) {
         Long currentUserId = userInfoDto.getUserId();
 
-        Page<CommentResponseDto> page = commentRepository.findByPostIdAndIsDeletedFalse(postId, pageable)
-                .map(comment -> commentMapper.toListDto(comment, currentUserId));
+        List<CommentSnapshot> comments = null;
+        if (pageable.getSort().isUnsorted() || pageable.getSort().equals(CACHED_SORT)) {
+            comments = cachedComments(postId).range(pageable.getOffset(), pageable.getPageSize());
+        }
+        if (comments == null) {
+            Slice<Comment> slice = commentRepository.findByPostIdAndIsDeletedFalse(postId, pageable);
+            comments = slice.map(commentMapper::toSnapshot).getContent();
+        }
+
+        int totalComments = postRepository.findById(postId)
+                .map(this::currentCommentCount)
+                .orElse(0);
+
+        return new CommentPageResponse(toListDtos(comments, currentUserId),
+                calculateTotalPages(totalComments, pageable.getPageSize()), pageable.getPageNumber(), totalComments);
+    }
+
+    /**
+     * (createdAt, id) 기준 seek 방식 댓글 조회 (작성순)
+     * 다음 페이지 존재 여부는 size + 1 개를 조회해서 판단합니다. (OFFSET / COUNT 쿼리 X)
+     * 캐시된 앞부분 범위 안이면 DB 를 조회하지 않습니다.
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponseDto> readCommentsByCursor(Long postId, String cursor, int size, JwtUserInfoDto userInfoDto) {
+        Long currentUserId = userInfoDto.getUserId();
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+
+        CursorCodec.Position position = CursorCodec.decode(cursor);
+        List<CommentSnapshot> comments = cachedComments(postId).after(position, pageSize + 1);
+        if (comments == null) {
+            Pageable limit = PageRequest.of(0, pageSize + 1);
+            comments = (position == null
+                    ? commentRepository.findByPostIdAndIsDeletedFalseOrderByCreatedAtAscIdAsc(postId, limit)
+                    : commentRepository.findByPostIdAfterCursor(postId, position.createdAt(), position.id(), limit))
+                    .stream()
+                    .map(commentMapper::toSnapshot)
+                    .toList();
+        }
+
+        boolean hasNext = comments.size() > pageSize;
+        List<CommentSnapshot> pageComments = hasNext ? comments.subList(0, pageSize) : comments;
 
-        int totalComments = (int) page.getTotalElements();
+        String nextCursor = null;
+        if (hasNext) {
+            CommentSnapshot last = pageComments.get(pageComments.size() - 1);
+            nextCursor = CursorCodec.encode(last.createdAt(), last.id());
+        }
 
-        return new CommentPageResponse(page, totalComments);
+        return new CursorResponse<>(toListDtos(pageComments, currentUserId), nextCursor);
     }
 
     @Transactional
@@ -99,6 +163,7 @@ public class CommentService {
         validateCommentLength(requestDto.getContent());
 
         comment.updateContent(requestDto.getContent());
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getPost().getId()));
 
         return commentMapper.toUpdateDto(comment, currentUserId);
     }
@@ -114,11 +179,9 @@ public class CommentService {
         }
 
         comment.softDelete();
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getPost().getId()));
 
-        Post post = comment.getPost();
-        post.changeCommentCount(Math.max(0, post.getCommentCount() - 1));
-        post.updateScore();
-        postRepository.save(post);
+        postService.updatePostScore(comment.getPost().getId(), 0, -1);
     }
 
     private void validateCommentLength(String content) {
@@ -127,8 +190,32 @@ public class CommentService {
         }
     }
 
-    private int calculateTotalPages(Post post, int pageSize) {
-        int totalComments = commentRepository.countByPostAndIsDeletedFalse(post);
+    private CommentPageSnapshot cachedComments(Long postId) {
+        return commentPageCache.get(postId, () -> {
+            List<Comment> head = commentRepository.findByPostIdAndIsDeletedFalseOrderByCreatedAtAscIdAsc(postId,
+                    PageRequest.of(0, CommentPageCache.CACHED_COMMENT_COUNT + 1));
+            boolean complete = head.size() <= CommentPageCache.CACHED_COMMENT_COUNT;
+            return new CommentPageSnapshot(head.stream()
+                    .limit(CommentPageCache.CACHED_COMMENT_COUNT)
+                    .map(commentMapper::toSnapshot)
+                    .toList(), complete);
+        });
+    }
+
+    private List<CommentResponseDto> toListDtos(List<CommentSnapshot> comments, Long currentUserId) {
+        return comments.stream()
+                .map(comment -> commentMapper.toListDto(comment, currentUserId))
+                .toList();
+    }
+
+    /// 게시글의 댓글 수 (DB 값 + 아직 반영되지 않은 증감분)
+    private int currentCommentCount(Post post) {
+        PostCountDelta pending = postCounterService.pending(List.of(post.getId()))
+                .getOrDefault(post.getId(), PostCountDelta.NONE);
+        return pending.applyToComments(post.getCommentCount());
+    }
+
+    private int calculateTotalPages(int totalComments, int pageSize) {
         return (int) Math.ceil((double) totalComments / pageSize);
     }
 }
@@ -0,0 +1,54 @@
+package com.even.zaro.service;
+
+import com.even.zaro.global.cache.IdSetCache;
+import com.even.zaro.global.cache.TwoLevelCacheManager;
+import com.even.zaro.repository.FollowRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 유저별 팔로잉(followee) id 집합 캐시 ({@link IdSetCache}, cache:follow:followees:{userId})
+ * 팔로우 배지를 그리는 화면은 목록 전체를 {@link #followsAny} 한 번으로 확인합니다.
+ */
+@Service
+public class FollowGraphService {
+
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(5);
+    private static final long LOCAL_MAX_SIZE = 50_000;
+    private static final Duration REMOTE_TTL = Duration.ofHours(6);
+
+    private final IdSetCache followees;
+
+    public FollowGraphService(TwoLevelCacheManager cacheManager, FollowRepository followRepository) {
+        this.followees = cacheManager.createIdSet("follow:followees", followRepository::findFolloweeIdsByFollowerId,
+                LOCAL_TTL, LOCAL_MAX_SIZE, REMOTE_TTL);
+    }
+
+    public boolean follows(Long viewerId, Long targetId) {
+        return !followsAny(viewerId, List.of(targetId)).isEmpty();
+    }
+
+    /**
+     * @return targetIds 중 viewer 가 팔로우 중인 유저 id (비로그인이면 빈 집합)
+     */
+    public Set<Long> followsAny(Long viewerId, Collection<Long> targetIds) {
+        if (viewerId == null) {
+            return Set.of();
+        }
+        return followees.intersect(viewerId, targetIds);
+    }
+
+    /// 팔로우 커밋 이후 호출
+    public void onFollowed(Long followerId, Long followeeId) {
+        followees.add(followerId, followeeId);
+    }
+
+    /// 언팔로우 커밋 이후 호출
+    public void onUnfollowed(Long followerId, Long followeeId) {
+        followees.remove(followerId, followeeId);
+    }
+}
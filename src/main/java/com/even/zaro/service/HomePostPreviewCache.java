@@ -0,0 +1,59 @@
+package com.even.zaro.service;
+
+import com.even.zaro.dto.post.HomePostRow;
+import com.even.zaro.entity.Post;
+import com.even.zaro.global.cache.TwoLevelCache;
+import com.even.zaro.global.cache.TwoLevelCacheManager;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 홈 화면 카테고리별 최신 게시글 캐시
+ * 카테고리 단위로 저장하므로 게시글 작성/수정/삭제/신고 시 해당 카테고리만 무효화되고,
+ * 여러 카테고리가 함께 비어 있으면 누락된 카테고리만 한 번에 적재합니다.
+ */
+@Component
+public class HomePostPreviewCache {
+
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(1);
+    private static final Duration REMOTE_TTL = Duration.ofMinutes(10);
+
+    private final TwoLevelCache<List<HomePostRow>> cache;
+
+    public HomePostPreviewCache(TwoLevelCacheManager cacheManager) {
+        this.cache = cacheManager.create("home:posts", new TypeReference<>() {},
+                LOCAL_TTL, Post.Category.values().length, REMOTE_TTL);
+    }
+
+    /**
+     * @param loader 누락된 카테고리 -> 카테고리별 게시글 (게시글이 없는 카테고리도 빈 리스트로 포함)
+     */
+    public Map<Post.Category, List<HomePostRow>> getPosts(
+            Collection<Post.Category> categories,
+            Function<Set<Post.Category>, Map<Post.Category, List<HomePostRow>>> loader) {
+        List<String> keys = categories.stream().map(Post.Category::name).toList();
+
+        Map<String, List<HomePostRow>> cached = cache.getAll(keys, missingKeys -> {
+            Set<Post.Category> missing = missingKeys.stream()
+                    .map(Post.Category::valueOf)
+                    .collect(Collectors.toCollection(() -> EnumSet.noneOf(Post.Category.class)));
+            Map<String, List<HomePostRow>> loaded = new HashMap<>();
+            loader.apply(missing).forEach((category, rows) -> loaded.put(category.name(), rows));
+            return loaded;
+        });
+
+        Map<Post.Category, List<HomePostRow>> result = new EnumMap<>(Post.Category.class);
+        cached.forEach((key, rows) -> result.put(Post.Category.valueOf(key), rows));
+        return result;
+    }
+
+    /// 커밋 이후 호출 (커밋 전에 지우면 다른 요청이 변경 전 데이터로 다시 채울 수 있음)
+    public void evict(Post.Category category) {
+        cache.evict(category.name());
+    }
+}
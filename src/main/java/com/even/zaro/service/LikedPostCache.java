@@ -0,0 +1,53 @@
+package com.even.zaro.service;
+
+import com.even.zaro.global.cache.IdSetCache;
+import com.even.zaro.global.cache.TwoLevelCacheManager;
+import com.even.zaro.repository.PostLikeRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 유저별 좋아요한 게시글 id 집합 캐시 ({@link IdSetCache}, cache:post:liked:{userId})
+ * 게시글 목록의 "내가 좋아요한 글" 표시는 카드마다 조회하지 않고 목록 단위로 한 번에 확인합니다.
+ */
+@Component
+public class LikedPostCache {
+
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(5);
+    private static final long LOCAL_MAX_SIZE = 20_000;
+    private static final Duration REMOTE_TTL = Duration.ofHours(6);
+
+    private final IdSetCache likedPosts;
+
+    public LikedPostCache(TwoLevelCacheManager cacheManager, PostLikeRepository postLikeRepository) {
+        this.likedPosts = cacheManager.createIdSet("post:liked", postLikeRepository::findLikedPostIdsByUserId,
+                LOCAL_TTL, LOCAL_MAX_SIZE, REMOTE_TTL);
+    }
+
+    /**
+     * @return postIds 중 userId 가 좋아요한 게시글 id (비로그인이면 빈 집합)
+     */
+    public Set<Long> likedAmong(Long userId, Collection<Long> postIds) {
+        if (userId == null) {
+            return Set.of();
+        }
+        return likedPosts.intersect(userId, postIds);
+    }
+
+    public boolean hasLiked(Long userId, Long postId) {
+        return userId != null && likedPosts.contains(userId, postId);
+    }
+
+    /// 좋아요 커밋 이후 호출
+    public void onLiked(Long userId, Long postId) {
+        likedPosts.add(userId, postId);
+    }
+
+    /// 좋아요 취소 커밋 이후 호출
+    public void onUnliked(Long userId, Long postId) {
+        likedPosts.remove(userId, postId);
+    }
+}
@@ -0,0 +1,216 @@
+package com.even.zaro.service;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
+import com.even.zaro.global.event.event.CommentChangedEvent;
+import com.even.zaro.global.event.event.PostReportedEvent;
+import com.even.zaro.global.event.event.ReportThresholdReachedEvent.Target;
+import com.even.zaro.repository.CommentRepository;
+import com.even.zaro.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 신고 누적 게시글/댓글 숨김 처리
+ * - 신고 요청은 신고 수만 원자적으로 올리고, 기준에 도달하면 커밋 이후 moderation:hide:{post|comment} (set) 에 등록만 합니다.
+ * - 스케줄러가 큐를 배치 단위로 꺼내 DB 숨김 처리(벌크 update), 캐시 무효화, 검색 인덱스(posts) 삭제를 한 번에 처리합니다.
+ * 숨김 처리는 여러 번 실행돼도 결과가 같으므로, 검색 인덱스 삭제에 실패한 배치는 큐에 남겨 다음 주기에 다시 처리합니다.
+ */
+@Slf4j
+@Service
+public class ModerationService {
+
+    /// 신고 수가 이 값 이상이면 숨김
+    public static final int HIDE_THRESHOLD = 5;
+
+    private static final String QUEUE_KEY_PREFIX = "moderation:hide:";
+    private static final String LOCK_KEY = "moderation:hide:lock";
+    // 한 번 처리(최대 MAX_BATCHES 배치)보다 충분히 길게 - 노드가 죽은 경우에만 TTL 로 풀림
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_BATCHES = 10;
+    private static final String POST_INDEX = "posts";
+
+    // KEYS[1] = 락 / ARGV[1] = 획득할 때 넣은 값 : 내가 잡은 락일 때만 해제 (TTL 로 풀린 뒤 다른 노드가 잡은 락은 유지)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ElasticsearchClient elasticsearchClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public ModerationService(RedisTemplate<String, String> redisTemplate,
+                             PostRepository postRepository,
+                             CommentRepository commentRepository,
+                             ElasticsearchClient elasticsearchClient,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager) {
+        this.redisTemplate = redisTemplate;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.elasticsearchClient = elasticsearchClient;
+        this.eventPublisher = eventPublisher;
+        // 커밋 이후(AFTER_COMMIT) 호출돼도 별도 트랜잭션으로 커밋되도록 REQUIRES_NEW
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /// 커밋 이후 호출 (Redis 장애 시에는 바로 숨김 처리)
+    public void enqueue(Target target, Long targetId) {
+        try {
+            redisTemplate.opsForSet().add(queueKey(target), targetId.toString());
+        } catch (DataAccessException e) {
+            log.warn("[신고 숨김] 큐 등록 실패, 바로 처리합니다. {}={} {}", target, targetId, e.getMessage());
+            hide(target, List.of(targetId));
+        }
+    }
+
+    /**
+     * 큐에 쌓인 숨김 작업을 배치 단위로 처리
+     *
+     * @return 새로 숨김 처리한 게시글/댓글 수 (다른 노드가 처리 중이면 0)
+     */
+    public int processHideJobs() {
+        // 두 노드가 같은 배치를 동시에 처리하지 않도록 락 획득 (처리가 끝나면 해제)
+        String lockValue = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockValue, LOCK_TTL))) {
+            return 0;
+        }
+
+        try {
+            int hidden = 0;
+            for (Target target : Target.values()) {
+                String queueKey = queueKey(target);
+                for (int batch = 0; batch < MAX_BATCHES; batch++) {
+                    Set<String> members = redisTemplate.opsForSet().distinctRandomMembers(queueKey, BATCH_SIZE);
+                    if (members == null || members.isEmpty()) {
+                        break;
+                    }
+                    List<Long> targetIds = members.stream().map(Long::valueOf).toList();
+                    HideResult result = hide(target, targetIds);
+                    hidden += result.hidden();
+                    if (!result.completed()) {
+                        // 검색 인덱스 장애 - 큐에 남겨 두고 다음 주기에 재시도
+                        break;
+                    }
+                    redisTemplate.opsForSet().remove(queueKey, members.toArray());
+                    if (members.size() < BATCH_SIZE) {
+                        break;
+                    }
+                }
+            }
+            return hidden;
+        } finally {
+            releaseLock(lockValue);
+        }
+    }
+
+    private HideResult hide(Target target, List<Long> targetIds) {
+        return switch (target) {
+            case POST -> hidePosts(targetIds);
+            case COMMENT -> hideComments(targetIds);
+        };
+    }
+
+    private HideResult hidePosts(List<Long> postIds) {
+        Integer hidden = transactionTemplate.execute(status -> {
+            List<PostRepository.ModerationView> candidates = postRepository.findHideCandidates(postIds, HIDE_THRESHOLD);
+            if (candidates.isEmpty()) {
+                return 0;
+            }
+            postRepository.markAsReportedByIds(candidates.stream().map(PostRepository.ModerationView::getId).toList());
+            // 게시글 상세 / 홈 화면 캐시, 인기글 랭킹은 기존 리스너가 커밋 이후 반영
+            candidates.forEach(candidate ->
+                    eventPublisher.publishEvent(new PostReportedEvent(candidate.getId(), candidate.getCategory())));
+            return candidates.size();
+        });
+        // 이미 숨겨진(이전 배치에서 인덱스 삭제만 실패한) 게시글도 함께 삭제
+        return new HideResult(hidden != null ? hidden : 0, deleteFromSearchIndex(postIds));
+    }
+
+    private HideResult hideComments(List<Long> commentIds) {
+        Integer hidden = transactionTemplate.execute(status -> {
+            List<CommentRepository.ModerationView> candidates = commentRepository.findHideCandidates(commentIds, HIDE_THRESHOLD);
+            if (candidates.isEmpty()) {
+                return 0;
+            }
+            commentRepository.markAsReportedByIds(candidates.stream().map(CommentRepository.ModerationView::getId).toList());
+            // 목록에는 신고로 삭제된 댓글로 보이도록 게시글별 댓글 페이지 캐시 무효화
+            candidates.stream()
+                    .map(CommentRepository.ModerationView::getPostId)
+                    .distinct()
+                    .forEach(postId -> eventPublisher.publishEvent(new CommentChangedEvent(postId)));
+            return candidates.size();
+        });
+        return new HideResult(hidden != null ? hidden : 0, true);
+    }
+
+    /**
+     * 일부라도 실패하면 false 를 돌려 큐에 남기고, 다음 처리에서 배치 전체를 다시 삭제합니다. (숨김 / 삭제 모두 다시 실행해도 결과가 같음)
+     *
+     * @return 모든 문서 삭제 성공 여부 (이미 없는 문서 / 인덱스(404)는 성공으로 간주)
+     */
+    private boolean deleteFromSearchIndex(List<Long> postIds) {
+        try {
+            BulkResponse response = elasticsearchClient.bulk(bulk -> {
+                postIds.forEach(postId -> bulk.operations(op -> op
+                        .delete(delete -> delete.index(POST_INDEX).id(postId.toString()))));
+                return bulk;
+            });
+            if (!response.errors()) {
+                return true;
+            }
+            List<String> failedIds = response.items().stream()
+                    .filter(item -> item.error() != null && item.status() != 404)
+                    .map(BulkResponseItem::id)
+                    .toList();
+            if (failedIds.isEmpty()) {
+                return true;
+            }
+            log.warn("[신고 숨김] 검색 인덱스 삭제 일부 실패 {}/{} postIds={}", failedIds.size(), postIds.size(), failedIds);
+            return false;
+        } catch (IOException | ElasticsearchException e) {
+            log.warn("[신고 숨김] 검색 인덱스 삭제 실패 postIds={} {}", postIds, e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseLock(String lockValue) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), lockValue);
+        } catch (DataAccessException e) {
+            log.warn("[신고 숨김] 락 해제 실패, TTL 로 해제됩니다. {}", e.getMessage());
+        }
+    }
+
+    private String queueKey(Target target) {
+        return QUEUE_KEY_PREFIX + target.name().toLowerCase();
+    }
+
+    /// @param completed 큐에서 제거해도 되는지 여부
+    private record HideResult(int hidden, boolean completed) {
+    }
+}
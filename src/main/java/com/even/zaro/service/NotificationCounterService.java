@@ -0,0 +1,88 @@
+package com.even.zaro.service;
+
+import com.even.zaro.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 유저별 읽지 않은 알림 수 (notification:unread:{userId})
+ * - 조회 시 키가 없으면 (user_id, is_read) 인덱스로 한 번 세어서 적재합니다.
+ * - 알림 생성 / 읽음 처리가 커밋되면 증감분만 반영하고, 적재되지 않은 키는 건드리지 않습니다.
+ * 적재와 증감이 겹치거나 오래된 알림이 삭제되면 잠깐 어긋날 수 있어 TTL 로 주기적으로 다시 셉니다.
+ * Redis 장애 시에는 DB 에서 바로 셉니다.
+ */
+@Slf4j
+@Service
+public class NotificationCounterService {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+    private static final Duration TTL = Duration.ofHours(1);
+
+    // KEYS[1] = 카운터 / ARGV[1] = 증감분 : 적재된 카운터에만 반영하고 0 미만으로 내려가지 않도록 보정
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local count = redis.call('INCRBY', KEYS[1], ARGV[1])
+            if count < 0 then
+                redis.call('INCRBY', KEYS[1], -count)
+                return 0
+            end
+            return count
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final NotificationRepository notificationRepository;
+
+    public NotificationCounterService(RedisTemplate<String, String> redisTemplate,
+                                      NotificationRepository notificationRepository) {
+        this.redisTemplate = redisTemplate;
+        this.notificationRepository = notificationRepository;
+    }
+
+    public long getUnreadCount(Long userId) {
+        String key = key(userId);
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[알림 카운터] 조회 실패, DB 에서 셉니다. userId={} {}", userId, e.getMessage());
+            return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        }
+
+        long count = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        try {
+            // 그 사이 다른 요청이 적재했다면 그 값을 유지
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), TTL);
+        } catch (DataAccessException e) {
+            log.warn("[알림 카운터] 적재 실패 userId={} {}", userId, e.getMessage());
+        }
+        return count;
+    }
+
+    /// 커밋 이후 호출
+    public void add(Long userId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        try {
+            redisTemplate.execute(ADD_SCRIPT, List.of(key(userId)), String.valueOf(delta));
+        } catch (DataAccessException e) {
+            // 반영하지 못한 카운터는 TTL 이 지나면 다시 셈
+            log.warn("[알림 카운터] 증감분 반영 실패 userId={} delta={} {}", userId, delta, e.getMessage());
+        }
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -0,0 +1,112 @@
+package com.even.zaro.service;
+
+import com.even.zaro.dto.notification.NotificationDelivery;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * 노드 간 SSE 알림 전달
+ * SSE 연결은 연결을 받은 노드의 메모리에만 있으므로, 다른 노드에 연결된 유저의 알림은
+ * {@link NotificationPresenceRegistry} 로 찾은 노드들의 채널(notification:deliver:{nodeId}) 에만 발행합니다.
+ * (모든 노드에 broadcast X, 노드별로 한 메시지에 모아서 발행)
+ * Redis 장애 시에는 이 노드에 연결된 유저에게만 전송합니다.
+ */
+@Slf4j
+@Service
+public class NotificationDeliveryService implements MessageListener {
+
+    private static final String CHANNEL_PREFIX = "notification:deliver:";
+    private static final TypeReference<List<NotificationDelivery>> DELIVERIES_TYPE = new TypeReference<>() {
+    };
+
+    private final NotificationSseService notificationSseService;
+    private final NotificationPresenceRegistry notificationPresenceRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public NotificationDeliveryService(NotificationSseService notificationSseService,
+                                       NotificationPresenceRegistry notificationPresenceRegistry,
+                                       RedisTemplate<String, String> redisTemplate,
+                                       ObjectMapper objectMapper) {
+        this.notificationSseService = notificationSseService;
+        this.notificationPresenceRegistry = notificationPresenceRegistry;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /// 이 노드가 구독하는 채널
+    public String channel() {
+        return CHANNEL_PREFIX + notificationPresenceRegistry.nodeId();
+    }
+
+    /**
+     * @return 연결된 유저만 포함 (userId -> 연결을 가진 노드 id, 한 유저가 여러 노드에 연결돼 있을 수 있음)
+     */
+    public Map<Long, Set<String>> locate(Collection<Long> userIds) {
+        String localNode = notificationPresenceRegistry.nodeId();
+        List<Long> distinct = List.copyOf(new LinkedHashSet<>(userIds));
+        Map<Long, Set<String>> located = new HashMap<>();
+        try {
+            notificationPresenceRegistry.locate(distinct).forEach((userId, nodes) -> located.put(userId, new HashSet<>(nodes)));
+        } catch (DataAccessException e) {
+            log.warn("[알림 전달] 연결 위치 조회 실패, 이 노드의 연결에만 전송합니다. {}", e.getMessage());
+        }
+        // 이 노드의 연결은 Redis 기록과 관계없이 포함
+        distinct.stream()
+                .filter(notificationSseService::isConnected)
+                .forEach(userId -> located.computeIfAbsent(userId, id -> new HashSet<>()).add(localNode));
+        return located;
+    }
+
+    /**
+     * @param locations {@link #locate} 결과 (없는 유저는 건너뜀)
+     */
+    public void deliver(List<NotificationDelivery> deliveries, Map<Long, Set<String>> locations) {
+        String localNode = notificationPresenceRegistry.nodeId();
+        Map<String, List<NotificationDelivery>> byNode = new HashMap<>();
+        for (NotificationDelivery delivery : deliveries) {
+            locations.getOrDefault(delivery.userId(), Set.of())
+                    .forEach(node -> byNode.computeIfAbsent(node, key -> new ArrayList<>()).add(delivery));
+        }
+
+        byNode.forEach((node, nodeDeliveries) -> {
+            if (localNode.equals(node)) {
+                // 연결이 막 끊긴 유저도 재연결 시 다시 보낼 수 있도록 이 노드의 버퍼에 남김
+                sendLocal(nodeDeliveries);
+            } else {
+                publish(node, nodeDeliveries);
+            }
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            sendLocal(objectMapper.readValue(message.getBody(), DELIVERIES_TYPE));
+        } catch (IOException e) {
+            log.warn("[알림 전달] 메시지 해석 실패 {}", e.getMessage());
+        }
+    }
+
+    private void sendLocal(List<NotificationDelivery> deliveries) {
+        deliveries.forEach(delivery -> notificationSseService.send(delivery.userId(), delivery.notification()));
+    }
+
+    private void publish(String node, List<NotificationDelivery> deliveries) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + node, objectMapper.writeValueAsString(deliveries));
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("[알림 전달] 노드 {} 로 {}건 발행 실패 {}", node, deliveries.size(), e.getMessage());
+        }
+    }
+}
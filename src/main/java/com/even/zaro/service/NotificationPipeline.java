@@ -0,0 +1,426 @@
+package com.even.zaro.service;
+
+import com.even.zaro.dto.notification.NotificationCommand;
+import com.even.zaro.dto.notification.NotificationDelivery;
+import com.even.zaro.entity.Notification;
+import com.even.zaro.global.util.NotificationMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * 커밋 이후 비동기 알림 파이프라인
+ * - 1단계 (저장) : 요청 스레드는 {@link #submit} 으로 큐에 넣기만 하고, 전용 스레드가 최대 {@link #BATCH_SIZE} 개씩 모아
+ *   batch insert 한 뒤 읽지 않은 알림 수를 반영합니다.
+ * - 2단계 (전송) : 저장된 알림은 별도 executor 에서 DTO 로 일괄 변환해 재전송 버퍼에 남기고,
+ *   {@link NotificationDeliveryService} 로 연결을 가진 노드에 전달합니다.
+ * 저장 큐가 가득 차면 요청 스레드에서 바로 저장하고(유실 X), 전송 큐가 가득 차면 가장 오래된 전송을 버립니다.
+ * 좋아요 알림은 같은 (유저, 대상) 끼리 묶습니다.
+ * - notification.coalesce.window 동안 메모리에서 모아 한 건으로 저장 / 전송합니다.
+ * - 저장할 때 notification.coalesce.merge-window 안에 만든 읽지 않은 같은 알림이 있으면 지우고 합친 알림을 새로 저장합니다.
+ *   (제자리 update 대신 새 id 로 저장해야 목록 최신순과 SSE Last-Event-ID 재전송이 그대로 동작)
+ * (SSE 는 실시간 알림용이고, 알림 목록은 DB 에서 다시 조회할 수 있음)
+ */
+@Slf4j
+@Service
+public class NotificationPipeline {
+
+    private static final int INSERT_QUEUE_CAPACITY = 10_000;
+    private static final int DELIVERY_QUEUE_CAPACITY = 1_000;
+    private static final int BATCH_SIZE = 200;
+    private static final long POLL_TIMEOUT_MS = 500;
+    private static final int MAX_COALESCING_WINDOWS = 10_000;
+    // 댓글 / 팔로우는 대상(댓글 id, 팔로워 id)이 알림마다 달라 묶을 것이 없음
+    private static final Set<Notification.Type> COALESCED_TYPES = EnumSet.of(Notification.Type.LIKE);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO notification (user_id, actor_user_id, actor_count, type, target_id, is_read, created_at)
+            VALUES (?, ?, ?, ?, ?, false, ?)
+            """;
+
+    // (user_id, is_read, created_at) 인덱스 범위에서 대상만 거름
+    private static final String FIND_MERGEABLE_SQL = """
+            SELECT id, user_id, target_id, actor_count
+              FROM notification
+             WHERE user_id IN (%s)
+               AND is_read = false
+               AND created_at >= ?
+               AND type = ?
+             ORDER BY id
+            """;
+
+    // 그 사이 읽음 처리된 알림은 지우지 않음 (새 알림으로 따로 남김)
+    private static final String DELETE_MERGED_SQL = "DELETE FROM notification WHERE id = ? AND is_read = false";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationCounterService notificationCounterService;
+    private final NotificationDeliveryService notificationDeliveryService;
+    private final NotificationReplayBuffer notificationReplayBuffer;
+    private final NotificationMapper notificationMapper;
+
+    private final Duration coalesceWindow;
+    private final Duration mergeWindow;
+
+    private final BlockingQueue<NotificationCommand> insertQueue = new ArrayBlockingQueue<>(INSERT_QUEUE_CAPACITY);
+    private final Map<CoalesceKey, CoalescingWindow> windows = new ConcurrentHashMap<>();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong merged = new AtomicLong();
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong insertFailed = new AtomicLong();
+    private final AtomicLong insertOverflow = new AtomicLong();
+    private final AtomicLong deliveryDropped = new AtomicLong();
+
+    private ThreadPoolExecutor deliveryExecutor;
+    private Thread writer;
+    private volatile boolean running;
+
+    public NotificationPipeline(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                NotificationCounterService notificationCounterService,
+                                NotificationDeliveryService notificationDeliveryService,
+                                NotificationReplayBuffer notificationReplayBuffer,
+                                NotificationMapper notificationMapper,
+                                @Value("${notification.coalesce.window:30s}") Duration coalesceWindow,
+                                @Value("${notification.coalesce.merge-window:1h}") Duration mergeWindow) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 커밋 이후(AFTER_COMMIT) 요청 스레드에서 직접 저장할 때도 별도 트랜잭션으로 커밋되도록 REQUIRES_NEW
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.notificationCounterService = notificationCounterService;
+        this.notificationDeliveryService = notificationDeliveryService;
+        this.notificationReplayBuffer = notificationReplayBuffer;
+        this.notificationMapper = notificationMapper;
+        this.coalesceWindow = coalesceWindow;
+        this.mergeWindow = mergeWindow;
+    }
+
+    @PostConstruct
+    public void start() {
+        deliveryExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(DELIVERY_QUEUE_CAPACITY),
+                runnable -> Thread.ofPlatform().name("notification-delivery").daemon().unstarted(runnable),
+                (runnable, executor) -> {
+                    // 가장 오래된 전송을 버리고 새 전송을 넣음
+                    deliveryDropped.incrementAndGet();
+                    executor.getQueue().poll();
+                    executor.getQueue().offer(runnable);
+                });
+        running = true;
+        writer = Thread.ofPlatform().name("notification-writer").daemon().start(this::runWriter);
+        log.info("[알림 파이프라인] 시작");
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+        deliveryExecutor.shutdown();
+        deliveryExecutor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /// 커밋 이후 호출
+    public void submit(NotificationCommand command) {
+        if (COALESCED_TYPES.contains(command.type()) && coalesce(command)) {
+            return;
+        }
+        if (insertQueue.offer(command)) {
+            return;
+        }
+        // 저장 큐가 가득 찬 경우 알림을 버리지 않고 요청 스레드에서 바로 저장
+        insertOverflow.incrementAndGet();
+        log.warn("[알림 파이프라인] 저장 큐 가득 참, 요청 스레드에서 저장합니다. recipientId={}", command.recipientId());
+        process(List.of(command));
+    }
+
+    public Metrics metrics() {
+        return new Metrics(
+                insertQueue.size(),
+                windows.size(),
+                deliveryExecutor.getQueue().size(),
+                inserted.get(),
+                coalesced.get(),
+                merged.get(),
+                insertFailed.get(),
+                insertOverflow.get(),
+                deliveryDropped.get()
+        );
+    }
+
+    /**
+     * 같은 (유저, 종류, 대상) 의 열린 묶음에 합치거나 새 묶음을 엶
+     *
+     * @return false 면 묶지 않고 바로 저장 (열린 묶음이 너무 많은 경우)
+     */
+    private boolean coalesce(NotificationCommand command) {
+        CoalesceKey key = new CoalesceKey(command.recipientId(), command.type(), command.targetId());
+        if (windows.size() >= MAX_COALESCING_WINDOWS && !windows.containsKey(key)) {
+            return false;
+        }
+        windows.compute(key, (k, window) -> {
+            if (window == null) {
+                return new CoalescingWindow(command, System.nanoTime() + coalesceWindow.toNanos());
+            }
+            coalesced.incrementAndGet();
+            return window.add(command);
+        });
+        return true;
+    }
+
+    /// 묶음 시간이 지난 알림을 저장 대상으로 꺼냄 (종료 중이면 모두)
+    private void drainWindows(List<NotificationCommand> batch, boolean all) {
+        long now = System.nanoTime();
+        for (Map.Entry<CoalesceKey, CoalescingWindow> entry : windows.entrySet()) {
+            if (batch.size() >= BATCH_SIZE) {
+                return;
+            }
+            CoalescingWindow window = entry.getValue();
+            // 그 사이 합쳐진 묶음(새 인스턴스)이면 remove 가 실패하고 다음 주기에 꺼냄
+            if ((all || window.dueAt() <= now) && windows.remove(entry.getKey(), window)) {
+                batch.add(window.toCommand());
+            }
+        }
+    }
+
+    private void runWriter() {
+        List<NotificationCommand> batch = new ArrayList<>(BATCH_SIZE);
+        // 종료 요청 후에도 큐 / 묶음에 남은 알림은 모두 저장
+        while (running || !insertQueue.isEmpty() || !windows.isEmpty()) {
+            try {
+                NotificationCommand first = insertQueue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    insertQueue.drainTo(batch, BATCH_SIZE - 1);
+                }
+                drainWindows(batch, !running);
+                if (batch.isEmpty()) {
+                    continue;
+                }
+                process(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("[알림 파이프라인] 처리 중 오류 {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<NotificationCommand> batch) {
+        List<Inserted> saved;
+        try {
+            saved = transactionTemplate.execute(status -> insert(batch));
+        } catch (DataAccessException | TransactionException e) {
+            // 커넥션 / 커밋 실패도 여기서 처리해야 저장 스레드가 멈추지 않고, 커밋 이후 리스너(overflow)로 전파되지 않음
+            insertFailed.addAndGet(batch.size());
+            log.warn("[알림 파이프라인] 알림 {}건 저장 실패 {}", batch.size(), e.getMessage());
+            return;
+        }
+        if (saved == null || saved.isEmpty()) {
+            return;
+        }
+        inserted.addAndGet(saved.size());
+
+        // 읽지 않은 알림에 합쳐진 경우는 읽지 않은 알림 수가 그대로
+        saved.stream()
+                .filter(row -> !row.merged())
+                .collect(Collectors.groupingBy(Inserted::recipientId, Collectors.summingInt(row -> 1)))
+                .forEach(notificationCounterService::add);
+
+        deliveryExecutor.execute(() -> deliver(saved));
+    }
+
+    private List<Inserted> insert(List<NotificationCommand> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<CoalesceKey, Mergeable> mergeable = findMergeable(batch, now.minus(mergeWindow));
+
+        List<Mergeable> previous = new ArrayList<>(batch.size());
+        for (NotificationCommand command : batch) {
+            previous.add(mergeable.remove(new CoalesceKey(command.recipientId(), command.type(), command.targetId())));
+        }
+        boolean[] deleted = deleteMerged(previous);
+
+        // 조회 이후 읽음 처리돼 지우지 못한 알림은 그대로 남으므로, 그 행위자 수는 더하지 않음
+        List<NotificationCommand> rows = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            NotificationCommand command = batch.get(i);
+            rows.add(!deleted[i] ? command : new NotificationCommand(command.recipientId(), command.actorId(),
+                    command.type(), command.targetId(), command.actorCount() + previous.get(i).actorCount()));
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Inserted>>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (NotificationCommand command : rows) {
+                    statement.setLong(1, command.recipientId());
+                    statement.setLong(2, command.actorId());
+                    statement.setInt(3, command.actorCount());
+                    statement.setString(4, command.type().name());
+                    statement.setLong(5, command.targetId());
+                    statement.setTimestamp(6, Timestamp.valueOf(now));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Inserted> saved = new ArrayList<>(rows.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (int i = 0; keys.next() && i < rows.size(); i++) {
+                        NotificationCommand command = rows.get(i);
+                        saved.add(new Inserted(command.recipientId(), deleted[i], Notification.builder()
+                                .id(keys.getLong(1))
+                                .actorUserId(command.actorId())
+                                .actorCount(command.actorCount())
+                                .type(command.type())
+                                .targetId(command.targetId())
+                                .isRead(false)
+                                .createdAt(now)
+                                .build()));
+                    }
+                }
+                return saved;
+            }
+        });
+    }
+
+    /// 배치의 묶는 종류 알림과 합칠 수 있는 읽지 않은 알림 (같은 키가 여럿이면 가장 최근 것)
+    private Map<CoalesceKey, Mergeable> findMergeable(List<NotificationCommand> batch, LocalDateTime since) {
+        Map<CoalesceKey, Mergeable> mergeable = new HashMap<>();
+        for (Notification.Type type : COALESCED_TYPES) {
+            Set<CoalesceKey> keys = batch.stream()
+                    .filter(command -> command.type() == type)
+                    .map(command -> new CoalesceKey(command.recipientId(), type, command.targetId()))
+                    .collect(Collectors.toSet());
+            if (keys.isEmpty()) {
+                continue;
+            }
+            List<Long> recipientIds = keys.stream().map(CoalesceKey::recipientId).distinct().toList();
+            List<Object> args = new ArrayList<>(recipientIds);
+            args.add(Timestamp.valueOf(since));
+            args.add(type.name());
+
+            String placeholders = String.join(", ", Collections.nCopies(recipientIds.size(), "?"));
+            jdbcTemplate.query(FIND_MERGEABLE_SQL.formatted(placeholders), rs -> {
+                CoalesceKey key = new CoalesceKey(rs.getLong("user_id"), type, rs.getLong("target_id"));
+                if (keys.contains(key)) {
+                    mergeable.put(key, new Mergeable(rs.getLong("id"), rs.getInt("actor_count")));
+                }
+            }, args.toArray());
+        }
+        return mergeable;
+    }
+
+    /// @return 행마다 합칠 알림(null 이면 없음)을 실제로 지웠는지
+    private boolean[] deleteMerged(List<Mergeable> previous) {
+        boolean[] deleted = new boolean[previous.size()];
+        List<Integer> positions = new ArrayList<>();
+        List<Object[]> args = new ArrayList<>();
+        for (int i = 0; i < previous.size(); i++) {
+            if (previous.get(i) != null) {
+                positions.add(i);
+                args.add(new Object[]{previous.get(i).id()});
+            }
+        }
+        if (args.isEmpty()) {
+            return deleted;
+        }
+        int[] counts = jdbcTemplate.batchUpdate(DELETE_MERGED_SQL, args);
+        for (int i = 0; i < counts.length; i++) {
+            // SUCCESS_NO_INFO(-2) 는 지운 것으로 간주
+            deleted[positions.get(i)] = counts[i] != 0;
+            if (deleted[positions.get(i)]) {
+                merged.incrementAndGet();
+            }
+        }
+        return deleted;
+    }
+
+    /// 한 번에 DTO 로 변환해서 재전송 버퍼에 남기고, 연결 중인 유저(다른 노드 포함)에게 전송
+    private void deliver(List<Inserted> saved) {
+        Map<Long, Long> recipients = saved.stream()
+                .collect(Collectors.toMap(row -> row.notification().getId(), Inserted::recipientId));
+        List<NotificationDelivery> deliveries;
+        try {
+            // 대상(게시글/댓글)이나 행위자가 그 사이 삭제된 알림만 빼고 전송 - 알림 목록에서는 다시 조회 가능
+            deliveries = notificationMapper.toDtosSkippingMissing(saved.stream().map(Inserted::notification).toList())
+                    .stream()
+                    .map(dto -> new NotificationDelivery(recipients.get(dto.getId()), dto))
+                    .toList();
+        } catch (RuntimeException e) {
+            log.warn("[알림 파이프라인] 알림 {}건 실시간 전송 실패 {}", saved.size(), e.getMessage());
+            return;
+        }
+        if (deliveries.size() < saved.size()) {
+            log.info("[알림 파이프라인] 대상이 삭제된 알림 {}건 실시간 전송 생략", saved.size() - deliveries.size());
+        }
+        if (deliveries.isEmpty()) {
+            return;
+        }
+
+        notificationReplayBuffer.remember(deliveries);
+        Map<Long, Set<String>> locations = notificationDeliveryService.locate(
+                deliveries.stream().map(NotificationDelivery::userId).toList());
+        notificationDeliveryService.deliver(deliveries, locations);
+    }
+
+    private record CoalesceKey(Long recipientId, Notification.Type type, Long targetId) {
+    }
+
+    /// 불변 - 합칠 때마다 새 인스턴스 (drainWindows 의 remove(key, value) 비교용)
+    private record CoalescingWindow(NotificationCommand latest, int actorCount, long dueAt) {
+
+        private CoalescingWindow(NotificationCommand first, long dueAt) {
+            this(first, first.actorCount(), dueAt);
+        }
+
+        private CoalescingWindow add(NotificationCommand command) {
+            return new CoalescingWindow(command, actorCount + command.actorCount(), dueAt);
+        }
+
+        private NotificationCommand toCommand() {
+            return new NotificationCommand(latest.recipientId(), latest.actorId(), latest.type(), latest.targetId(), actorCount);
+        }
+    }
+
+    private record Mergeable(Long id, int actorCount) {
+    }
+
+    /// @param merged 읽지 않은 기존 알림을 지우고 합친 경우
+    private record Inserted(Long recipientId, boolean merged, Notification notification) {
+    }
+
+    /**
+     * @param insertQueueDepth 저장 대기 중인 알림 수
+     * @param coalescingWindows 묶는 중인 (유저, 종류, 대상) 수
+     * @param deliveryQueueDepth 전송 대기 중인 배치 수
+     * @param inserted 저장한 알림 수 (누적)
+     * @param coalesced 메모리에서 다른 알림에 합쳐진 알림 수 (누적)
+     * @param merged 저장할 때 읽지 않은 기존 알림과 합친 수 (누적)
+     * @param insertFailed 저장에 실패한 알림 수 (누적)
+     * @param insertOverflow 저장 큐가 가득 차 요청 스레드에서 저장한 알림 수 (누적)
+     * @param deliveryDropped 전송 큐가 가득 차 버린 배치 수 (누적)
+     */
+    public record Metrics(int insertQueueDepth, int coalescingWindows, int deliveryQueueDepth, long inserted,
+                          long coalesced, long merged, long insertFailed, long insertOverflow, long deliveryDropped) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.even.zaro.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * SSE 연결 위치 (notification:presence:{userId} = 연결을 가진 노드 id 의 sorted set, score = 만료 시각)
+ * 한 유저가 여러 노드에 연결(탭)을 가질 수 있어 노드마다 따로 만료 시각을 둡니다.
+ * - 연결 시 기록하고, ping 주기마다 이 노드에 연결된 유저의 만료 시각을 갱신합니다.
+ * - 이 노드의 마지막 연결이 끊기면 {@link #GRACE} 동안만 유지해서, 곧바로 다시 연결하는 동안의 알림도
+ *   이 노드로 전달돼 다시 보내기(replay) 버퍼에 남도록 합니다.
+ * 노드가 비정상 종료되면 기록은 만료 시각이 지나 무시되고, 그 사이 해당 노드로 발행된 알림은 전달되지 않습니다.
+ */
+@Slf4j
+@Service
+public class NotificationPresenceRegistry {
+
+    public static final Duration TTL = Duration.ofSeconds(90);
+    public static final Duration GRACE = Duration.ofSeconds(30);
+    private static final String KEY_PREFIX = "notification:presence:";
+
+    // 재시작하면 새 id 를 사용 (이전 프로세스 앞으로 남은 기록은 만료 시각으로 무시)
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public NotificationPresenceRegistry(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public void register(Long userId) {
+        refresh(List.of(userId));
+    }
+
+    /// 이 노드에 연결된 유저의 만료 시각 갱신
+    public void refresh(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            write(userIds, TTL);
+        } catch (DataAccessException e) {
+            log.warn("[알림 연결 위치] 갱신 실패 {}명 {}", userIds.size(), e.getMessage());
+        }
+    }
+
+    /// 이 노드의 마지막 연결이 끊긴 경우 (바로 지우지 않고 GRACE 동안 유지)
+    public void unregister(Long userId) {
+        try {
+            write(List.of(userId), GRACE);
+        } catch (DataAccessException e) {
+            log.warn("[알림 연결 위치] 종료 반영 실패 userId={} {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * @return 연결된 유저만 포함 (userId -> 연결을 가진 노드 id)
+     * @throws DataAccessException Redis 장애 시
+     */
+    public Map<Long, Set<String>> locate(List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        double now = System.currentTimeMillis();
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                userIds.forEach(userId -> ops.opsForZSet().rangeByScore(key(userId), now, Double.POSITIVE_INFINITY));
+                return null;
+            }
+        });
+
+        Map<Long, Set<String>> located = new HashMap<>();
+        for (int i = 0; i < userIds.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Set<String> nodes = (Set<String>) results.get(i);
+            if (nodes != null && !nodes.isEmpty()) {
+                located.put(userIds.get(i), nodes);
+            }
+        }
+        return located;
+    }
+
+    private void write(Collection<Long> userIds, Duration ttl) {
+        long now = System.currentTimeMillis();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                userIds.forEach(userId -> {
+                    String key = key(userId);
+                    ops.opsForZSet().add(key, nodeId, now + ttl.toMillis());
+                    // 만료된 노드 정리
+                    ops.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, now);
+                    ops.expire(key, TTL);
+                });
+                return null;
+            }
+        });
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
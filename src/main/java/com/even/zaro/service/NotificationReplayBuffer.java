@@ -0,0 +1,159 @@
+package com.even.zaro.service;
+
+import com.even.zaro.dto.notification.NotificationDelivery;
+import com.even.zaro.dto.notification.NotificationDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * SSE 재연결 시 놓친 알림을 다시 보내기 위한 유저별 최근 알림 버퍼 (이벤트 id = 알림 id)
+ * - 로컬 : 이 노드로 전달된 알림 (연결이 끊긴 뒤 GRACE 동안 전달된 것 포함)
+ *   이 노드가 끊김 없이 연결 위치로 등록돼 있던 경우에만 빠짐없는 것으로 보고 사용합니다.
+ * - Redis (notification:replay:{userId}) : 알림 파이프라인이 저장한 모든 알림 (다른 노드로 재연결한 경우)
+ * 두 버퍼 모두 Last-Event-ID 이후를 빠짐없이 담고 있다고 확인할 수 없으면 null 을 반환하고,
+ * 이때 클라이언트는 알림 목록을 다시 조회합니다.
+ */
+@Slf4j
+@Service
+public class NotificationReplayBuffer {
+
+    private static final String KEY_PREFIX = "notification:replay:";
+    private static final int CAPACITY = 50;
+    private static final Duration RETENTION = Duration.ofMinutes(10);
+    private static final long LOCAL_MAX_USERS = 100_000;
+
+    private final Cache<Long, LocalBuffer> local = Caffeine.newBuilder()
+            .expireAfterAccess(RETENTION)
+            .maximumSize(LOCAL_MAX_USERS)
+            .build();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public NotificationReplayBuffer(RedisTemplate<String, String> redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /// 알림 파이프라인이 저장 직후 호출 (연결 여부와 관계없이 모든 수신자)
+    public void remember(List<NotificationDelivery> deliveries) {
+        if (deliveries.isEmpty()) {
+            return;
+        }
+        try {
+            List<String[]> entries = new ArrayList<>(deliveries.size());
+            for (NotificationDelivery delivery : deliveries) {
+                entries.add(new String[]{key(delivery.userId()), objectMapper.writeValueAsString(delivery.notification())});
+            }
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    entries.forEach(entry -> {
+                        ops.opsForList().rightPush(entry[0], entry[1]);
+                        ops.opsForList().trim(entry[0], -CAPACITY, -1);
+                        ops.expire(entry[0], RETENTION);
+                    });
+                    return null;
+                }
+            });
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("[알림 재전송 버퍼] {}건 저장 실패 {}", deliveries.size(), e.getMessage());
+        }
+    }
+
+    /// 이 노드로 전달된 알림 기록
+    public void recordLocal(Long userId, NotificationDto dto) {
+        local.get(userId, id -> new LocalBuffer()).add(dto);
+    }
+
+    /// 이 노드가 연결 위치로 등록돼 있는 시각 갱신 (연결 위치 기록과 같은 만료 시각)
+    public void coveredUntil(Long userId, Duration ttl) {
+        local.get(userId, id -> new LocalBuffer()).cover(System.currentTimeMillis() + ttl.toMillis());
+    }
+
+    /**
+     * @return lastEventId 이후 알림 (id 오름차순), 빠짐없이 찾을 수 없으면 null
+     */
+    public List<NotificationDto> missedSince(Long userId, long lastEventId) {
+        LocalBuffer buffer = local.getIfPresent(userId);
+        if (buffer != null) {
+            List<NotificationDto> missed = buffer.since(lastEventId);
+            if (missed != null) {
+                return missed;
+            }
+        }
+        return remoteSince(userId, lastEventId);
+    }
+
+    private List<NotificationDto> remoteSince(Long userId, long lastEventId) {
+        try {
+            List<String> values = redisTemplate.opsForList().range(key(userId), 0, -1);
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            List<NotificationDto> events = new ArrayList<>(values.size());
+            for (String value : values) {
+                events.add(objectMapper.readValue(value, NotificationDto.class));
+            }
+            return since(events, lastEventId);
+        } catch (JsonProcessingException | DataAccessException e) {
+            log.warn("[알림 재전송 버퍼] 조회 실패 userId={} {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /// 가장 오래된 알림이 lastEventId 보다 새로우면 그 사이가 잘렸을 수 있으므로 null
+    private static List<NotificationDto> since(Collection<NotificationDto> buffered, long lastEventId) {
+        // 노드마다 저장 순서가 조금씩 어긋날 수 있어 id 로 정렬
+        List<NotificationDto> events = buffered.stream()
+                .sorted(Comparator.comparing(NotificationDto::getId))
+                .toList();
+        if (events.isEmpty() || events.get(0).getId() > lastEventId) {
+            return null;
+        }
+        return events.stream()
+                .filter(event -> event.getId() > lastEventId)
+                .toList();
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static class LocalBuffer {
+        private final Deque<NotificationDto> events = new ArrayDeque<>(CAPACITY);
+        private long coveredUntil;
+
+        private synchronized void add(NotificationDto dto) {
+            if (events.size() == CAPACITY) {
+                events.removeFirst();
+            }
+            events.addLast(dto);
+        }
+
+        // 연결 위치 기록처럼 마지막 값으로 덮어씀 (연결 종료 시 GRACE 로 줄어듦)
+        private synchronized void cover(long until) {
+            coveredUntil = until;
+        }
+
+        /// 연결 위치 등록이 끊긴 적이 있으면 그 사이 알림은 이 노드로 오지 않았으므로 null
+        private synchronized List<NotificationDto> since(long lastEventId) {
+            if (System.currentTimeMillis() > coveredUntil) {
+                return null;
+            }
+            return NotificationReplayBuffer.since(events, lastEventId);
+        }
+    }
+}
@@ -1,15 +1,23 @@
 package com.even.zaro.service;
 
+import com.even.zaro.dto.CursorResponse;
+import com.even.zaro.dto.notification.NotificationCommand;
 import com.even.zaro.dto.notification.NotificationDto;
 import com.even.zaro.entity.*;
 import com.even.zaro.global.ErrorCode;
+import com.even.zaro.global.event.event.UnreadNotificationCountChangedEvent;
 import com.even.zaro.global.exception.notification.NotificationException;
 import com.even.zaro.global.exception.user.UserException;
+import com.even.zaro.global.util.CursorCodec;
 import com.even.zaro.global.util.NotificationMapper;
 import com.even.zaro.repository.NotificationRepository;
+import com.even.zaro.repository.PostRepository;
 import com.even.zaro.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,10 +29,15 @@ import java.util.List;
 @Slf4j
 public class NotificationService {
 
+    private static final int MAX_INBOX_SIZE = 50;
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final PostRepository postRepository;
     private final NotificationMapper notificationMapper;
-    private final NotificationSseService notificationSseService;
+    private final NotificationPipeline notificationPipeline;
+    private final NotificationCounterService notificationCounterService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public List<NotificationDto> getNotificationsList(Long userId) {
@@ -33,12 +46,42 @@ public class NotificationService {
 
         List<Notification> notifications = notificationRepository.findAllByUserOrderByCreatedAtDesc(user);
 
-        return notifications.stream()
-                .map(notificationMapper::toDto)
-                .toList();
+        // 행위자 / 게시글 / 댓글은 목록 전체를 종류별로 한 번씩 조회
+        return notificationMapper.toDtos(notifications);
+    }
+
+    /**
+     * (createdAt, id) 기준 seek 방식 알림함 조회 (최신순)
+     * 다음 페이지 존재 여부는 size + 1 개를 조회해서 판단합니다. (OFFSET / COUNT 쿼리 X)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<NotificationDto> getNotificationInbox(Long userId, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_INBOX_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        CursorCodec.Position position = CursorCodec.decode(cursor);
+        List<Notification> notifications = position == null
+                ? notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit)
+                : notificationRepository.findByUserIdBeforeCursor(userId, position.createdAt(), position.id(), limit);
+
+        boolean hasNext = notifications.size() > pageSize;
+        List<Notification> pageNotifications = hasNext ? notifications.subList(0, pageSize) : notifications;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Notification last = pageNotifications.get(pageNotifications.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return new CursorResponse<>(notificationMapper.toDtos(pageNotifications), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public long getUnreadCount(Long userId) {
+        return notificationCounterService.getUnreadCount(userId);
     }
 
-    @Transactional
+    /// 커밋 이후 호출 - 저장 / 읽지 않은 알림 수 반영 / SSE 전송은 {@link NotificationPipeline} 에서 비동기로 처리
     public void createCommentNotification(Comment comment) {
         User postOwner = comment.getPost().getUser(); // 게시글 작성자
         User commentAuthor = comment.getUser(); // 댓글 작성자
@@ -46,71 +89,53 @@ public class NotificationService {
         // 댓글 작성자==게시글 작성자일 때는 알림 생성 X
         if (postOwner.getId().equals(commentAuthor.getId())) return;
 
-        Notification notification = new Notification();
-        notification.setUser(postOwner);
-        notification.setActorUserId(commentAuthor.getId());
-        notification.setType(Notification.Type.COMMENT);
-        notification.setTargetId(comment.getId());
-        notification.setRead(false);
+        notificationPipeline.submit(new NotificationCommand(
+                postOwner.getId(), commentAuthor.getId(), Notification.Type.COMMENT, comment.getId()));
+    }
 
-        Notification saved = notificationRepository.save(notification);
+    /// 커밋 이후 호출
+    public void createPostLikeNotification(PostLike postLike) {
+        submitPostLike(postLike.getPost().getUser().getId(), postLike.getUser().getId(), postLike.getPost().getId());
+    }
 
-        // sse 실시간 전송
-        notificationSseService.send(postOwner.getId(), saved);
+    /// 커밋 이후 호출 (좋아요는 엔티티 없이 추가되므로 게시글 작성자 id 만 조회)
+    public void createPostLikeNotification(Long likeUserId, Long postId) {
+        postRepository.findUserIdById(postId)
+                .ifPresent(postOwnerId -> submitPostLike(postOwnerId, likeUserId, postId));
     }
 
-    @Transactional
-    public void createPostLikeNotification(PostLike postLike) {
-        User postOwner = postLike.getPost().getUser(); // 게시물 작성자
-        User likeUser = postLike.getUser(); // 좋아요 누른 유저
-
-        // 댓글 작성자==좋아요 누른 유저 일 때는 알림 생성 X
-        if (!postOwner.getId().equals(likeUser.getId())) {
-            Notification notification = new Notification();
-            notification.setUser(postOwner);
-            notification.setActorUserId(likeUser.getId());
-            notification.setType(Notification.Type.LIKE);
-            notification.setTargetId(postLike.getPost().getId());
-            notification.setRead(false);
-
-            Notification saved = notificationRepository.save(notification);
-
-            // sse 실시간 전송
-            notificationSseService.send(postOwner.getId(), saved);
+    private void submitPostLike(Long postOwnerId, Long likeUserId, Long postId) {
+        // 게시물 작성자==좋아요 누른 유저 일 때는 알림 생성 X
+        if (!postOwnerId.equals(likeUserId)) {
+            notificationPipeline.submit(new NotificationCommand(
+                    postOwnerId, likeUserId, Notification.Type.LIKE, postId));
         }
     }
 
-    @Transactional
+    /// 커밋 이후 호출
     public void createFollowNotification(Follow follow) {
         User followee = follow.getFollowee(); // 팔로우 당한 사용자 (알림 대상)
         User follower = follow.getFollower(); // 팔로우 한 사용자
 
-        Notification notification = new Notification();
-        notification.setUser(followee);
-        notification.setActorUserId(follower.getId());
-        notification.setType(Notification.Type.FOLLOW);
-        notification.setTargetId(follower.getId()); // 팔로우 한 사용자 userId
-        notification.setRead(false);
-
-        Notification saved = notificationRepository.save(notification);
-
-        // sse 실시간 전송
-        notificationSseService.send(followee.getId(), saved);
+        // 팔로우 알림의 대상은 팔로우 한 사용자 userId
+        notificationPipeline.submit(new NotificationCommand(
+                followee.getId(), follower.getId(), Notification.Type.FOLLOW, follower.getId()));
     }
 
     public void markAsRead(Long notificationId, Long userId) {
         Notification notification = notificationRepository.findByIdAndUserId(notificationId, userId)
                 .orElseThrow(() -> new NotificationException(ErrorCode.NOTIFICATION_NOT_FOUND));
 
-        notification.markAsRead(); // isRead = true
+        if (!notification.isRead()) {
+            notification.markAsRead(); // isRead = true
+            eventPublisher.publishEvent(new UnreadNotificationCountChangedEvent(userId, -1));
+        }
     }
 
     public void markAllAsRead(Long userId) {
-        List<Notification> notifications = notificationRepository.findAllByUserIdAndIsReadFalse(userId);
-        notifications.forEach(n -> {
-            if (!n.isRead()) {
-                n.setRead(true);
-            }
-        });
+        int updated = notificationRepository.markAllAsReadByUserId(userId);
+        if (updated > 0) {
+            eventPublisher.publishEvent(new UnreadNotificationCountChangedEvent(userId, -updated));
+        }
     }
 }
@@ -1,120 +1,335 @@
 package com.even.zaro.service;
 
 import com.even.zaro.dto.notification.NotificationDto;
-import com.even.zaro.entity.Notification;
-import com.even.zaro.global.util.NotificationMapper;
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.time.Instant;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * SSE 연결 관리
+ * - 한 유저가 여러 연결(탭)을 가질 수 있고, 알림은 모든 연결로 보냅니다. (유저당 최대 {@link #MAX_CONNECTIONS_PER_USER} 개)
+ * - 연결마다 크기가 정해진 전송 큐를 두고, 큐가 빌 때까지 가상 스레드 하나가 순서대로 보냅니다.
+ *   호출 스레드(알림 파이프라인 / Redis 구독 / 스케줄러)는 큐에 넣기만 하므로 느린 클라이언트가 다른 연결을 막지 않습니다.
+ * - 알림이 큐에 들어가지 못하면(클라이언트가 따라오지 못함) 연결을 끊어 다시 연결하게 하고, ping 은 그냥 버립니다.
+ * - ping 은 연결을 {@link #HEARTBEAT_SLICES} 개 구간으로 나눠 1초마다 한 구간씩 보냅니다. (30초에 한 번씩, 한꺼번에 X)
+ * - 알림 이벤트의 id 는 알림 id 이고, Last-Event-ID 로 재연결하면 {@link NotificationReplayBuffer} 에서 놓친 알림만 다시 보냅니다.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationSseService {
 
-    private static class EmitterInfo {
-        private final SseEmitter emitter;
-        private Instant lastEventTime;
+    private static final long TIMEOUT_MS = 10800000L; // 클라이언트와 동일하게 timeout 3시간으로 설정
+    private static final int QUEUE_CAPACITY = 100;
+    private static final int MAX_CONNECTIONS_PER_USER = 5;
+    private static final int HEARTBEAT_SLICES = 30;
+    private static final int SLOWEST_CONNECTIONS = 20;
 
-        public EmitterInfo(SseEmitter emitter) {
-            this.emitter = emitter;
-            this.lastEventTime = Instant.now();
-        }
-
-        public SseEmitter getEmitter() {
-            return emitter;
-        }
+    private final Map<Long, Set<SseConnection>> emitters = new ConcurrentHashMap<>();
+    private final List<Set<SseConnection>> heartbeatSlices = new ArrayList<>(HEARTBEAT_SLICES);
+    private final AtomicLong connectionSequence = new AtomicLong();
+    private final AtomicLong heartbeatTick = new AtomicLong();
+    private final ExecutorService writers = Executors.newVirtualThreadPerTaskExecutor();
+    private final NotificationPresenceRegistry notificationPresenceRegistry;
+    private final NotificationReplayBuffer notificationReplayBuffer;
 
-        public void updateLastEventTime() {
-            this.lastEventTime = Instant.now();
+    public NotificationSseService(NotificationPresenceRegistry notificationPresenceRegistry,
+                                  NotificationReplayBuffer notificationReplayBuffer) {
+        this.notificationPresenceRegistry = notificationPresenceRegistry;
+        this.notificationReplayBuffer = notificationReplayBuffer;
+        for (int i = 0; i < HEARTBEAT_SLICES; i++) {
+            heartbeatSlices.add(ConcurrentHashMap.newKeySet());
         }
     }
 
-    private final Map<Long, EmitterInfo> emitters = new ConcurrentHashMap<>();
-    private final NotificationMapper notificationMapper;
-
-    @PostConstruct
-    public void startPingTask() {
-        log.info("[SSE] Ping 작업 초기화 완료");
+    @PreDestroy
+    public void shutdown() {
+        writers.shutdownNow();
     }
 
-    // 30초마다 모든 클라이언트에게 ping 이벤트 전송
-    @Scheduled(fixedRate = 30000) // 30초마다 실행
+    // 1초마다 한 구간의 클라이언트에게 ping 이벤트 전송 (연결마다 30초에 한 번)
+    @Scheduled(fixedRate = 1000)
     public void sendPingToAllClients() {
-        for (Iterator<Map.Entry<Long, EmitterInfo>> it = emitters.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<Long, EmitterInfo> entry = it.next();
-            Long userId = entry.getKey();
-            EmitterInfo info = entry.getValue();
-            try {
-                info.getEmitter().send(SseEmitter.event().name("ping").data("keep-alive"));
-                info.updateLastEventTime();
-                log.debug("[SSE] 유저 {} 에게 ping 전송", userId);
-            } catch (IOException e) {
-                log.warn("[SSE] 유저 {} ping 전송 실패 → emitter 제거", userId);
-                it.remove();
-            }
+        Set<SseConnection> slice = heartbeatSlices.get((int) (heartbeatTick.getAndIncrement() % HEARTBEAT_SLICES));
+        if (slice.isEmpty()) {
+            return;
         }
+        Set<Long> userIds = new HashSet<>();
+        for (SseConnection connection : slice) {
+            connection.enqueue(SseEmitter.event().name("ping").data("keep-alive"), false);
+            userIds.add(connection.userId);
+        }
+        // 다른 노드가 이 노드의 연결을 찾을 수 있도록 연결 위치 만료 시각 갱신
+        notificationPresenceRegistry.refresh(userIds);
+        userIds.forEach(userId -> notificationReplayBuffer.coveredUntil(userId, NotificationPresenceRegistry.TTL));
     }
 
-    public SseEmitter connect(Long userId) {
-        log.info("[SSE] 유저 {} 연결 시도", userId);
-        long timeout = 10800000L; // 클라이언트와 동일하게 timeout 3시간으로 설정
+    /**
+     * @param lastEventId 재연결 시 클라이언트가 마지막으로 받은 알림 id (Last-Event-ID, 없으면 null)
+     */
+    public SseEmitter connect(Long userId, String lastEventId) {
+        log.info("[SSE] 유저 {} 연결 시도 (Last-Event-ID={})", userId, lastEventId);
+
+        SseEmitter emitter = createEmitter(TIMEOUT_MS);
+        SseConnection connection = new SseConnection(userId, emitter, connectionSequence.getAndIncrement());
 
-        SseEmitter emitter = new SseEmitter(timeout);
-        EmitterInfo emitterInfo = new EmitterInfo(emitter);
-        emitters.put(userId, emitterInfo);
+        // 다시 보낼 알림을 찾는 동안 들어온 알림은 연결에 모아 뒀다가 다시 보낸 알림 뒤에 보냄
+        connection.enqueue(SseEmitter.event().name("connect").data("SSE 연결 완료"), true);
+        add(connection);
+        notificationPresenceRegistry.register(userId);
+
+        // 이 노드가 계속 연결 위치였는지는 만료 시각을 갱신하기 전에 확인
+        Long lastId = parseEventId(lastEventId);
+        List<NotificationDto> missed = lastId != null ? notificationReplayBuffer.missedSince(userId, lastId) : List.of();
+        notificationReplayBuffer.coveredUntil(userId, NotificationPresenceRegistry.TTL);
+
+        if (missed == null) {
+            log.info("[SSE] 유저 {} 놓친 알림을 확인할 수 없음 → reset 이벤트 전송", userId);
+            connection.enqueue(SseEmitter.event().name("reset").data("알림 목록을 다시 조회해 주세요"), true);
+            connection.finishReplay(List.of());
+        } else {
+            connection.finishReplay(missed);
+        }
 
         emitter.onCompletion(() -> {
             log.info("[SSE] 유저 {} 연결 종료 (onCompletion)", userId);
-            emitters.remove(userId);
+            remove(connection);
         });
 
         emitter.onTimeout(() -> {
             log.info("[SSE] 유저 {} 연결 타임아웃 (onTimeout)", userId);
-            emitters.remove(userId);
+            remove(connection);
         });
 
         emitter.onError((e) -> {
             log.warn("[SSE] 유저 {} 오류 발생: {}", userId, e.getMessage());
-            emitters.remove(userId);
+            remove(connection);
         });
 
+        return emitter;
+    }
+
+    public boolean isConnected(Long userId) {
+        return emitters.containsKey(userId);
+    }
+
+    /// 재전송 버퍼에 남기고 유저의 모든 연결 전송 큐에 넣음 (실제 전송은 연결별 가상 스레드)
+    public void send(Long userId, NotificationDto dto) {
+        notificationReplayBuffer.recordLocal(userId, dto);
+        Set<SseConnection> connections = emitters.get(userId);
+        if (connections == null) {
+            log.debug("[SSE] 유저 {} 는 현재 연결되지 않음", userId);
+            return;
+        }
+        for (SseConnection connection : connections) {
+            connection.enqueueNotification(dto);
+        }
+    }
+
+    /**
+     * 연결 수 / 대기 중인 이벤트 수와 가장 밀린 연결 목록
+     * lag 은 큐에서 가장 오래 기다린 이벤트의 대기 시간입니다.
+     */
+    public SseMetrics metrics() {
+        long now = System.nanoTime();
+        List<ConnectionMetrics> connections = emitters.values().stream()
+                .flatMap(Set::stream)
+                .map(connection -> connection.metrics(now))
+                .sorted(Comparator.comparingLong(ConnectionMetrics::lagMillis).reversed())
+                .toList();
+        return new SseMetrics(
+                connections.size(),
+                connections.stream().mapToLong(ConnectionMetrics::queued).sum(),
+                connections.stream().mapToLong(ConnectionMetrics::dropped).sum(),
+                connections.stream().limit(SLOWEST_CONNECTIONS).toList()
+        );
+    }
+
+    protected SseEmitter createEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    private void add(SseConnection connection) {
+        List<SseConnection> evicted = new ArrayList<>();
+        emitters.compute(connection.userId, (userId, connections) -> {
+            Set<SseConnection> updated = connections != null ? connections : ConcurrentHashMap.newKeySet();
+            updated.add(connection);
+            // 연결 수를 넘으면 가장 오래된 연결부터 정리
+            updated.stream()
+                    .sorted(Comparator.comparingLong(existing -> existing.sequence))
+                    .limit(Math.max(updated.size() - MAX_CONNECTIONS_PER_USER, 0))
+                    .forEach(evicted::add);
+            return updated;
+        });
+        heartbeatSlices.get(connection.slice()).add(connection);
+        evicted.forEach(SseConnection::close);
+    }
+
+    /// 유저의 마지막 연결이면 연결 위치 기록을 GRACE 동안만 유지
+    private void remove(SseConnection connection) {
+        connection.closed.set(true);
+        heartbeatSlices.get(connection.slice()).remove(connection);
+
+        AtomicBoolean lastConnection = new AtomicBoolean();
+        emitters.computeIfPresent(connection.userId, (userId, connections) -> {
+            if (!connections.remove(connection) || !connections.isEmpty()) {
+                return connections;
+            }
+            lastConnection.set(true);
+            return null;
+        });
+        if (lastConnection.get()) {
+            notificationPresenceRegistry.unregister(connection.userId);
+            notificationReplayBuffer.coveredUntil(connection.userId, NotificationPresenceRegistry.GRACE);
+        }
+    }
+
+    private Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
         try {
-            emitter.send(SseEmitter.event().name("connect").data("SSE 연결 완료"));
-            log.info("[SSE] 유저 {} 연결 성공 및 초기 이벤트 전송", userId);
-        } catch (IOException e) {
-            log.error("[SSE] 유저 {} 연결 초기 이벤트 전송 실패: {}", userId, e.getMessage());
-            emitters.remove(userId);
+            return Long.valueOf(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1L; // 알 수 없는 id -> 버퍼에서 찾을 수 없으므로 reset
         }
+    }
 
-        return emitter;
+    private record Outbound(SseEmitter.SseEventBuilder event, long enqueuedAt) {
     }
 
-    public void send(Long userId, Notification notification) {
-        log.info("[SSE] 유저 {} 에게 알림 전송 시도", userId);
-        EmitterInfo info = emitters.get(userId);
+    private class SseConnection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final long sequence;
+        private final BlockingQueue<Outbound> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicLong sent = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+
+        // 다시 보낼 알림을 정하기 전까지 들어온 알림 (null 이면 바로 전송 큐에 넣음)
+        private List<NotificationDto> pending = new ArrayList<>();
+
+        private SseConnection(Long userId, SseEmitter emitter, long sequence) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.sequence = sequence;
+        }
 
-        if (info != null) {
+        private int slice() {
+            return (int) (sequence % HEARTBEAT_SLICES);
+        }
+
+        private synchronized void enqueueNotification(NotificationDto dto) {
+            if (pending != null) {
+                pending.add(dto);
+                return;
+            }
+            enqueue(notificationEvent(dto), true);
+        }
+
+        /// 놓친 알림 -> 그 사이 들어온 알림 순서로 보내고, 이미 보낸 id 는 건너뜀
+        private synchronized void finishReplay(List<NotificationDto> missed) {
+            long lastSentId = Long.MIN_VALUE;
+            for (NotificationDto dto : missed) {
+                enqueue(notificationEvent(dto), true);
+                lastSentId = Math.max(lastSentId, dto.getId());
+            }
+            for (NotificationDto dto : pending) {
+                if (dto.getId() > lastSentId) {
+                    enqueue(notificationEvent(dto), true);
+                }
+            }
+            pending = null;
+        }
+
+        private SseEmitter.SseEventBuilder notificationEvent(NotificationDto dto) {
+            return SseEmitter.event().id(String.valueOf(dto.getId())).name("notification").data(dto);
+        }
+
+        /**
+         * @param required true 면 큐가 가득 찼을 때 연결을 끊음 (false 면 이벤트만 버림)
+         */
+        private void enqueue(SseEmitter.SseEventBuilder event, boolean required) {
+            if (closed.get()) {
+                return;
+            }
+            if (!queue.offer(new Outbound(event, System.nanoTime()))) {
+                dropped.incrementAndGet();
+                if (required) {
+                    log.warn("[SSE] 유저 {} 전송 큐 가득 참 → 연결 종료", userId);
+                    close();
+                }
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    writers.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false); // 종료 중
+                }
+            }
+        }
+
+        private void drain() {
             try {
-                NotificationDto dto = notificationMapper.toDto(notification);
-                info.getEmitter().send(SseEmitter.event().name("notification").data(dto));
-                info.updateLastEventTime();
-                log.info("[SSE] 유저 {} 에게 알림 전송 성공: {}", userId, dto);
-            } catch (IOException e) {
-                log.error("[SSE] 유저 {} 에게 알림 전송 실패: {}", userId, e.getMessage());
-                emitters.remove(userId);
+                Outbound outbound;
+                while (!closed.get() && (outbound = queue.poll()) != null) {
+                    emitter.send(outbound.event());
+                    sent.incrementAndGet();
+                }
+            } catch (IOException | IllegalStateException e) {
+                log.warn("[SSE] 유저 {} 전송 실패 → emitter 제거: {}", userId, e.getMessage());
+                remove(this);
+            } finally {
+                draining.set(false);
             }
-        } else {
-            log.warn("[SSE] 유저 {} 는 현재 연결되지 않음. emitter 없음!", userId);
+            // 마지막 poll 과 draining 해제 사이에 들어온 이벤트
+            if (!closed.get() && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            remove(this);
+            queue.clear();
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                log.debug("[SSE] 유저 {} 이미 종료된 연결", userId);
+            }
+        }
+
+        private ConnectionMetrics metrics(long now) {
+            Outbound head = queue.peek();
+            long lagMillis = head != null ? TimeUnit.NANOSECONDS.toMillis(now - head.enqueuedAt()) : 0;
+            return new ConnectionMetrics(sequence, queue.size(), lagMillis, sent.get(), dropped.get());
         }
     }
+
+    /**
+     * @param connection 이 노드에서 연결 순서대로 붙인 번호 (유저 id 는 노출하지 않음)
+     * @param lagMillis 큐에서 가장 오래 기다린 이벤트의 대기 시간
+     * @param dropped 큐가 가득 차 버린 이벤트 수
+     */
+    public record ConnectionMetrics(long connection, int queued, long lagMillis, long sent, long dropped) {
+    }
+
+    /**
+     * @param slowest lag 이 큰 순서로 최대 {@link #SLOWEST_CONNECTIONS} 개
+     */
+    public record SseMetrics(int connections, long queued, long dropped, List<ConnectionMetrics> slowest) {
+    }
 }
@@ -0,0 +1,244 @@
+package com.even.zaro.service;
+
+import com.even.zaro.dto.post.PostCountDelta;
+import com.even.zaro.entity.Post;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 게시글 좋아요/댓글 수 write-behind 카운터
+ * - post:counter:{postId} : 아직 DB 에 반영되지 않은 증감분 (hash, field = like / comment)
+ * - post:counter:dirty : 증감분이 남아 있는 게시글 ID (set)
+ * 좋아요/댓글 변경은 Post 행을 잠그지 않고 HINCRBY 로만 누적하고,
+ * 스케줄러가 주기적으로 like_count = like_count + ? 형태의 batch update 로 DB 에 반영합니다.
+ * 반영 후에는 반영한 만큼만 차감하므로 flush 도중 들어온 증감분은 다음 주기로 넘어갑니다.
+ */
+@Slf4j
+@Service
+public class PostCounterService {
+
+    private static final String KEY_PREFIX = "post:counter:";
+    private static final String DIRTY_KEY = "post:counter:dirty";
+    private static final String LOCK_KEY = "post:counter:flush:lock";
+    private static final String LIKE_FIELD = "like";
+    private static final String COMMENT_FIELD = "comment";
+    // flush 한 번(최대 MAX_FLUSH_BATCHES 배치)보다 충분히 길게 - 노드가 죽은 경우에만 TTL 로 풀림
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final int MAX_FLUSH_BATCHES = 20;
+
+    // score 를 먼저 계산해야 MySQL(왼쪽부터 순서대로 대입) / H2(모두 이전 값 기준) 에서 같은 결과가 나옴
+    private static final String FLUSH_SQL = """
+            UPDATE post
+               SET score = GREATEST(like_count + ?, 0) * ? + GREATEST(comment_count + ?, 0) * ?,
+                   like_count = GREATEST(like_count + ?, 0),
+                   comment_count = GREATEST(comment_count + ?, 0)
+             WHERE id = ?
+            """;
+
+    // KEYS[1] = dirty set, KEYS[2..] = 게시글별 카운터 / ARGV = (postId, like 증감분, comment 증감분) 반복
+    // 반영한 만큼 차감하고, 남은 증감분이 없으면 키와 dirty 표시를 함께 제거
+    private static final RedisScript<Long> SETTLE_SCRIPT = new DefaultRedisScript<>("""
+            for i = 2, #KEYS do
+                local offset = (i - 2) * 3
+                local likes = redis.call('HINCRBY', KEYS[i], 'like', -tonumber(ARGV[offset + 2]))
+                local comments = redis.call('HINCRBY', KEYS[i], 'comment', -tonumber(ARGV[offset + 3]))
+                if likes == 0 and comments == 0 then
+                    redis.call('DEL', KEYS[i])
+                    redis.call('SREM', KEYS[1], ARGV[offset + 1])
+                end
+            end
+            return #KEYS - 1
+            """, Long.class);
+
+    // KEYS[1] = 락 / ARGV[1] = 획득할 때 넣은 값 : 내가 잡은 락일 때만 해제 (TTL 로 풀린 뒤 다른 노드가 잡은 락은 유지)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PostCounterService(RedisTemplate<String, String> redisTemplate,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        // 커밋 이후(AFTER_COMMIT) 호출돼도 별도 트랜잭션으로 커밋되도록 REQUIRES_NEW
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /// 커밋 이후 호출 (Redis 장애 시에는 DB 에 바로 반영)
+    public void increment(Long postId, int likeDelta, int commentDelta) {
+        if (likeDelta == 0 && commentDelta == 0) {
+            return;
+        }
+        String key = key(postId);
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    ops.opsForHash().increment(key, LIKE_FIELD, likeDelta);
+                    ops.opsForHash().increment(key, COMMENT_FIELD, commentDelta);
+                    ops.opsForSet().add(DIRTY_KEY, postId.toString());
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("[게시글 카운터] 증감분 누적 실패, DB 에 바로 반영 postId={} {}", postId, e.getMessage());
+            transactionTemplate.executeWithoutResult(status ->
+                    jdbcTemplate.update(FLUSH_SQL, flushArgs(postId, new PostCountDelta(likeDelta, commentDelta))));
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 증감분 (Redis 장애 시 빈 map -> DB 값 그대로 응답)
+     *
+     * @return 증감분이 있는 게시글만 포함
+     */
+    public Map<Long, PostCountDelta> pending(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            Map<Long, PostCountDelta> pending = new HashMap<>();
+            readDeltas(List.copyOf(postIds)).forEach((postId, delta) -> {
+                if (!delta.isEmpty()) {
+                    pending.put(postId, delta);
+                }
+            });
+            return pending;
+        } catch (DataAccessException e) {
+            log.warn("[게시글 카운터] 증감분 조회 실패, DB 값으로 응답합니다. {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * 누적된 증감분을 DB 에 반영
+     * 반영(DB 커밋)과 차감(Redis) 사이에 장애가 나면 다음 주기에 한 번 더 반영될 수 있습니다. (at-least-once)
+     *
+     * @return 반영한 게시글 수 (다른 노드가 반영 중이면 0)
+     */
+    public int flush() {
+        // 두 노드가 같은 증감분을 중복 반영하지 않도록 락 획득 (차감까지 끝난 뒤 해제)
+        String lockValue = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockValue, LOCK_TTL))) {
+            return 0;
+        }
+
+        try {
+            int flushed = 0;
+            for (int batch = 0; batch < MAX_FLUSH_BATCHES; batch++) {
+                Set<String> members = redisTemplate.opsForSet().distinctRandomMembers(DIRTY_KEY, FLUSH_BATCH_SIZE);
+                if (members == null || members.isEmpty()) {
+                    break;
+                }
+                List<Long> postIds = members.stream().map(Long::valueOf).toList();
+                Map<Long, PostCountDelta> deltas = readDeltas(postIds);
+
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL,
+                        deltas.entrySet().stream()
+                                .filter(entry -> !entry.getValue().isEmpty())
+                                .map(entry -> flushArgs(entry.getKey(), entry.getValue()))
+                                .toList()));
+                settle(deltas);
+
+                flushed += deltas.size();
+                if (members.size() < FLUSH_BATCH_SIZE) {
+                    break;
+                }
+            }
+            return flushed;
+        } finally {
+            releaseLock(lockValue);
+        }
+    }
+
+    /// 증감분이 0 인 게시글도 포함 (dirty 표시 정리용)
+    private Map<Long, PostCountDelta> readDeltas(List<Long> postIds) {
+        List<Object> values = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                postIds.forEach(postId -> ops.<String, String>opsForHash().multiGet(key(postId), List.of(LIKE_FIELD, COMMENT_FIELD)));
+                return null;
+            }
+        });
+
+        Map<Long, PostCountDelta> deltas = new LinkedHashMap<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            @SuppressWarnings("unchecked")
+            List<Object> fields = (List<Object>) values.get(i);
+            deltas.put(postIds.get(i), toDelta(fields));
+        }
+        return deltas;
+    }
+
+    private void settle(Map<Long, PostCountDelta> deltas) {
+        List<String> keys = new ArrayList<>(deltas.size() + 1);
+        List<String> args = new ArrayList<>(deltas.size() * 3);
+        keys.add(DIRTY_KEY);
+        deltas.forEach((postId, delta) -> {
+            keys.add(key(postId));
+            args.add(postId.toString());
+            args.add(String.valueOf(delta.likes()));
+            args.add(String.valueOf(delta.comments()));
+        });
+        redisTemplate.execute(SETTLE_SCRIPT, keys, args.toArray());
+    }
+
+    private void releaseLock(String lockValue) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LOCK_KEY), lockValue);
+        } catch (DataAccessException e) {
+            log.warn("[게시글 카운터] 락 해제 실패, TTL 로 해제됩니다. {}", e.getMessage());
+        }
+    }
+
+    private Object[] flushArgs(Long postId, PostCountDelta delta) {
+        return new Object[]{
+                delta.likes(), Post.LIKE_SCORE_WEIGHT,
+                delta.comments(), Post.COMMENT_SCORE_WEIGHT,
+                delta.likes(),
+                delta.comments(),
+                postId
+        };
+    }
+
+    private PostCountDelta toDelta(List<Object> fields) {
+        if (fields == null) {
+            return PostCountDelta.NONE;
+        }
+        return new PostCountDelta(parse(fields.get(0)), parse(fields.get(1)));
+    }
+
+    private int parse(Object value) {
+        return value != null ? Integer.parseInt(value.toString()) : 0;
+    }
+
+    private String key(Long postId) {
+        return KEY_PREFIX + postId;
+    }
+}
@@ -0,0 +1,38 @@
+package com.even.zaro.service;
+
+import com.even.zaro.dto.post.PostDetailSnapshot;
+import com.even.zaro.global.cache.TwoLevelCache;
+import com.even.zaro.global.cache.TwoLevelCacheManager;
+import com.fasterxml.jackson.core.type.TypeReference;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 캐시 (postId 단위, 버전 관리는 {@link TwoLevelCache})
+ * 게시글 수정/삭제/신고가 커밋되면 무효화되며, 작성자 프로필 변경은 만료 시간까지만 늦게 반영됩니다.
+ */
+@Component
+public class PostDetailCache {
+
+    private static final Duration LOCAL_TTL = Duration.ofMinutes(1);
+    private static final long LOCAL_MAX_SIZE = 10_000;
+    private static final Duration REMOTE_TTL = Duration.ofMinutes(30);
+
+    private final TwoLevelCache<PostDetailSnapshot> cache;
+
+    public PostDetailCache(TwoLevelCacheManager cacheManager) {
+        this.cache = cacheManager.create("post:detail", new TypeReference<>() {},
+                LOCAL_TTL, LOCAL_MAX_SIZE, REMOTE_TTL);
+    }
+
+    public PostDetailSnapshot get(Long postId, Supplier<PostDetailSnapshot> loader) {
+        return cache.get(postId.toString(), loader);
+    }
+
+    /// 커밋 이후 호출
+    public void evict(Long postId) {
+        cache.evict(postId.toString());
+    }
+}
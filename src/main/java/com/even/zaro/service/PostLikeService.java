@@ -1,16 +1,19 @@
 package com.even.zaro.service;
 
-import com.even.zaro.entity.Post;
-import com.even.zaro.entity.PostLike;
 import com.even.zaro.entity.User;
 import com.even.zaro.global.ErrorCode;
+import com.even.zaro.global.event.event.PostLikeCreatedEvent;
+import com.even.zaro.global.event.event.PostLikeDeletedEvent;
 import com.even.zaro.global.exception.post.PostException;
 import com.even.zaro.repository.PostLikeRepository;
 import com.even.zaro.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -19,24 +22,29 @@ public class PostLikeService {
     private final PostRepository postRepository;
     private final UserService userService;
     private final PostService postService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LikedPostCache likedPostCache;
 
+    // 좋아요 여부 일괄 조회 최대 게시글 수
+    static final int MAX_LIKE_CHECK_SIZE = 100;
+
+    /**
+     * 좋아요 (게시글을 읽지 않고 바로 insert 시도)
+     * 게시글 확인과 중복 여부((user_id, post_id) 유니크 제약조건)를 insert 한 번으로 판단하므로 동시 요청에도 한 건만 추가되고,
+     * 실제로 추가된 경우에만 좋아요 수를 증가시킵니다. 추가되지 않은 경우에만 원인을 확인합니다.
+     */
     @Transactional
     public void likePost(Long postId, Long userId) {
-        if (postLikeRepository.existsByUserIdAndPostId(userId, postId)) {
-            throw new PostException(ErrorCode.ALREADY_LIKED);
-        }
-
         User user = userService.findUserById(userId);
         userService.validateActiveUser(user);
 
-        Post post = postService.findUndeletedPostOrThrow(postId);
-
-        postLikeRepository.save(PostLike.builder()
-                .user(user)
-                .post(post)
-                .build());
-        post.changeLikeCount(post.getLikeCount() + 1);
-        postService.updatePostScore(post);
+        if (postLikeRepository.insertIgnore(userId, postId) == 0) {
+            validateUndeletedPost(postId);
+            throw new PostException(ErrorCode.ALREADY_LIKED);
+        }
+        // native insert 는 엔티티 리스너를 거치지 않으므로 알림 이벤트는 직접 발행
+        eventPublisher.publishEvent(new PostLikeCreatedEvent(userId, postId));
+        postService.updatePostScore(postId, 1, 0);
     }
 
 
@@ -44,20 +52,40 @@ public class PostLikeService {
     public void unlikePost(Long postId, Long userId) {
         User user = userService.findUserById(userId);
         userService.validateActiveUser(user);
-        Post post = postService.findUndeletedPostOrThrow(postId);
-
-        PostLike postLike = postLikeRepository.findByUserIdAndPostId(userId, postId)
-                .orElseThrow(() -> new PostException(ErrorCode.LIKE_NOT_POST));
 
-        postLikeRepository.delete(postLike);
-
-        post.changeLikeCount(Math.max(0,post.getLikeCount() - 1));
-        postService.updatePostScore(post);
+        if (postLikeRepository.deleteByUserIdAndPostId(userId, postId) == 0) {
+            validateUndeletedPost(postId);
+            throw new PostException(ErrorCode.LIKE_NOT_POST);
+        }
+        eventPublisher.publishEvent(new PostLikeDeletedEvent(userId, postId));
+        postService.updatePostScore(postId, -1, 0);
     }
 
     @Transactional(readOnly = true)
     public boolean hasLikedPost(Long userId, Long postId) {
-        postService.findUndeletedPostOrThrow(postId);
-        return postLikeRepository.existsByUserIdAndPostId(userId, postId);
+        validateUndeletedPost(postId);
+        return likedPostCache.hasLiked(userId, postId);
+    }
+
+    /**
+     * 게시글 목록 중 좋아요한 게시글 id 조회 (카드마다 좋아요 여부를 조회하지 않도록 목록 단위로 확인)
+     * 존재하지 않거나 삭제된 게시글 id 는 좋아요하지 않은 것으로 처리합니다.
+     */
+    public List<Long> getLikedPostIds(Long userId, List<Long> postIds) {
+        if (postIds.size() > MAX_LIKE_CHECK_SIZE) {
+            throw new PostException(ErrorCode.LIKE_CHECK_TOO_MANY_POSTS);
+        }
+        Set<Long> liked = likedPostCache.likedAmong(userId, postIds);
+        return postIds.stream()
+                .distinct()
+                .filter(liked::contains)
+                .toList();
+    }
+
+    /// 게시글 찾을 없을때 - 삭제만 검사
+    private void validateUndeletedPost(Long postId) {
+        if (!postRepository.existsByIdAndIsDeletedFalse(postId)) {
+            throw new PostException(ErrorCode.POST_NOT_FOUND);
+        }
     }
 }
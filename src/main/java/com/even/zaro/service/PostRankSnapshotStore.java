@@ -0,0 +1,180 @@
+package com.even.zaro.service;
+
+import com.even.zaro.dto.post.PostRankEntry;
+import com.even.zaro.dto.post.PostRankSnapshot;
+import com.even.zaro.dto.post.PostRankType;
+import com.even.zaro.entity.Post;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 노드 간 공유되는 인기글 순위 스냅샷 저장소
+ * - post:rank:snapshot:{version} : 스냅샷 본문 (hash, 하루 뒤 만료)
+ * - post:rank:snapshot:current : 현재 스냅샷 버전 포인터
+ * 스냅샷은 스케줄러가 주기적으로 새 버전을 만든 뒤 포인터만 교체하고(SET 한 번),
+ * 각 노드는 포인터를 폴링해 바뀐 경우에만 로컬 사본을 통째로 교체합니다.
+ * 조회는 volatile 로컬 사본만 읽으므로 락이 없고, 모든 노드가 같은 순위 변화량을 응답합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostRankSnapshotStore {
+
+    private static final String SNAPSHOT_KEY_PREFIX = "post:rank:snapshot:";
+    private static final String POINTER_KEY = "post:rank:snapshot:current";
+    private static final String LOCK_KEY = "post:rank:snapshot:lock";
+    private static final Duration SNAPSHOT_TTL = Duration.ofDays(1);
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+    private static final String BASELINE_DATE_FIELD = "baselineDate";
+    private static final String BASELINE_PREFIX = "baseline:";
+    private static final String PREV_PREFIX = "prev:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostRankingService postRankingService;
+
+    private volatile PostRankSnapshot current = PostRankSnapshot.EMPTY;
+
+    public PostRankSnapshot current() {
+        return current;
+    }
+
+    /**
+     * 현재 랭킹으로 새 스냅샷 생성 후 포인터 교체
+     * 직전 순위는 매번 현재 랭킹으로, 기준 순위는 날짜가 바뀐 첫 교체 때만 현재 랭킹으로 갱신합니다.
+     *
+     * @return 교체 여부 (다른 노드가 이미 교체 중이면 false)
+     */
+    public boolean rotate() {
+        // 같은 주기에 두 노드가 동시에 교체하지 않도록 락은 TTL 로만 해제
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL))) {
+            return false;
+        }
+
+        refreshLocal();
+        PostRankSnapshot previous = current;
+
+        Map<String, Map<Long, Integer>> currentRanks = collectCurrentRanks();
+        LocalDate today = LocalDate.now();
+        boolean newBaseline = !today.equals(previous.baselineDate());
+
+        Map<String, Map<Long, Integer>> baseline = new HashMap<>(currentRanks);
+        if (!newBaseline) {
+            baseline.putAll(previous.baseline());
+        }
+
+        String version = String.valueOf(System.currentTimeMillis());
+        PostRankSnapshot snapshot = new PostRankSnapshot(version, newBaseline ? today : previous.baselineDate(),
+                Map.copyOf(baseline), Map.copyOf(currentRanks));
+
+        String snapshotKey = SNAPSHOT_KEY_PREFIX + version;
+        redisTemplate.opsForHash().putAll(snapshotKey, serialize(snapshot));
+        redisTemplate.expire(snapshotKey, SNAPSHOT_TTL);
+        redisTemplate.opsForValue().set(POINTER_KEY, version);
+
+        current = snapshot;
+        return true;
+    }
+
+    /// 포인터가 바뀐 경우에만 스냅샷 본문을 읽어 로컬 사본 교체
+    @Scheduled(fixedDelay = 30 * 1000, initialDelay = 30 * 1000)
+    public void refreshLocal() {
+        try {
+            String version = redisTemplate.opsForValue().get(POINTER_KEY);
+            if (version == null || version.equals(current.version())) {
+                return;
+            }
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(SNAPSHOT_KEY_PREFIX + version);
+            if (fields.isEmpty()) {
+                return;
+            }
+            current = deserialize(version, fields);
+        } catch (DataAccessException e) {
+            log.warn("[인기글 랭킹] 순위 스냅샷 갱신 실패, 기존 스냅샷을 유지합니다. {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refreshLocal();
+    }
+
+    private Map<String, Map<Long, Integer>> collectCurrentRanks() {
+        Map<String, Map<Long, Integer>> ranks = new HashMap<>();
+        for (PostRankType type : PostRankType.values()) {
+            List<Post.Category> scopes = new ArrayList<>();
+            scopes.add(null);
+            if (type != PostRankType.REALTIME) {
+                scopes.addAll(List.of(Post.Category.values()));
+            }
+            for (Post.Category category : scopes) {
+                List<Long> postIds = postRankingService.getTopPosts(type, category, PostRankingService.RANK_SIZE).stream()
+                        .map(PostRankEntry::postId)
+                        .toList();
+                ranks.put(PostRankingService.rankKey(type, category), toRankIndex(postIds));
+            }
+        }
+        return ranks;
+    }
+
+    private Map<String, String> serialize(PostRankSnapshot snapshot) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(BASELINE_DATE_FIELD, snapshot.baselineDate().toString());
+        snapshot.baseline().forEach((key, ranks) -> fields.put(BASELINE_PREFIX + key, joinByRank(ranks)));
+        snapshot.prev().forEach((key, ranks) -> fields.put(PREV_PREFIX + key, joinByRank(ranks)));
+        return fields;
+    }
+
+    private PostRankSnapshot deserialize(String version, Map<Object, Object> fields) {
+        Map<String, Map<Long, Integer>> baseline = new HashMap<>();
+        Map<String, Map<Long, Integer>> prev = new HashMap<>();
+        LocalDate baselineDate = null;
+
+        for (Map.Entry<Object, Object> field : fields.entrySet()) {
+            String name = (String) field.getKey();
+            String value = (String) field.getValue();
+            if (name.equals(BASELINE_DATE_FIELD)) {
+                baselineDate = LocalDate.parse(value);
+            } else if (name.startsWith(BASELINE_PREFIX)) {
+                baseline.put(name.substring(BASELINE_PREFIX.length()), toRankIndex(splitIds(value)));
+            } else if (name.startsWith(PREV_PREFIX)) {
+                prev.put(name.substring(PREV_PREFIX.length()), toRankIndex(splitIds(value)));
+            }
+        }
+        return new PostRankSnapshot(version, baselineDate, Map.copyOf(baseline), Map.copyOf(prev));
+    }
+
+    /// 순위 순서대로 postId 를 , 로 연결 ("12,5,7" -> 12번이 1위)
+    private String joinByRank(Map<Long, Integer> ranks) {
+        return ranks.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .map(entry -> entry.getKey().toString())
+                .collect(Collectors.joining(","));
+    }
+
+    private List<Long> splitIds(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(",")).map(Long::valueOf).toList();
+    }
+
+    private Map<Long, Integer> toRankIndex(List<Long> postIds) {
+        Map<Long, Integer> ranks = new HashMap<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            ranks.put(postIds.get(i), i + 1);
+        }
+        return Map.copyOf(ranks);
+    }
+}
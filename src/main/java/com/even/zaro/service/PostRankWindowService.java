@@ -0,0 +1,136 @@
+package com.even.zaro.service;
+
+import com.even.zaro.dto.post.PostRankEntry;
+import com.even.zaro.dto.post.PostRankType;
+import com.even.zaro.global.util.PostHotScore;
+import com.even.zaro.repository.PostQueryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * HOT(감쇠 점수) / DAILY / WEEKLY 인기글 랭킹 재계산
+ * 전체 게시글이 아니라 최근 7일 내 좋아요/댓글 활동이 있었던 게시글(post:rank:active)만 batch 단위로 다시 계산한 뒤,
+ * 랭킹별 임시 키에 채우고 RENAME 으로 교체합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostRankWindowService {
+
+    private static final Duration ACTIVE_WINDOW = Duration.ofDays(7);
+    private static final int BATCH_SIZE = 500;
+    private static final String LOCK_KEY = "post:rank:window:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(4);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostQueryRepository postQueryRepository;
+
+    /**
+     * @return 재계산한 게시글 수 (다른 노드에서 실행 중이면 -1)
+     */
+    public int refresh() {
+        // 두 노드가 같은 작업을 중복 실행하지 않도록 락 획득
+        String lockValue = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockValue, LOCK_TTL))) {
+            return -1;
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            // 활동 시각은 applyScoreChange 가 Instant 기준 epoch seconds 로 기록
+            long activeSince = Instant.now().minus(ACTIVE_WINDOW).getEpochSecond();
+
+            ZSetOperations<String, String> zSet = redisTemplate.opsForZSet();
+            zSet.removeRangeByScore(PostRankingService.ACTIVE_KEY, 0, activeSince);
+            List<Long> activeIds = Optional.ofNullable(zSet.range(PostRankingService.ACTIVE_KEY, 0, -1))
+                    .orElse(Set.of())
+                    .stream()
+                    .map(Long::valueOf)
+                    .toList();
+
+            Map<String, Set<ZSetOperations.TypedTuple<String>>> rankings = new HashMap<>();
+            PostRankingService.windowRankKeys().forEach(key -> rankings.put(key, new HashSet<>()));
+
+            int rescored = 0;
+            for (int from = 0; from < activeIds.size(); from += BATCH_SIZE) {
+                List<Long> batchIds = activeIds.subList(from, Math.min(from + BATCH_SIZE, activeIds.size()));
+                List<PostRankEntry> entries = postQueryRepository.findRankEntriesByIds(batchIds);
+
+                for (PostRankEntry entry : entries) {
+                    addToRankings(rankings, entry, now);
+                }
+                writeMeta(entries);
+                rescored += entries.size();
+            }
+
+            rankings.forEach(this::replace);
+            log.info("[인기글 랭킹] 기간별 랭킹 재계산 완료 ({}건)", rescored);
+            return rescored;
+        } finally {
+            if (lockValue.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+                redisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+
+    private void addToRankings(Map<String, Set<ZSetOperations.TypedTuple<String>>> rankings,
+                               PostRankEntry entry, LocalDateTime now) {
+        String member = entry.postId().toString();
+
+        // HOT 은 작성 기간과 무관하게 최근 활동이 있는 게시글 전체를 감쇠 점수로 정렬
+        add(rankings, PostRankType.HOT, entry, member,
+                PostHotScore.calculate(entry.score(), entry.createdAt(), now));
+
+        double windowScore = PostRankingService.toRedisScore(entry.score(), entry.createdAt());
+        for (PostRankType type : List.of(PostRankType.DAILY, PostRankType.WEEKLY)) {
+            if (entry.createdAt().isAfter(now.minus(type.getWindow()))) {
+                add(rankings, type, entry, member, windowScore);
+            }
+        }
+    }
+
+    /// 전체 랭킹과 카테고리 랭킹에 함께 등록
+    private void add(Map<String, Set<ZSetOperations.TypedTuple<String>>> rankings,
+                     PostRankType type, PostRankEntry entry, String member, double score) {
+        rankings.get(PostRankingService.rankKey(type, null)).add(new DefaultTypedTuple<>(member, score));
+        rankings.get(PostRankingService.rankKey(type, entry.category())).add(new DefaultTypedTuple<>(member, score));
+    }
+
+    private void writeMeta(List<PostRankEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                entries.forEach(entry -> PostRankingService.writeMeta(ops, entry));
+                return null;
+            }
+        });
+    }
+
+    /// 임시 키에 채운 뒤 RENAME 으로 교체 (대상이 없으면 키 삭제)
+    private void replace(String key, Set<ZSetOperations.TypedTuple<String>> tuples) {
+        if (tuples.isEmpty()) {
+            redisTemplate.delete(key);
+            return;
+        }
+        String tempKey = key + ":tmp";
+        redisTemplate.delete(tempKey);
+        redisTemplate.opsForZSet().add(tempKey, tuples);
+        redisTemplate.rename(tempKey, key);
+    }
+}
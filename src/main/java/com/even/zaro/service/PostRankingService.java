@@ -0,0 +1,541 @@
+package com.even.zaro.service;
+
+import com.even.zaro.dto.post.PostCountDelta;
+import com.even.zaro.dto.post.PostRankEntry;
+import com.even.zaro.dto.post.PostRankType;
+import com.even.zaro.entity.Post;
+import com.even.zaro.global.util.PostHotScore;
+import com.even.zaro.repository.PostQueryRepository;
+import com.even.zaro.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Redis ZSET 기반 실시간 인기글 랭킹
+ * - post:rank:score : member = 게시글 ID, score = 인기 점수 + 작성시각 tie-break
+ * - post:rank:meta:{postId} : 응답에 필요한 제목/카테고리/좋아요/댓글 수
+ * - post:rank:active : 최근 좋아요/댓글 활동 게시글 (score = 마지막 활동 epoch seconds)
+ * - post:rank:{hot|daily|weekly}:{ALL|카테고리} : PostRankWindowService 가 주기적으로 교체하는 랭킹
+ * 좋아요/댓글 변경은 점수 증감분만 반영하고, 삭제/신고된 게시글은 즉시 제외합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostRankingService {
+
+    // 인기글 응답 개수 (1 ~ 5 순위)
+    static final int RANK_SIZE = 5;
+
+    static final String SCORE_KEY = "post:rank:score";
+    static final String ACTIVE_KEY = "post:rank:active";
+    private static final String REBUILD_LOCK_KEY = "post:rank:score:rebuild:lock";
+    // 실행마다 락 값으로 임시 키를 나눔 (post:rank:score:rebuild:{락 값})
+    private static final String REBUILD_KEY_PREFIX = "post:rank:score:rebuild:";
+    private static final String PREVIOUS_SUFFIX = ":previous";
+    private static final String REMOVED_SUFFIX = ":removed";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(10);
+    // 서버 간 시계 차이를 고려해 재구축 시작 조금 전부터의 활동을 다시 읽음
+    private static final long ACTIVE_CLOCK_MARGIN_SECONDS = 5;
+    private static final String META_KEY_PREFIX = "post:rank:meta:";
+    private static final String ALL_CATEGORY = "ALL";
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private static final long NOT_RANKED = -1;
+
+    // 랭킹에 있던 게시글은 증감분만 반영 (점수 1 미만이 되면 제외), 없던 게시글은 NOT_RANKED 를 돌려주고 호출하는 쪽에서 등록
+    private static final RedisScript<Long> APPLY_SCORE_CHANGE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[3], ARGV[5], ARGV[1])
+            if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+                return -1
+            end
+            local score = tonumber(redis.call('ZINCRBY', KEYS[1], ARGV[2], ARGV[1]))
+            if score < 1 then
+                redis.call('ZREM', KEYS[1], ARGV[1])
+                redis.call('DEL', KEYS[2])
+                return 0
+            end
+            redis.call('HINCRBY', KEYS[2], 'likeCount', ARGV[3])
+            redis.call('HINCRBY', KEYS[2], 'commentCount', ARGV[4])
+            return 1
+            """, Long.class);
+
+    // 그 사이 다른 요청이 먼저 등록했으면 덮어쓰지 않음 (그 스냅샷에도 이번 증감분이 포함돼 있음)
+    private static final RedisScript<Long> REGISTER_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('ZADD', KEYS[1], 'NX', ARGV[2], ARGV[1]) == 0 then
+                return 0
+            end
+            redis.call('HSET', KEYS[2], 'title', ARGV[3], 'category', ARGV[4],
+                    'likeCount', ARGV[5], 'commentCount', ARGV[6], 'createdAt', ARGV[7])
+            return 1
+            """, Long.class);
+
+    // 재구축 중 제외된 게시글을 임시 키에서 빼고, 기존 랭킹은 메타 정리용으로 남긴 뒤 임시 키로 교체
+    private static final RedisScript<Long> SWAP_SCRIPT = new DefaultRedisScript<>("""
+            for _, member in ipairs(redis.call('SMEMBERS', KEYS[4])) do
+                redis.call('ZREM', KEYS[2], member)
+            end
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('RENAME', KEYS[1], KEYS[3])
+                redis.call('EXPIRE', KEYS[3], ARGV[1])
+            end
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                redis.call('RENAME', KEYS[2], KEYS[1])
+                redis.call('PERSIST', KEYS[1])
+            end
+            return redis.call('ZCARD', KEYS[1])
+            """, Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostRepository postRepository;
+    private final PostQueryRepository postQueryRepository;
+    private final PostCounterService postCounterService;
+
+    /**
+     * 랭킹 상위 N개 조회 (Redis 장애 또는 랭킹이 비어있으면 DB 조회로 대체)
+     *
+     * @param category 카테고리 (null 이면 전체, REALTIME 은 전체만 지원)
+     */
+    public List<PostRankEntry> getTopPosts(PostRankType type, Post.Category category, int limit) {
+        String key = rankKey(type, category);
+        try {
+            List<PostRankEntry> entries = readTop(key, limit);
+            if (!entries.isEmpty()) {
+                return entries;
+            }
+        } catch (DataAccessException e) {
+            log.warn("[인기글 랭킹] Redis 조회 실패, DB 조회로 대체합니다. {}", e.getMessage());
+        }
+        if (type == PostRankType.REALTIME) {
+            return postRepository.findTopPosts(0, PageRequest.of(0, limit)).stream()
+                    .map(PostRankEntry::from)
+                    .toList();
+        }
+        return findWindowTopFromDb(type, category, limit);
+    }
+
+    /**
+     * 좋아요/댓글 수 변경 반영
+     * 랭킹에 없던 게시글만 DB 값 + 아직 반영되지 않은 증감분(이번 변경 포함)으로 조회해서 등록합니다.
+     */
+    public void applyScoreChange(Long postId, int likeDelta, int commentDelta) {
+        double scoreDelta = likeDelta * Post.LIKE_SCORE_WEIGHT + commentDelta * Post.COMMENT_SCORE_WEIGHT;
+        String member = postId.toString();
+
+        Long applied = redisTemplate.execute(APPLY_SCORE_CHANGE_SCRIPT, List.of(SCORE_KEY, metaKey(member), ACTIVE_KEY),
+                member,
+                String.valueOf(scoreDelta),
+                String.valueOf(likeDelta),
+                String.valueOf(commentDelta),
+                String.valueOf(Instant.now().getEpochSecond()));
+        if (applied == null || applied != NOT_RANKED) {
+            return;
+        }
+
+        for (PostRankEntry entry : rankable(postQueryRepository.findVisibleRankEntriesByIds(List.of(postId)))) {
+            redisTemplate.execute(REGISTER_SCRIPT, List.of(SCORE_KEY, metaKey(member)),
+                    member,
+                    String.valueOf(toRedisScore(entry.score(), entry.createdAt())),
+                    entry.title(),
+                    entry.category().name(),
+                    String.valueOf(entry.likeCount()),
+                    String.valueOf(entry.commentCount()),
+                    String.valueOf(entry.createdAt()));
+        }
+    }
+
+    /// 게시글 수정 시 랭킹에 있는 경우에만 제목 갱신
+    public void refreshTitle(Post post) {
+        String postId = post.getId().toString();
+        if (redisTemplate.opsForZSet().score(SCORE_KEY, postId) != null) {
+            redisTemplate.opsForHash().put(metaKey(postId), "title", post.getTitle());
+        }
+    }
+
+    /// 삭제/신고된 게시글 제외 (실시간/기간별 랭킹 모두)
+    public void remove(Long postId) {
+        String member = postId.toString();
+        String rebuildKey = runningRebuildKey();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForZSet().remove(SCORE_KEY, member);
+                ops.opsForZSet().remove(ACTIVE_KEY, member);
+                windowRankKeys().forEach(key -> ops.opsForZSet().remove(key, member));
+                ops.delete(metaKey(member));
+                // 재구축 중이면 이미 읽은 chunk 가 다시 쓰더라도 교체할 때 제외되도록 기록
+                if (rebuildKey != null) {
+                    String removedKey = rebuildKey + REMOVED_SUFFIX;
+                    ops.opsForZSet().remove(rebuildKey, member);
+                    ops.opsForSet().add(removedKey, member);
+                    ops.expire(removedKey, REBUILD_LOCK_TTL);
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * DB 기준으로 랭킹 전체 재구축
+     * 실행마다 다른 임시 키에 id 순 chunk 로 채운 뒤 교체하므로 재구축 중에도 기존 랭킹을 그대로 조회할 수 있습니다.
+     * 점수는 DB 값에 아직 반영되지 않은 증감분을 더해서 계산합니다.
+     * 재구축 중 좋아요/댓글이 바뀐 게시글은 교체 직전에 다시 읽어 덮어쓰고, 삭제/신고된 게시글은 교체와 함께 제외합니다.
+     * 여러 서버에서 동시에 실행되지 않도록 락을 잡고, 이미 진행 중이면 건너뜁니다.
+     *
+     * @return 랭킹에 등록된 게시글 수 (다른 재구축이 진행 중이면 -1)
+     */
+    public int rebuild() {
+        String lockValue = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, lockValue, REBUILD_LOCK_TTL))) {
+            log.info("[인기글 랭킹] 다른 재구축이 진행 중이라 건너뜁니다.");
+            return -1;
+        }
+
+        String rebuildKey = REBUILD_KEY_PREFIX + lockValue;
+        String previousKey = rebuildKey + PREVIOUS_SUFFIX;
+        String removedKey = rebuildKey + REMOVED_SUFFIX;
+        try {
+            long startedAt = Instant.now().getEpochSecond();
+            long afterId = 0;
+            List<PostRankEntry> chunk;
+            do {
+                chunk = postQueryRepository.findRankEntriesAfter(afterId, REBUILD_BATCH_SIZE);
+                if (!chunk.isEmpty()) {
+                    List<PostRankEntry> ranked = rankable(chunk);
+                    if (!ranked.isEmpty()) {
+                        writeBatch(rebuildKey, ranked);
+                    }
+                    afterId = chunk.get(chunk.size() - 1).postId();
+                }
+            } while (chunk.size() == REBUILD_BATCH_SIZE);
+
+            refreshChangedSince(rebuildKey, startedAt - ACTIVE_CLOCK_MARGIN_SECONDS);
+
+            Long count = redisTemplate.execute(SWAP_SCRIPT, List.of(SCORE_KEY, rebuildKey, previousKey, removedKey),
+                    String.valueOf(REBUILD_LOCK_TTL.toSeconds()));
+            deleteStaleMeta(previousKey, removedKey);
+
+            int rebuilt = count != null ? count.intValue() : 0;
+            log.info("[인기글 랭킹] 재구축 완료 ({}건)", rebuilt);
+            return rebuilt;
+        } finally {
+            releaseLock(lockValue);
+        }
+    }
+
+    /**
+     * DB 와 Redis 랭킹 비교 (누락/불필요/점수 불일치 게시글)
+     * DB 점수에는 아직 반영되지 않은 증감분을 더해서 비교합니다.
+     * DB 는 id keyset chunk 로, Redis 는 순위 구간 chunk 로 읽어서 비교합니다.
+     * 검사 중 바뀐 게시글은 한쪽에서 빠지거나 두 번 읽힐 수 있으므로 결과는 참고용입니다.
+     */
+    public ConsistencyReport checkConsistency() {
+        List<Long> missingIds = new ArrayList<>();
+        List<Long> staleIds = new ArrayList<>();
+        List<Long> scoreMismatchIds = new ArrayList<>();
+
+        int dbCount = 0;
+        long afterId = 0;
+        List<PostRankEntry> chunk;
+        do {
+            chunk = postQueryRepository.findRankEntriesAfter(afterId, REBUILD_BATCH_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            List<PostRankEntry> ranked = rankable(chunk);
+            List<Object> scores = scores(SCORE_KEY, ranked.stream().map(entry -> entry.postId().toString()).toList());
+            for (int i = 0; i < ranked.size(); i++) {
+                PostRankEntry entry = ranked.get(i);
+                Double redisScore = (Double) scores.get(i);
+                if (redisScore == null) {
+                    missingIds.add(entry.postId());
+                } else if (Math.floor(redisScore) != entry.score()) {
+                    scoreMismatchIds.add(entry.postId());
+                }
+            }
+            dbCount += ranked.size();
+            afterId = chunk.get(chunk.size() - 1).postId();
+        } while (chunk.size() == REBUILD_BATCH_SIZE);
+
+        long redisCount = Optional.ofNullable(redisTemplate.opsForZSet().zCard(SCORE_KEY)).orElse(0L);
+        for (long start = 0; start < redisCount; start += REBUILD_BATCH_SIZE) {
+            Set<String> members = redisTemplate.opsForZSet().range(SCORE_KEY, start, start + REBUILD_BATCH_SIZE - 1);
+            if (members == null || members.isEmpty()) {
+                break;
+            }
+            List<Long> redisIds = members.stream().map(Long::valueOf).toList();
+            Set<Long> dbIds = rankable(postQueryRepository.findVisibleRankEntriesByIds(redisIds)).stream()
+                    .map(PostRankEntry::postId)
+                    .collect(Collectors.toSet());
+            redisIds.stream()
+                    .filter(postId -> !dbIds.contains(postId))
+                    .forEach(staleIds::add);
+        }
+
+        return new ConsistencyReport(dbCount, (int) redisCount, missingIds, staleIds, scoreMismatchIds);
+    }
+
+    /// 랭킹 키가 없으면(최초 배포, Redis 초기화) 기동 시 재구축 (다른 서버가 재구축 중이면 건너뜀)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(SCORE_KEY))) {
+                rebuild();
+            }
+        } catch (DataAccessException e) {
+            log.warn("[인기글 랭킹] 기동 시 재구축 실패, DB 조회로 대체합니다. {}", e.getMessage());
+        }
+    }
+
+    /// 랭킹 ZSET 의 score 가 그대로 PostRankEntry.score 가 됨 (실시간은 누적 점수, HOT 은 감쇠 점수)
+    private List<PostRankEntry> readTop(String key, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+
+        List<ZSetOperations.TypedTuple<String>> ranked = new ArrayList<>(tuples);
+        List<Object> metas = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ranked.forEach(tuple -> ops.opsForHash().entries(metaKey(tuple.getValue())));
+                return null;
+            }
+        });
+
+        List<PostRankEntry> entries = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> meta = (Map<String, String>) metas.get(i);
+            // 메타가 없는 항목은 건너뜀 (정합성 검사/재구축으로 복구)
+            if (meta == null || meta.isEmpty()) {
+                continue;
+            }
+            ZSetOperations.TypedTuple<String> tuple = ranked.get(i);
+            entries.add(new PostRankEntry(
+                    Long.valueOf(tuple.getValue()),
+                    meta.get("title"),
+                    Post.Category.valueOf(meta.get("category")),
+                    Integer.parseInt(meta.get("likeCount")),
+                    Integer.parseInt(meta.get("commentCount")),
+                    key.equals(SCORE_KEY) ? Math.floor(tuple.getScore()) : tuple.getScore(),
+                    LocalDateTime.parse(meta.get("createdAt"))
+            ));
+        }
+        return entries;
+    }
+
+    /// 임시 키는 재구축이 중간에 실패해도 남지 않도록 락과 같은 TTL 을 둠 (교체할 때 해제)
+    private void writeBatch(String rebuildKey, List<PostRankEntry> batch) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = batch.stream()
+                .map(entry -> new DefaultTypedTuple<>(entry.postId().toString(), toRedisScore(entry.score(), entry.createdAt())))
+                .collect(Collectors.toSet());
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForZSet().add(rebuildKey, tuples);
+                ops.expire(rebuildKey, REBUILD_LOCK_TTL);
+                batch.forEach(entry -> writeMeta(ops, entry));
+                return null;
+            }
+        });
+    }
+
+    /// 재구축 중 좋아요/댓글이 바뀐 게시글은 기존 랭킹에만 반영됐으므로 DB 값 + 증감분을 다시 읽어 임시 키에 덮어씀
+    private void refreshChangedSince(String rebuildKey, long since) {
+        Set<String> changed = redisTemplate.opsForZSet().rangeByScore(ACTIVE_KEY, since, Double.POSITIVE_INFINITY);
+        if (changed == null || changed.isEmpty()) {
+            return;
+        }
+
+        List<Long> changedIds = changed.stream().map(Long::valueOf).toList();
+        for (int from = 0; from < changedIds.size(); from += REBUILD_BATCH_SIZE) {
+            List<Long> ids = changedIds.subList(from, Math.min(from + REBUILD_BATCH_SIZE, changedIds.size()));
+            List<PostRankEntry> entries = rankable(postQueryRepository.findVisibleRankEntriesByIds(ids));
+            if (!entries.isEmpty()) {
+                writeBatch(rebuildKey, entries);
+            }
+
+            // 점수가 0 이 되었거나 삭제/신고된 게시글은 임시 키에서 제외
+            Set<Long> rankedIds = entries.stream().map(PostRankEntry::postId).collect(Collectors.toSet());
+            Object[] dropped = ids.stream()
+                    .filter(postId -> !rankedIds.contains(postId))
+                    .map(String::valueOf)
+                    .toArray();
+            if (dropped.length > 0) {
+                redisTemplate.opsForZSet().remove(rebuildKey, dropped);
+            }
+        }
+    }
+
+    /// 교체 전 랭킹에 있었지만 새 랭킹에 없는 게시글과 재구축 중 제외된 게시글의 메타 정리
+    private void deleteStaleMeta(String previousKey, String removedKey) {
+        long previousCount = Optional.ofNullable(redisTemplate.opsForZSet().zCard(previousKey)).orElse(0L);
+        for (long start = 0; start < previousCount; start += REBUILD_BATCH_SIZE) {
+            Set<String> members = redisTemplate.opsForZSet().range(previousKey, start, start + REBUILD_BATCH_SIZE - 1);
+            if (members == null || members.isEmpty()) {
+                break;
+            }
+            List<String> previousIds = new ArrayList<>(members);
+            List<Object> scores = scores(SCORE_KEY, previousIds);
+            List<String> staleMetaKeys = new ArrayList<>();
+            for (int i = 0; i < previousIds.size(); i++) {
+                if (scores.get(i) == null) {
+                    staleMetaKeys.add(metaKey(previousIds.get(i)));
+                }
+            }
+            if (!staleMetaKeys.isEmpty()) {
+                redisTemplate.delete(staleMetaKeys);
+            }
+        }
+
+        Set<String> removedIds = Optional.ofNullable(redisTemplate.opsForSet().members(removedKey)).orElse(Set.of());
+        if (!removedIds.isEmpty()) {
+            redisTemplate.delete(removedIds.stream().map(this::metaKey).toList());
+        }
+        redisTemplate.delete(List.of(previousKey, removedKey));
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 좋아요/댓글 증감분을 더하고, 점수가 1 미만인 게시글은 제외 (applyScoreChange 와 같은 기준)
+     * 증감분을 읽는 사이에 flush 가 끝나면 그 게시글은 잠시 두 번 더해지거나 빠질 수 있으며, 다음 변경 / 재구축에서 맞춰집니다.
+     */
+    private List<PostRankEntry> rankable(List<PostRankEntry> entries) {
+        if (entries.isEmpty()) {
+            return entries;
+        }
+        Map<Long, PostCountDelta> pending = postCounterService.pending(entries.stream().map(PostRankEntry::postId).toList());
+        return entries.stream()
+                .map(entry -> entry.withPending(pending.getOrDefault(entry.postId(), PostCountDelta.NONE)))
+                .filter(entry -> entry.score() >= 1)
+                .toList();
+    }
+
+    /// member 순서대로 ZSCORE 결과 (없으면 null)
+    private List<Object> scores(String key, List<String> members) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                members.forEach(member -> ops.opsForZSet().score(key, member));
+                return null;
+            }
+        });
+    }
+
+    /// 진행 중인 재구축의 임시 키 (없으면 null)
+    private String runningRebuildKey() {
+        String lockValue = redisTemplate.opsForValue().get(REBUILD_LOCK_KEY);
+        return lockValue != null ? REBUILD_KEY_PREFIX + lockValue : null;
+    }
+
+    private void releaseLock(String lockValue) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(REBUILD_LOCK_KEY), lockValue);
+        } catch (DataAccessException e) {
+            log.warn("[인기글 랭킹] 재구축 락 해제 실패, TTL 로 해제됩니다. {}", e.getMessage());
+        }
+    }
+
+    /// DB 에서 기간/카테고리 조건으로 직접 계산 (Redis 장애 시 대체 조회)
+    private List<PostRankEntry> findWindowTopFromDb(PostRankType type, Post.Category category, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        Comparator<PostRankEntry> order = type == PostRankType.HOT
+                ? Comparator.comparingDouble((PostRankEntry entry) -> PostHotScore.calculate(entry.score(), entry.createdAt(), now))
+                : Comparator.comparingDouble((PostRankEntry entry) -> toRedisScore(entry.score(), entry.createdAt()));
+
+        return postQueryRepository.findRankEntries(category, now.minus(type.getWindow())).stream()
+                .sorted(order.reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    static void writeMeta(RedisOperations<String, String> ops, PostRankEntry entry) {
+        ops.opsForHash().putAll(META_KEY_PREFIX + entry.postId(), Map.of(
+                "title", entry.title(),
+                "category", entry.category().name(),
+                "likeCount", String.valueOf(entry.likeCount()),
+                "commentCount", String.valueOf(entry.commentCount()),
+                "createdAt", String.valueOf(entry.createdAt())
+        ));
+    }
+
+    /// 기간별 랭킹 키 전체 (유형 x (전체 + 카테고리))
+    static List<String> windowRankKeys() {
+        List<String> keys = new ArrayList<>();
+        for (PostRankType type : PostRankType.values()) {
+            if (type == PostRankType.REALTIME) {
+                continue;
+            }
+            keys.add(rankKey(type, null));
+            for (Post.Category category : Post.Category.values()) {
+                keys.add(rankKey(type, category));
+            }
+        }
+        return keys;
+    }
+
+    /// 실시간은 post:rank:score, 그 외는 post:rank:{type}:{ALL|카테고리}
+    static String rankKey(PostRankType type, Post.Category category) {
+        if (type == PostRankType.REALTIME) {
+            return SCORE_KEY;
+        }
+        return "post:rank:" + type.name().toLowerCase() + ":" + (category != null ? category.name() : ALL_CATEGORY);
+    }
+
+    /// 점수가 같으면 최신 게시글이 앞서도록 작성시각(epoch seconds)을 [0, 1) 소수부로 더함
+    static double toRedisScore(double score, LocalDateTime createdAt) {
+        double tieBreaker = createdAt != null ? createdAt.toEpochSecond(ZoneOffset.UTC) / 1e10 : 0;
+        return score + tieBreaker;
+    }
+
+    private String metaKey(String postId) {
+        return META_KEY_PREFIX + postId;
+    }
+
+    public record ConsistencyReport(
+            int dbCount,
+            int redisCount,
+            List<Long> missingIds,
+            List<Long> staleIds,
+            List<Long> scoreMismatchIds
+    ) {
+        public boolean isConsistent() {
+            return missingIds.isEmpty() && staleIds.isEmpty() && scoreMismatchIds.isEmpty();
+        }
+    }
+}
@@ -4,9 +4,12 @@ import com.even.zaro.dto.post.ReportRequestDTO;
 import com.even.zaro.dto.post.ReportResponseDto;
 import com.even.zaro.entity.*;
 import com.even.zaro.global.ErrorCode;
+import com.even.zaro.global.event.event.ReportThresholdReachedEvent;
 import com.even.zaro.global.exception.post.PostException;
 import com.even.zaro.repository.PostReportRepository;
+import com.even.zaro.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,8 +20,10 @@ import java.time.LocalDateTime;
 public class PostReportService {
 
     private final PostReportRepository postReportRepository;
+    private final PostRepository postRepository;
     private final UserService userService;
     private final PostService postService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public ReportResponseDto reportPost(Long postId, ReportRequestDTO request, Long userId) {
@@ -42,11 +47,10 @@ public class PostReportService {
                 .createdAt(LocalDateTime.now())
                 .build());
 
-        int reportCount = postReportRepository.countByPost(post);
-        post.changeReportCount(reportCount);
-
-        if (reportCount >= 5 && !post.isReported()){
-            post.markAsReported();
+        // 숨김 처리(DB / 캐시 / 검색 인덱스)는 기준 도달 시 큐에 등록해서 비동기로 처리 (ModerationService)
+        postRepository.incrementReportCount(postId);
+        if (postRepository.findReportCountById(postId) >= ModerationService.HIDE_THRESHOLD) {
+            eventPublisher.publishEvent(new ReportThresholdReachedEvent(ReportThresholdReachedEvent.Target.POST, postId));
         }
         return new ReportResponseDto(
                 request.getReasonType(),
@@ -1,30 +1,29 @@
 package com.even.zaro.service;
 
+import com.even.zaro.dto.CursorResponse;
 import com.even.zaro.dto.PageResponse;
 import com.even.zaro.dto.post.*;
 import com.even.zaro.entity.Post;
-import com.even.zaro.entity.Status;
 import com.even.zaro.entity.User;
 import com.even.zaro.global.event.event.PostDeletedEvent;
 import com.even.zaro.global.event.event.PostSavedEvent;
+import com.even.zaro.global.event.event.PostScoreChangedEvent;
 import com.even.zaro.global.ErrorCode;
 import com.even.zaro.global.exception.post.PostException;
+import com.even.zaro.global.util.CursorCodec;
 import com.even.zaro.mapper.PostMapper;
-import com.even.zaro.repository.FollowRepository;
+import com.even.zaro.repository.PostQueryRepository;
 import com.even.zaro.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
-import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -34,8 +33,19 @@ public class PostService {
     private final ApplicationEventPublisher eventPublisher;
     private final UserService userService;
     private final PostMapper postMapper;
-    private final PostRankBaselineMemoryStore postRankBaselineMemoryStore;
-    private final FollowRepository followRepository;
+    private final PostRankSnapshotStore postRankSnapshotStore;
+    private final FollowGraphService followGraphService;
+    private final PostQueryRepository postQueryRepository;
+    private final PostRankingService postRankingService;
+    private final HomePostPreviewCache homePostPreviewCache;
+    private final PostDetailCache postDetailCache;
+    private final PostCounterService postCounterService;
+    private final LikedPostCache likedPostCache;
+
+    private static final int MAX_FEED_SIZE = 50;
+    private static final int HOME_PREVIEW_SIZE = 5;
+    private static final List<Post.Category> HOME_CATEGORIES =
+            List.of(Post.Category.TOGETHER, Post.Category.DAILY_LIFE, Post.Category.RANDOM_BUY);
 
     @Transactional
     public PostDetailResponse createPost(PostCreateRequest request, Long userId) {
@@ -92,75 +102,103 @@ public class PostService {
         eventPublisher.publishEvent(new PostSavedEvent(post));
     }
 
+    /// @param currentUserId 로그인 유저 (null 이면 좋아요 여부 생략)
     @Transactional(readOnly = true)
-    public PageResponse<PostPreviewDto> getPostListPage(String category, String tag, Pageable pageable) {
-        Page<Post> page = resolvePostList(category, tag, pageable);
-        return new PageResponse<>(page.map(postMapper::toPostPreviewDto));
+    public PageResponse<PostPreviewDto> getPostListPage(String category, String tag, Pageable pageable, Long currentUserId) {
+        PostFilter filter = resolveFilter(category, tag);
+        Page<PostPreviewRow> page = postQueryRepository.findPreviewPage(filter.category(), filter.tag(), pageable);
+        Function<PostPreviewRow, PostPreviewDto> toDto = previewMapper(page.getContent(), currentUserId);
+        return new PageResponse<>(page.map(toDto::apply));
     }
 
-    private Page<Post> resolvePostList(String category, String tag, Pageable pageable) {
+    /// @param currentUserId 로그인 유저 (null 이면 좋아요 여부 생략)
+    @Transactional(readOnly = true)
+    public CursorResponse<PostPreviewDto> getPostFeed(String category, String tag, String cursor, int size, Long currentUserId) {
+        PostFilter filter = resolveFilter(category, tag);
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+
+        // 다음 페이지 존재 여부는 size + 1 개를 조회해서 판단 (COUNT 쿼리 X)
+        List<PostPreviewRow> rows = postQueryRepository.findFeedPreviews(
+                filter.category(), filter.tag(), CursorCodec.decode(cursor), pageSize + 1);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PostPreviewRow> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            PostPreviewRow last = pageRows.get(pageRows.size() - 1);
+            nextCursor = CursorCodec.encode(last.createdAt(), last.postId());
+        }
+
+        return new CursorResponse<>(pageRows.stream()
+                .map(previewMapper(pageRows, currentUserId))
+                .toList(), nextCursor);
+    }
+
+    /**
+     * 목록 row -> 응답 변환 함수
+     * 좋아요/댓글 수에는 아직 DB 에 반영되지 않은 증감분을 더하고,
+     * 로그인 유저의 좋아요 여부는 목록 전체를 한 번에 확인해서 채웁니다.
+     */
+    private Function<PostPreviewRow, PostPreviewDto> previewMapper(List<PostPreviewRow> rows, Long currentUserId) {
+        List<Long> postIds = rows.stream().map(PostPreviewRow::postId).toList();
+        Map<Long, PostCountDelta> pending = postCounterService.pending(postIds);
+        Set<Long> liked = currentUserId != null ? likedPostCache.likedAmong(currentUserId, postIds) : null;
+
+        return row -> postMapper.toPostPreviewDto(
+                row.withPending(pending.getOrDefault(row.postId(), PostCountDelta.NONE)),
+                liked != null ? liked.contains(row.postId()) : null);
+    }
+
+    /// 목록 조회용 카테고리/태그 필터 검증 (null 이면 전체 조회)
+    private PostFilter resolveFilter(String category, String tag) {
 
         boolean categoryEmpty = isBlank(category);
         boolean tagEmpty = isBlank(tag);
 
         if (categoryEmpty && tagEmpty) {
-            return postRepository.findByIsDeletedFalseAndIsReportedFalse(pageable);
+            return new PostFilter(null, null);
         }
         if (!categoryEmpty && tagEmpty) {
-            Post.Category postCategory = parseCategory(category);
-            return postRepository.findByCategoryAndIsDeletedFalseAndIsReportedFalse(postCategory, pageable);
+            return new PostFilter(parseCategory(category), null);
         }
         if (!categoryEmpty) {
             Post.Category postCategory = parseCategory(category);
             Post.Tag postTag = convertTag(tag);
             validateTagForCategory(postCategory, postTag);
-            return postRepository.findByCategoryAndTagAndIsDeletedFalseAndIsReportedFalse(postCategory, postTag, pageable);
-        }
-            throw new PostException(ErrorCode.INVALID_CATEGORY);
+            return new PostFilter(postCategory, postTag);
         }
+        throw new PostException(ErrorCode.INVALID_CATEGORY);
+    }
+
+    private record PostFilter(Post.Category category, Post.Tag tag) {
+    }
+
     private boolean isBlank(String s) {
         return s == null || s.isBlank();
     }
 
 
+    /**
+     * 게시글 상세 조회
+     * 본문/이미지/작성자 정보는 캐시({@link PostDetailCache})에서 읽고,
+     * 노출 여부와 좋아요/댓글 수(+ 미반영 증감분), 조회자의 팔로우 여부만 요청마다 조회합니다.
+     */
     @Transactional(readOnly = true)
     public PostDetailResponse getPostDetail(Long postId, Long currentUserId) {
-        Post post = findPostOrThrow(postId);
-        PostDetailResponse response = postMapper.toPostDetailDto(post);
-
-        User postOwner  = post.getUser();
-        User loginUser = userService.findUserById(currentUserId);
-
-        boolean isDeleted = postOwner.getStatus() == Status.DELETED;
+        PostRepository.CountView counts = postRepository.findVisibleCountsById(postId)
+                .orElseThrow(() -> new PostException(ErrorCode.POST_NOT_FOUND));
 
-        String nickname =  isDeleted ? "알 수 없는 사용자" : response.getUser().getNickname();
-        String profileImage = isDeleted ? null : response.getUser().getProfileImage();
-        LocalDate liveAloneDate = isDeleted ? null : response.getUser().getLiveAloneDate();
+        PostCountDelta pending = postCounterService.pending(List.of(postId)).getOrDefault(postId, PostCountDelta.NONE);
 
-        boolean isFollowing = !loginUser.equals(postOwner) &&
-                followRepository.existsByFollowerAndFollowee(loginUser, postOwner);
+        PostDetailSnapshot snapshot = postDetailCache.get(postId,
+                () -> postMapper.toPostDetailSnapshot(findPostOrThrow(postId)));
 
-        PostDetailResponse.UserInfo followUser = PostDetailResponse.UserInfo.builder()
-                .userId(response.getUser().getUserId())
-                .nickname(nickname)
-                .profileImage(profileImage)
-                .liveAloneDate(liveAloneDate)
-                .following(isFollowing)
-                .build();
+        boolean isFollowing = !snapshot.writerId().equals(currentUserId) &&
+                followGraphService.follows(currentUserId, snapshot.writerId());
 
-        return PostDetailResponse.builder()
-                .postId(response.getPostId())
-                .title(response.getTitle())
-                .content(response.getContent())
-                .thumbnailImage(response.getThumbnailImage())
-                .category(response.getCategory())
-                .tag(response.getTag())
-                .likeCount(response.getLikeCount())
-                .commentCount(response.getCommentCount())
-                .postImageList(response.getPostImageList())
-                .createdAt(response.getCreatedAt())
-                .user(followUser)
-                .build();
+        return postMapper.toPostDetailDto(snapshot,
+                pending.applyToLikes(counts.getLikeCount()), pending.applyToComments(counts.getCommentCount()), isFollowing);
     }
 
     @Transactional
@@ -173,77 +211,101 @@ public class PostService {
         validatePostNotOwner(post, user);
 
         post.markAsDeleted();
-        eventPublisher.publishEvent(new PostDeletedEvent(postId));
+        eventPublisher.publishEvent(new PostDeletedEvent(postId, post.getCategory()));
     }
 
 
-    @Transactional
+    /**
+     * 홈 화면 카테고리별 최신 게시글 조회
+     * 캐시(L1 Caffeine / L2 Redis) 적중 시 트랜잭션과 DB 커넥션 없이 응답하고,
+     * 캐시가 비어 있는 카테고리는 작성자 join + ROW_NUMBER 쿼리 한 번으로 함께 적재합니다.
+     */
     public HomePostPreviewResponse getHomePostPreview() {
-        List<Post> togetherPosts = postRepository.findTop5ByCategoryAndIsDeletedFalseAndIsReportedFalseOrderByCreatedAtDesc(Post.Category.TOGETHER);
-        List<Post> dailyLifePosts = postRepository.findTop5ByCategoryAndIsDeletedFalseAndIsReportedFalseOrderByCreatedAtDesc(Post.Category.DAILY_LIFE);
-        List<Post> randomBuyPosts = postRepository.findTop5ByCategoryAndIsDeletedFalseAndIsReportedFalseOrderByCreatedAtDesc(Post.Category.RANDOM_BUY);
-
-        List<HomePostPreviewResponse.SimplePostDto> together = togetherPosts.stream()
-                .map(postMapper::toSimplePostDto)
-                .toList();
-
-        List<HomePostPreviewResponse.SimplePostDto> dailyLife = dailyLifePosts.stream()
-                .map(postMapper::toSimplePostDto)
-                .toList();
-
-        List<HomePostPreviewResponse.RandomBuyPostDto> randomBuy = randomBuyPosts.stream()
-                .map(postMapper::toRandomBuyDto)
-                .toList();
+        Map<Post.Category, List<HomePostRow>> posts = homePostPreviewCache.getPosts(HOME_CATEGORIES, this::loadHomePosts);
 
         return HomePostPreviewResponse.builder()
-                .together(together)
-                .dailyLife(dailyLife)
-                .randomBuy(randomBuy)
+                .together(posts.getOrDefault(Post.Category.TOGETHER, List.of()).stream()
+                        .map(postMapper::toSimplePostDto)
+                        .toList())
+                .dailyLife(posts.getOrDefault(Post.Category.DAILY_LIFE, List.of()).stream()
+                        .map(postMapper::toSimplePostDto)
+                        .toList())
+                .randomBuy(posts.getOrDefault(Post.Category.RANDOM_BUY, List.of()).stream()
+                        .map(postMapper::toRandomBuyDto)
+                        .toList())
                 .build();
     }
 
-    @Transactional
-    public List<PostRankResponseDto> getRankedPosts() {
-        List<Post> posts = postRepository.findTopPosts(0, PageRequest.of(0, 5));
-
-        // 최초 baseline 순위 등록 (처음 진입 시 기준 순위 기록용)
-        if (postRankBaselineMemoryStore.getBaselineRankIndexMap().isEmpty()) {
-            postRankBaselineMemoryStore.updateBaselineRank(posts);
-        }
-
-        // 최초 prevRank 등록 (처음 진입 시 이전 순위 기록용)
-        if (postRankBaselineMemoryStore.getPrevRankIndexMap().isEmpty()) {
-            postRankBaselineMemoryStore.updatePrevRank(posts);
+    private Map<Post.Category, List<HomePostRow>> loadHomePosts(Set<Post.Category> categories) {
+        Map<Post.Category, List<HomePostRow>> posts = new EnumMap<>(Post.Category.class);
+        categories.forEach(category -> posts.put(category, new ArrayList<>()));
+
+        List<String> categoryNames = categories.stream().map(Post.Category::name).toList();
+        for (PostRepository.HomePostView view : postRepository.findHomeTopPosts(categoryNames, HOME_PREVIEW_SIZE)) {
+            posts.get(view.getCategory()).add(new HomePostRow(
+                    view.getCategory(),
+                    view.getPostId(),
+                    view.getTitle(),
+                    view.getContent(),
+                    view.getThumbnailImage(),
+                    view.getLikeCount(),
+                    view.getCommentCount(),
+                    view.getCreatedAt(),
+                    view.getWriterNickname(),
+                    view.getWriterProfileImage(),
+                    view.getWriterStatus()
+            ));
         }
+        return posts;
+    }
 
-        // 직전 순위 기준으로 rankChange 계산해야하므로 prevRankIndexMap 복사본을 확보
-        Map<Long, Integer> prevRankMapBeforeUpdate = new ConcurrentHashMap<>(postRankBaselineMemoryStore.getPrevRankIndexMap());
+    /**
+     * 유형/카테고리별 인기 게시글 조회 (Redis 랭킹 조회, Redis 장애 시에만 DB 조회)
+     *
+     * @param type REALTIME(기본) / HOT / DAILY / WEEKLY
+     * @param category 카테고리 (HOT / DAILY / WEEKLY 에서만 사용, null 이면 전체)
+     */
+    public List<PostRankResponseDto> getRankedPosts(String type, String category) {
+        PostRankType rankType = parseRankType(type);
+        Post.Category rankCategory = rankType == PostRankType.REALTIME || isBlank(category) ? null : parseCategory(category);
+
+        List<PostRankEntry> entries = postRankingService.getTopPosts(rankType, rankCategory, PostRankingService.RANK_SIZE);
+
+        // 모든 노드가 공유하는 스냅샷 기준으로 순위 변화 계산 (요청마다 순위를 기록하지 않음)
+        PostRankSnapshot snapshot = postRankSnapshotStore.current();
+        String rankKey = PostRankingService.rankKey(rankType, rankCategory);
+        return toRankResponses(entries, snapshot.baselineOf(rankKey), snapshot.prevOf(rankKey));
+    }
 
+    private List<PostRankResponseDto> toRankResponses(List<PostRankEntry> entries,
+                                                      Map<Long, Integer> baselineMap,
+                                                      Map<Long, Integer> prevRankMap) {
         // 현재 순위 계산( 1 ~ 5 순위 )
         AtomicInteger currentIndex = new AtomicInteger(1);
 
-        Map<Long, Integer> baselineMap = postRankBaselineMemoryStore.getBaselineRankIndexMap();
-
-        List<PostRankResponseDto> result =  posts.stream()
-                .map(post -> {
+        return entries.stream()
+                .map(entry -> {
                     int currentRankIndex = currentIndex.getAndIncrement();
-                    int baselineRankIndex = baselineMap.getOrDefault(post.getId(), currentRankIndex);
-                    int prevRankIndex = prevRankMapBeforeUpdate.getOrDefault(post.getId(), currentRankIndex);
+                    int baselineRankIndex = baselineMap.getOrDefault(entry.postId(), currentRankIndex);
+                    int prevRankIndex = prevRankMap.getOrDefault(entry.postId(), currentRankIndex);
 
                     // 직전순위 - 현재순위
                     int rankChange = prevRankIndex - currentRankIndex;
 
-                    return PostRankResponseDto.from(post,baselineRankIndex,currentRankIndex,rankChange);
+                    return PostRankResponseDto.from(entry, baselineRankIndex, currentRankIndex, rankChange);
                 })
                 .toList();
-
-        postRankBaselineMemoryStore.updatePrevRank(posts);
-        return result;
     }
 
+    /**
+     * 좋아요/댓글 수 변경 (커밋 후 증감분만 카운터와 Redis 랭킹에 반영)
+     * Post 행의 수/점수는 PostCounterService 가 주기적으로 증감분을 더해서 갱신하므로 여기서 변경하지 않습니다.
+     */
     @Transactional
-    public void updatePostScore(Post post) {
-        post.updateScore();
+    public void updatePostScore(Long postId, int likeDelta, int commentDelta) {
+        if (likeDelta != 0 || commentDelta != 0) {
+            eventPublisher.publishEvent(new PostScoreChangedEvent(postId, likeDelta, commentDelta));
+        }
     }
 
     // 공통 로직 분리
@@ -253,12 +315,6 @@ public class PostService {
                 .orElseThrow(() -> new PostException(ErrorCode.POST_NOT_FOUND));
     }
 
-    /// 게시글 찾을 없을때 - 삭제만 검사 (postLike)
-    public Post findUndeletedPostOrThrow(Long postId) {
-        return postRepository.findByIdAndIsDeletedFalse(postId)
-                .orElseThrow(() -> new PostException(ErrorCode.POST_NOT_FOUND));
-    }
-
 
     /// 올바르지 않은 카테고리 일때
     private Post.Category parseCategory(String category) {
@@ -270,6 +326,19 @@ public class PostService {
     }
 
 
+    /// 올바르지 않은 인기글 유형 일때 (미입력 시 실시간)
+    private PostRankType parseRankType(String type) {
+        if (isBlank(type)) {
+            return PostRankType.REALTIME;
+        }
+        try {
+            return PostRankType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new PostException(ErrorCode.INVALID_RANK_TYPE);
+        }
+    }
+
+
     /// 올바르지 않은 태그 일때
     private Post.Tag convertTag(String tag) {
         try {
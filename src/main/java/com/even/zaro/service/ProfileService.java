@@ -1,17 +1,21 @@
 package com.even.zaro.service;
 
 import com.even.zaro.dto.PageResponse;
+import com.even.zaro.dto.post.PostCountDelta;
+import com.even.zaro.dto.post.PostPreviewRow;
 import com.even.zaro.dto.profile.*;
 import com.even.zaro.repository.*;
 import com.even.zaro.entity.*;
 
 import com.even.zaro.global.ErrorCode;
+import com.even.zaro.global.event.event.FollowDeletedEvent;
 import com.even.zaro.global.exception.comment.CommentException;
 import com.even.zaro.global.exception.profile.ProfileException;
 
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -19,6 +23,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Slf4j
@@ -31,12 +37,16 @@ public class ProfileService {
     private final CommentRepository commentRepository;
     private final FollowRepository followRepository;
     private final UserService userService;
+    private final PostQueryRepository postQueryRepository;
+    private final FollowGraphService followGraphService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostCounterService postCounterService;
 
     // 유저 기본 프로필 조회
     public UserProfileDto getUserProfile(Long profileUserId, Long currentUserId) {
         User profileOwner = userService.findActiveUserById(profileUserId);
         boolean isMine = profileUserId.equals(currentUserId);
-        boolean isFollowing = currentUserId != null && !isMine && followRepository.existsByFollower_IdAndFollowee_Id(currentUserId, profileUserId);
+        boolean isFollowing = currentUserId != null && !isMine && followGraphService.follows(currentUserId, profileUserId);
 
         int postCount = postRepository.countByUserAndIsDeletedFalse(profileOwner);
 
@@ -55,43 +65,19 @@ public class ProfileService {
     }
 
     // 유저가 쓴 게시물 list 조회
+    @Transactional(readOnly = true)
     public PageResponse<UserPostDto> getUserPosts(Long userId, Pageable pageable) {
         User user = userService.findActiveUserById(userId);
 
-        Page<UserPostDto> page = postRepository.findByUserAndIsDeletedFalse(user, pageable)
-                .map(post -> UserPostDto.builder()
-                        .postId(post.getId())
-                        .title(post.getTitle())
-                        .content(stripHtmlTags(post.getContent()))
-                        .category(post.getCategory().name())
-                        .tag(post.getTag() != null ? post.getTag().name() : null)
-                        .thumbnailImage(post.getThumbnailImage())
-                        .likeCount(post.getLikeCount())
-                        .commentCount(post.getCommentCount())
-                        .createdAt(post.getCreatedAt().atOffset(ZoneOffset.UTC))
-                        .build());
-
-        return new PageResponse<>(page);
+        return toUserPostPage(postQueryRepository.findUserPostPreviews(user.getId(), pageable));
     }
 
     // 유저가 좋아요 누른 게시물 list 조회
+    @Transactional(readOnly = true)
     public PageResponse<UserPostDto> getUserLikedPosts(Long userId, Pageable pageable) {
         User user = userService.findActiveUserById(userId);
 
-        Page<UserPostDto> page = postLikeRepository.findByUser(user, pageable)
-                .map(postLike -> UserPostDto.builder()
-                        .postId(postLike.getPost().getId())
-                        .title(postLike.getPost().getTitle())
-                        .content(stripHtmlTags(postLike.getPost().getContent()))
-                        .category(postLike.getPost().getCategory().name())
-                        .tag(postLike.getPost().getTag() != null ? postLike.getPost().getTag().name() : null)
-                        .thumbnailImage(postLike.getPost().getThumbnailImage())
-                        .likeCount(postLike.getPost().getLikeCount())
-                        .commentCount(postLike.getPost().getCommentCount())
-                        .createdAt(postLike.getPost().getCreatedAt().atOffset(ZoneOffset.UTC))
-                        .build());
-
-        return new PageResponse<>(page);
+        return toUserPostPage(postQueryRepository.findLikedPostPreviews(user.getId(), pageable));
     }
 
     // 유저가 작성한 댓글 list 조회
@@ -169,6 +155,7 @@ public class ProfileService {
                 .orElseThrow(() -> new ProfileException(ErrorCode.FOLLOW_NOT_EXIST));
 
         followRepository.delete(follow);
+        eventPublisher.publishEvent(new FollowDeletedEvent(followerId, followeeId));
 
         // 팔로잉 & 팔로워 카운트 감소
         follower.setFollowingCount(follower.getFollowingCount() - 1);
@@ -181,53 +168,62 @@ public class ProfileService {
     // 팔로잉 목록 조회
     public List<FollowerFollowingListDto> getUserFollowings(Long userId, Long currentUserId) {
         User targetUser = userService.findUserById(userId);
-        User loginUser = userService.findUserById(currentUserId);
+        userService.findUserById(currentUserId); // 로그인 유저 존재 확인
 
-        return followRepository.findByFollower(targetUser).stream()
+        List<User> followees = followRepository.findByFollower(targetUser).stream()
                 .map(Follow::getFollowee)
                 .filter(followee -> followee.getStatus() != Status.DELETED)
-                .map(followee -> {
-                    boolean isFollowing = followRepository.existsByFollowerAndFollowee(loginUser, followee);
-                    return FollowerFollowingListDto.builder()
-                            .userId(followee.getId())
-                            .userName(followee.getNickname())
-                            .profileImage(followee.getProfileImage())
-                            .following(isFollowing)
-                            .build();
-                })
                 .toList();
+
+        return toFollowListDtos(followees, currentUserId);
     }
 
     // 팔로워 목록 조회
     public List<FollowerFollowingListDto> getUserFollowers(Long userId, Long currentUserId) {
         User targetUser = userService.findUserById(userId);
-        User loginUser = userService.findUserById(currentUserId);
+        userService.findUserById(currentUserId); // 로그인 유저 존재 확인
 
-        return followRepository.findByFollowee(targetUser).stream()
+        List<User> followers = followRepository.findByFollowee(targetUser).stream()
                 .map(Follow::getFollower)
                 .filter(follower -> follower.getStatus() != Status.DELETED)
-                .map(follower -> {
-                    boolean isFollowing = followRepository.existsByFollowerAndFollowee(loginUser, follower);
-                    return FollowerFollowingListDto.builder()
-                            .userId(follower.getId())
-                            .userName(follower.getNickname())
-                            .profileImage(follower.getProfileImage())
-                            .following(isFollowing)
-                            .build();
-                })
+                .toList();
+
+        return toFollowListDtos(followers, currentUserId);
+    }
+
+    // 로그인 유저의 팔로우 여부는 목록 전체를 한 번에 확인
+    private List<FollowerFollowingListDto> toFollowListDtos(List<User> users, Long currentUserId) {
+        Set<Long> following = followGraphService.followsAny(currentUserId,
+                users.stream().map(User::getId).toList());
+
+        return users.stream()
+                .map(user -> FollowerFollowingListDto.builder()
+                        .userId(user.getId())
+                        .userName(user.getNickname())
+                        .profileImage(user.getProfileImage())
+                        .following(following.contains(user.getId()))
+                        .build())
                 .toList();
     }
 
-    /// 태그 및 특수문자 제거
-    private String stripHtmlTags(String html) {
-        if (html == null) return "";
-        html = html.replace("&lt;", "<").replace("&gt;", ">");
-        return html
-                .replaceAll("(?i)<br\\s*/?>", "")
-                .replaceAll("<[^>]*>", "")
-                .replaceAll("\\\\","")
-                .replaceAll("[*_`~>]", "")
-                .replaceAll("\\s+", " ")
-                .trim();
+    // 좋아요/댓글 수는 아직 DB 에 반영되지 않은 증감분을 더해서 응답
+    private PageResponse<UserPostDto> toUserPostPage(Page<PostPreviewRow> rows) {
+        Map<Long, PostCountDelta> pending = postCounterService.pending(rows.map(PostPreviewRow::postId).getContent());
+        return new PageResponse<>(rows.map(row ->
+                toUserPostDto(row.withPending(pending.getOrDefault(row.postId(), PostCountDelta.NONE)))));
+    }
+
+    private UserPostDto toUserPostDto(PostPreviewRow row) {
+        return UserPostDto.builder()
+                .postId(row.postId())
+                .title(row.title())
+                .content(row.contentPreview() != null ? row.contentPreview() : "")
+                .category(row.category().name())
+                .tag(row.tag() != null ? row.tag().name() : null)
+                .thumbnailImage(row.thumbnailImage())
+                .likeCount(row.likeCount())
+                .commentCount(row.commentCount())
+                .createdAt(row.createdAt().atOffset(ZoneOffset.UTC))
+                .build();
     }
 }
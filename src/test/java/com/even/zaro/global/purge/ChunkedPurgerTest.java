@@ -0,0 +1,120 @@
+package com.even.zaro.global.purge;
+
+import com.even.zaro.entity.Provider;
+import com.even.zaro.entity.Status;
+import com.even.zaro.entity.User;
+import com.even.zaro.repository.NotificationRepository;
+import com.even.zaro.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * chunk 단위 커밋 / afterId 진행 확인
+ * 커밋을 확인해야 하므로 @Transactional 없이 실행하고, 만든 데이터는 직접 정리합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ChunkedPurgerTest {
+
+    private static final int OLD_ROWS = ChunkedPurger.CHUNK_SIZE * 2 + 500;
+    private static final int RECENT_ROWS = 10;
+    // 다른 테스트가 만든 알림과 섞이지 않도록 먼 과거를 기준으로 삭제
+    private static final LocalDateTime DELETING_DATE = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Autowired
+    private ChunkedPurger chunkedPurger;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .email("purge@even.com")
+                .password("encodedPassword")
+                .nickname("정리")
+                .provider(Provider.LOCAL)
+                .status(Status.ACTIVE)
+                .build());
+        insertNotifications(OLD_ROWS, DELETING_DATE.minusDays(1));
+        insertNotifications(RECENT_ROWS, DELETING_DATE.plusDays(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM notification WHERE user_id = ?", user.getId());
+        userRepository.deleteById(user.getId());
+    }
+
+    @Test
+    void chunk_마다_커밋하며_다음_id_범위로_진행() {
+        // given : chunk 를 찾을 때마다 다른 커넥션에서 보이는(커밋된) 남은 행 수와 afterId 기록
+        List<Integer> visibleBeforeChunk = new ArrayList<>();
+        List<Long> afterIds = new ArrayList<>();
+
+        // when
+        ChunkedPurger.PurgeResult result = chunkedPurger.purge("notification", new ChunkedPurger.PurgeTarget() {
+            @Override
+            public List<Long> findIdsAfter(long afterId, Pageable limit) {
+                visibleBeforeChunk.add(CompletableFuture.supplyAsync(ChunkedPurgerTest.this::countOld).join());
+                afterIds.add(afterId);
+                return notificationRepository.findIdsCreatedBefore(DELETING_DATE, afterId, limit);
+            }
+
+            @Override
+            public int deleteRange(long fromId, long toId) {
+                return notificationRepository.deleteCreatedBeforeInRange(DELETING_DATE, fromId, toId);
+            }
+        });
+
+        // then
+        assertThat(result.deleted()).isEqualTo(OLD_ROWS);
+        assertThat(result.chunks()).isEqualTo(3);
+        assertThat(visibleBeforeChunk).containsExactly(
+                OLD_ROWS, OLD_ROWS - ChunkedPurger.CHUNK_SIZE, OLD_ROWS - ChunkedPurger.CHUNK_SIZE * 2);
+        assertThat(afterIds).startsWith(0L).isSorted().doesNotHaveDuplicates();
+        assertThat(countOld()).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notification WHERE user_id = ?", Integer.class, user.getId()))
+                .isEqualTo(RECENT_ROWS);
+    }
+
+    private void insertNotifications(int count, LocalDateTime createdAt) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{user.getId(), (long) i, Timestamp.valueOf(createdAt)});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO notification (user_id, actor_count, type, target_id, is_read, created_at)
+                VALUES (?, 1, 'FOLLOW', ?, false, ?)
+                """, rows);
+    }
+
+    private int countOld() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notification WHERE user_id = ? AND created_at < ?",
+                Integer.class, user.getId(), Timestamp.valueOf(DELETING_DATE));
+    }
+}
@@ -0,0 +1,115 @@
+package com.even.zaro.integration.notification;
+
+import com.even.zaro.dto.notification.NotificationDto;
+import com.even.zaro.entity.*;
+import com.even.zaro.repository.PostRepository;
+import com.even.zaro.repository.UserRepository;
+import com.even.zaro.service.NotificationPipeline;
+import com.even.zaro.service.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요 알림을 메모리에서 묶는 동안(notification.coalesce.window) 의 동작
+ * 기본 테스트 설정은 바로 저장(0s)이므로 묶는 시간을 따로 지정합니다.
+ * 알림은 커밋 이후 파이프라인 스레드에서 저장되므로 @Transactional 없이 실행하고, 만든 데이터는 직접 정리합니다.
+ */
+@SpringBootTest(properties = "notification.coalesce.window=2s")
+@ActiveProfiles("test")
+public class NotificationCoalescingTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationPipeline notificationPipeline;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<User> users = new ArrayList<>();
+    private Post post;
+
+    @AfterEach
+    void tearDown() {
+        users.forEach(user -> jdbcTemplate.update("DELETE FROM notification WHERE user_id = ?", user.getId()));
+        if (post != null) {
+            postRepository.deleteById(post.getId());
+        }
+        userRepository.deleteAll(users);
+    }
+
+    @DisplayName("묶는 시간 안에 들어온 같은 게시글 좋아요 알림은 한 건으로 저장")
+    @Test
+    void 묶는_시간_안의_좋아요_알림은_한건으로_저장() throws InterruptedException {
+        // given
+        User owner = createUser("owner@even.com", "게시글주인");
+        List<User> likers = List.of(
+                createUser("liker1@even.com", "좋아요닉1"),
+                createUser("liker2@even.com", "좋아요닉2"),
+                createUser("liker3@even.com", "좋아요닉3"));
+        post = postRepository.save(Post.builder()
+                .user(owner)
+                .category(Post.Category.TOGETHER)
+                .tag(Post.Tag.GROUP_BUY)
+                .title("게시글제목")
+                .content("게시글내용임다")
+                .build());
+        long coalescedBefore = notificationPipeline.metrics().coalesced();
+
+        // when
+        likers.forEach(liker ->
+                notificationService.createPostLikeNotification(PostLike.builder().user(liker).post(post).build()));
+
+        // then : 묶는 동안에는 저장되지 않고, 시간이 지나면 마지막 행위자 + 나머지 수로 한 건 저장
+        assertThat(notificationPipeline.metrics().coalesced() - coalescedBefore).isEqualTo(likers.size() - 1);
+        assertThat(notificationService.getNotificationsList(owner.getId())).isEmpty();
+
+        List<NotificationDto> list = awaitNotifications(owner.getId());
+        assertThat(list).hasSize(1);
+        assertThat(list.get(0).getActorName()).isEqualTo("좋아요닉3");
+        assertThat(list.get(0).getOthersCount()).isEqualTo(likers.size() - 1);
+        assertThat(notificationService.getUnreadCount(owner.getId())).isEqualTo(1);
+    }
+
+    /// 묶는 시간이 지나고 파이프라인이 저장할 때까지 몇 번 다시 조회
+    private List<NotificationDto> awaitNotifications(Long userId) throws InterruptedException {
+        List<NotificationDto> list = List.of();
+        for (int attempt = 0; attempt < 50 && list.isEmpty(); attempt++) {
+            if (attempt > 0) {
+                Thread.sleep(100);
+            }
+            list = notificationService.getNotificationsList(userId);
+        }
+        assertThat(list).isNotEmpty();
+        return list;
+    }
+
+    private User createUser(String email, String nickname) {
+        User user = userRepository.save(User.builder()
+                .email(email)
+                .password("password")
+                .nickname(nickname)
+                .provider(Provider.LOCAL)
+                .status(Status.ACTIVE)
+                .build());
+        users.add(user);
+        return user;
+    }
+}
@@ -4,19 +4,24 @@ import com.even.zaro.entity.*;
 import com.even.zaro.repository.*;
 import com.even.zaro.dto.notification.NotificationDto;
 import com.even.zaro.service.NotificationService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+/**
+ * 알림은 커밋 이후 파이프라인 스레드에서 저장되므로 @Transactional 없이 실행하고,
+ * 만든 데이터는 테스트마다 직접 정리합니다.
+ */
 @SpringBootTest
-@Transactional
 @ActiveProfiles("test")
 public class NotificationIntegrationTest {
 
@@ -35,16 +40,32 @@ public class NotificationIntegrationTest {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Post> posts = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        users.forEach(user -> jdbcTemplate.update("DELETE FROM notification WHERE user_id = ?", user.getId()));
+        posts.forEach(post -> {
+            jdbcTemplate.update("DELETE FROM comment WHERE post_id = ?", post.getId());
+            postRepository.deleteById(post.getId());
+        });
+        userRepository.deleteAll(users);
+    }
+
     @DisplayName("팔로우 알림 생성 후 조회 시 DTO 정상 반환")
     @Test
-    void 팔로우_알림_생성_및_조회_성공() {
+    void 팔로우_알림_생성_및_조회_성공() throws InterruptedException {
         User follower = createUser("follower@even.com", "팔로워닉");
         User followee = createUser("followee@even.com", "팔로위닉");
 
         Follow follow = Follow.builder().follower(follower).followee(followee).build();
         notificationService.createFollowNotification(follow);
 
-        List<NotificationDto> list = notificationService.getNotificationsList(followee.getId());
+        List<NotificationDto> list = awaitNotifications(followee.getId());
         NotificationDto dto = list.get(0);
 
         assertThat(dto.getType()).isEqualTo(Notification.Type.FOLLOW);
@@ -54,7 +75,7 @@ public class NotificationIntegrationTest {
 
     @DisplayName("좋아요 알림 생성 후 조회 시 DTO 정상 반환")
     @Test
-    void 좋아요_알림_생성_및_조회_성공() {
+    void 좋아요_알림_생성_및_조회_성공() throws InterruptedException {
         User liker = createUser("liker@even.com", "좋아요닉");
         User owner = createUser("owner@even.com", "게시글주인");
 
@@ -63,7 +84,7 @@ public class NotificationIntegrationTest {
 
         notificationService.createPostLikeNotification(postLike);
 
-        List<NotificationDto> list = notificationService.getNotificationsList(owner.getId());
+        List<NotificationDto> list = awaitNotifications(owner.getId());
         NotificationDto dto = list.get(0);
 
         assertThat(dto.getType()).isEqualTo(Notification.Type.LIKE);
@@ -71,9 +92,37 @@ public class NotificationIntegrationTest {
         assertThat(dto.getCategory()).isEqualTo("TOGETHER");
     }
 
+    @DisplayName("같은 게시글의 좋아요 알림은 읽지 않은 알림 하나로 묶임")
+    @Test
+    void 같은_게시글_좋아요_알림_묶기() throws InterruptedException {
+        User first = createUser("liker1@even.com", "좋아요닉1");
+        User second = createUser("liker2@even.com", "좋아요닉2");
+        User owner = createUser("owner@even.com", "게시글주인");
+        Post post = createPost(owner);
+
+        notificationService.createPostLikeNotification(PostLike.builder().user(first).post(post).build());
+        awaitNotifications(owner.getId());
+        notificationService.createPostLikeNotification(PostLike.builder().user(second).post(post).build());
+
+        // 두 번째 알림이 합쳐질 때까지 다시 조회
+        List<NotificationDto> list = List.of();
+        for (int attempt = 0; attempt < 20; attempt++) {
+            list = notificationService.getNotificationsList(owner.getId());
+            if (list.size() == 1 && list.get(0).getOthersCount() == 1) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+
+        assertThat(list).hasSize(1);
+        NotificationDto dto = list.get(0);
+        assertThat(dto.getActorName()).isEqualTo("좋아요닉2");
+        assertThat(dto.getOthersCount()).isEqualTo(1);
+    }
+
     @DisplayName("댓글 알림 생성 후 조회 시 DTO 정상 반환")
     @Test
-    void 댓글_알림_생성_및_조회_성공() {
+    void 댓글_알림_생성_및_조회_성공() throws InterruptedException {
         User commenter = createUser("commenter@even.com", "댓글러닉");
         User owner = createUser("owner@even.com", "게시글주인");
 
@@ -86,7 +135,7 @@ public class NotificationIntegrationTest {
 
         notificationService.createCommentNotification(comment);
 
-        List<NotificationDto> list = notificationService.getNotificationsList(owner.getId());
+        List<NotificationDto> list = awaitNotifications(owner.getId());
         NotificationDto dto = list.get(0);
 
         assertThat(dto.getType()).isEqualTo(Notification.Type.COMMENT);
@@ -98,8 +147,21 @@ public class NotificationIntegrationTest {
     }
 
 
+    /// 파이프라인이 알림을 저장할 때까지 몇 번 다시 조회
+    private List<NotificationDto> awaitNotifications(Long userId) throws InterruptedException {
+        List<NotificationDto> list = List.of();
+        for (int attempt = 0; attempt < 20 && list.isEmpty(); attempt++) {
+            if (attempt > 0) {
+                Thread.sleep(100);
+            }
+            list = notificationService.getNotificationsList(userId);
+        }
+        assertThat(list).isNotEmpty();
+        return list;
+    }
+
     private User createUser(String email, String nickname) {
-        return userRepository.save(User.builder()
+        User user = userRepository.save(User.builder()
                 .email(email)
                 .password("password")
                 .nickname(nickname)
@@ -107,10 +169,12 @@ public class NotificationIntegrationTest {
                 .provider(Provider.LOCAL)
                 .status(Status.ACTIVE)
                 .build());
+        users.add(user);
+        return user;
     }
 
     private Post createPost(User owner) {
-        return postRepository.save(Post.builder()
+        Post post = postRepository.save(Post.builder()
                 .user(owner)
                 .category(Post.Category.TOGETHER)
                 .tag(Post.Tag.GROUP_BUY)
@@ -118,5 +182,7 @@ public class NotificationIntegrationTest {
                 .title("게시글제목")
                 .content("게시글내용임다")
                 .build());
+        posts.add(post);
+        return post;
     }
 }
@@ -0,0 +1,129 @@
+package com.even.zaro.integration.post;
+
+import com.even.zaro.entity.Post;
+import com.even.zaro.entity.Provider;
+import com.even.zaro.entity.Status;
+import com.even.zaro.entity.User;
+import com.even.zaro.repository.PostRepository;
+import com.even.zaro.repository.UserRepository;
+import com.even.zaro.service.HomePostPreviewCache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@Transactional
+@ActiveProfiles("test")
+public class HomePostPreviewIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private HomePostPreviewCache homePostPreviewCache;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (Post.Category category : Post.Category.values()) {
+            homePostPreviewCache.evict(category);
+        }
+    }
+
+    @Test
+    void 홈_게시글_조회는_쿼리_한번으로_카테고리별_최신_5개를_조회() throws Exception {
+        // given
+        User user = createUser("home@even.com", "홈유저");
+        List<Post> togetherPosts = new ArrayList<>();
+        for (int i = 1; i <= 7; i++) {
+            togetherPosts.add(createPost(user, "같이쓰기" + i, Post.Category.TOGETHER, Post.Tag.GROUP_BUY));
+        }
+        createPost(user, "자취일상", Post.Category.DAILY_LIFE, Post.Tag.TIPS);
+        createPost(user, "텅장일기", Post.Category.RANDOM_BUY, Post.Tag.TREASURE);
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        // when & then
+        mockMvc.perform(get("/api/posts/home"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.together.length()").value(5))
+                .andExpect(jsonPath("$.data.together[0].postId").value(togetherPosts.getLast().getId()))
+                .andExpect(jsonPath("$.data.dailyLife.length()").value(1))
+                .andExpect(jsonPath("$.data.randomBuy.length()").value(1))
+                .andExpect(jsonPath("$.data.randomBuy[0].writerNickname").value("홈유저"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void 홈_게시글_재조회는_캐시에서_응답() throws Exception {
+        // given
+        User user = createUser("home@even.com", "홈유저");
+        createPost(user, "자취일상", Post.Category.DAILY_LIFE, Post.Tag.TIPS);
+        entityManager.flush();
+
+        mockMvc.perform(get("/api/posts/home")).andExpect(status().isOk());
+        statistics.clear();
+
+        // when & then
+        mockMvc.perform(get("/api/posts/home"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.dailyLife.length()").value(1));
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    private User createUser(String email, String nickname) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .password("encodedPassword")
+                .nickname(nickname)
+                .provider(Provider.LOCAL)
+                .status(Status.ACTIVE)
+                .build());
+    }
+
+    private Post createPost(User user, String title, Post.Category category, Post.Tag tag) {
+        return postRepository.save(Post.builder()
+                .user(user)
+                .title(title)
+                .content("내용")
+                .category(category)
+                .tag(tag)
+                .build());
+    }
+}
@@ -0,0 +1,176 @@
+package com.even.zaro.integration.post;
+
+import com.even.zaro.dto.post.ReportRequestDTO;
+import com.even.zaro.entity.Post;
+import com.even.zaro.entity.Provider;
+import com.even.zaro.entity.Status;
+import com.even.zaro.entity.User;
+import com.even.zaro.repository.PostRepository;
+import com.even.zaro.repository.UserRepository;
+import com.even.zaro.service.ModerationService;
+import com.even.zaro.service.PostReportService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.even.zaro.entity.ReportReasonType.ETC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 신고 누적 -> 숨김 작업 큐 -> 숨김 처리 테스트
+ * 큐 등록이 커밋 이후에 일어나므로 @Transactional 없이 실행하고, 만든 데이터는 직접 정리합니다.
+ * 스케줄러가 같은 시점에 큐를 처리할 수 있어, 결과는 반환값이 아닌 DB 값으로 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class ModerationIntegrationTest {
+
+    private static final String POST_QUEUE_KEY = "moderation:hide:post";
+
+    @Autowired
+    private PostReportService postReportService;
+
+    @Autowired
+    private ModerationService moderationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<User> reporters = new ArrayList<>();
+    private User owner;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(createUser("owner"));
+        for (int i = 0; i < ModerationService.HIDE_THRESHOLD; i++) {
+            reporters.add(userRepository.save(createUser("reporter" + i)));
+        }
+        post = postRepository.save(Post.builder()
+                .user(owner)
+                .title("신고")
+                .content("내용")
+                .category(Post.Category.DAILY_LIFE)
+                .tag(Post.Tag.TIPS)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 검색 인덱스를 사용할 수 없는 환경이면 큐에 남아 있으므로 함께 정리
+        redisTemplate.opsForSet().remove(POST_QUEUE_KEY, post.getId().toString());
+        jdbcTemplate.update("DELETE FROM post_report WHERE post_id = ?", post.getId());
+        postRepository.deleteById(post.getId());
+        userRepository.deleteAll(reporters);
+        userRepository.deleteById(owner.getId());
+    }
+
+    @Test
+    void 신고_기준에_도달하면_큐를_거쳐_숨김처리() throws InterruptedException {
+        // given : 기준 직전까지는 큐에 등록되지 않음
+        for (int i = 0; i < ModerationService.HIDE_THRESHOLD - 1; i++) {
+            report(reporters.get(i));
+        }
+        assertThat(queued()).isFalse();
+
+        // when
+        report(reporters.get(ModerationService.HIDE_THRESHOLD - 1));
+        // 스케줄러가 이미 처리했으면 큐에서 빠져 있을 수 있음
+        assertThat(queued() || hidden()).isTrue();
+        processUntilHidden();
+
+        // then
+        assertThat(reportCount()).isEqualTo(ModerationService.HIDE_THRESHOLD);
+    }
+
+    @Test
+    void 숨김처리_전에_읽은_게시글을_수정해도_숨김이_유지됨() {
+        // given
+        reporters.forEach(this::report);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // when : 게시글을 읽은 뒤 다른 스레드에서 숨김 처리가 커밋되고, 그 다음 수정 내용이 커밋됨
+        transactionTemplate.executeWithoutResult(status -> {
+            Post loaded = postRepository.findById(post.getId()).orElseThrow();
+            CompletableFuture.runAsync(this::processUntilHiddenUnchecked).orTimeout(30, TimeUnit.SECONDS).join();
+            loaded.changeTitle("수정된 제목");
+        });
+
+        // then : 수정은 바뀐 컬럼만 update 하므로 숨김 / 신고 수를 덮어쓰지 않음
+        assertThat(jdbcTemplate.queryForObject("SELECT title FROM post WHERE id = ?", String.class, post.getId()))
+                .isEqualTo("수정된 제목");
+        assertThat(hidden()).isTrue();
+        assertThat(reportCount()).isEqualTo(ModerationService.HIDE_THRESHOLD);
+    }
+
+    private void report(User reporter) {
+        postReportService.reportPost(post.getId(), new ReportRequestDTO(ETC, "신고 사유"), reporter.getId());
+    }
+
+    /// 스케줄러가 락을 잡고 있으면 이번 처리는 건너뛰므로 숨김 처리될 때까지 반복
+    private void processUntilHidden() throws InterruptedException {
+        for (int attempt = 0; attempt < 50 && !hidden(); attempt++) {
+            moderationService.processHideJobs();
+            if (!hidden()) {
+                Thread.sleep(100);
+            }
+        }
+        assertThat(hidden()).isTrue();
+    }
+
+    private void processUntilHiddenUnchecked() {
+        try {
+            processUntilHidden();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean queued() {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(POST_QUEUE_KEY, post.getId().toString()));
+    }
+
+    private boolean hidden() {
+        return Boolean.TRUE.equals(
+                jdbcTemplate.queryForObject("SELECT is_reported FROM post WHERE id = ?", Boolean.class, post.getId()));
+    }
+
+    private int reportCount() {
+        return jdbcTemplate.queryForObject("SELECT report_count FROM post WHERE id = ?", Integer.class, post.getId());
+    }
+
+    private User createUser(String nickname) {
+        return User.builder()
+                .email(nickname + "@even.com")
+                .password("encodedPassword")
+                .nickname(nickname)
+                .provider(Provider.LOCAL)
+                .status(Status.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package com.even.zaro.integration.post;
+
+import com.even.zaro.entity.Post;
+import com.even.zaro.entity.Provider;
+import com.even.zaro.entity.Status;
+import com.even.zaro.entity.User;
+import com.even.zaro.repository.PostRepository;
+import com.even.zaro.repository.UserRepository;
+import com.even.zaro.service.PostCounterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 카운터 flush / 차감(settle) 테스트
+ * flush 는 별도 트랜잭션으로 커밋되므로 @Transactional 없이 실행하고, 만든 데이터는 직접 정리합니다.
+ * 스케줄러가 같은 시점에 flush 할 수 있어, 결과는 반환값이 아닌 DB 값과 남은 증감분으로 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class PostCounterFlushTest {
+
+    @Autowired
+    private PostCounterService postCounterService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User owner;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .email("counter@even.com")
+                .password("encodedPassword")
+                .nickname("카운터")
+                .provider(Provider.LOCAL)
+                .status(Status.ACTIVE)
+                .build());
+        post = postRepository.save(Post.builder()
+                .user(owner)
+                .title("카운터")
+                .content("내용")
+                .category(Post.Category.DAILY_LIFE)
+                .tag(Post.Tag.TIPS)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        flushUntilSettled();
+        postRepository.deleteById(post.getId());
+        userRepository.deleteById(owner.getId());
+    }
+
+    @Test
+    void 누적된_증감분은_한번만_반영되고_차감됨() throws InterruptedException {
+        // given
+        for (int i = 0; i < 3; i++) {
+            postCounterService.increment(post.getId(), 1, 0);
+        }
+        postCounterService.increment(post.getId(), 0, 2);
+
+        // when
+        flushUntilSettled();
+        postCounterService.flush();
+
+        // then : 두 번째 flush 에서 다시 반영되지 않음
+        assertThat(stored("like_count")).isEqualTo(3);
+        assertThat(stored("comment_count")).isEqualTo(2);
+        assertThat(storedScore()).isEqualTo(3 * Post.LIKE_SCORE_WEIGHT + 2 * Post.COMMENT_SCORE_WEIGHT);
+        assertThat(postCounterService.pending(List.of(post.getId()))).isEmpty();
+    }
+
+    @Test
+    void 반영_이후_들어온_증감분은_다음_flush_에서_이어서_반영() throws InterruptedException {
+        // given
+        postCounterService.increment(post.getId(), 2, 0);
+        flushUntilSettled();
+
+        // when : 락이 해제됐으므로 바로 다음 flush 가 실행됨
+        postCounterService.increment(post.getId(), -1, 1);
+        flushUntilSettled();
+
+        // then
+        assertThat(stored("like_count")).isEqualTo(1);
+        assertThat(stored("comment_count")).isEqualTo(1);
+    }
+
+    /// 스케줄러가 락을 잡고 있으면 이번 flush 는 건너뛰므로 남은 증감분이 없어질 때까지 반복
+    private void flushUntilSettled() throws InterruptedException {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            postCounterService.flush();
+            if (postCounterService.pending(List.of(post.getId())).isEmpty()) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        assertThat(postCounterService.pending(List.of(post.getId()))).isEmpty();
+    }
+
+    private int stored(String column) {
+        return jdbcTemplate.queryForObject("SELECT " + column + " FROM post WHERE id = ?", Integer.class, post.getId());
+    }
+
+    private double storedScore() {
+        return jdbcTemplate.queryForObject("SELECT score FROM post WHERE id = ?", Double.class, post.getId());
+    }
+}
@@ -0,0 +1,200 @@
+package com.even.zaro.integration.post;
+
+import com.even.zaro.dto.post.PostCountDelta;
+import com.even.zaro.entity.Post;
+import com.even.zaro.entity.Provider;
+import com.even.zaro.entity.Status;
+import com.even.zaro.entity.User;
+import com.even.zaro.global.ErrorCode;
+import com.even.zaro.global.exception.post.PostException;
+import com.even.zaro.repository.PostRepository;
+import com.even.zaro.repository.UserRepository;
+import com.even.zaro.service.PostCounterService;
+import com.even.zaro.service.PostLikeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 좋아요/좋아요 취소 동시 요청 테스트
+ * 실제 커밋이 필요하므로 @Transactional 없이 실행하고, 만든 데이터는 테스트마다 직접 정리합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class PostLikeConcurrencyTest {
+
+    private static final int USER_COUNT = 100;
+    private static final int REQUESTS_PER_USER = 20;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private PostLikeService postLikeService;
+
+    @Autowired
+    private PostCounterService postCounterService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<User> users = new ArrayList<>();
+    private User owner;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(createUser("owner"));
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(createUser("liker" + i));
+        }
+        users.replaceAll(userRepository::save);
+        post = postRepository.save(Post.builder()
+                .user(owner)
+                .title("동시성")
+                .content("내용")
+                .category(Post.Category.DAILY_LIFE)
+                .tag(Post.Tag.TIPS)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM notification WHERE user_id = ?", owner.getId());
+        jdbcTemplate.update("DELETE FROM post_like WHERE post_id = ?", post.getId());
+        postRepository.deleteById(post.getId());
+        userRepository.deleteAll(users);
+        userRepository.deleteById(owner.getId());
+    }
+
+    @Test
+    void 같은_유저의_동시_좋아요와_취소는_한번씩만_반영() throws Exception {
+        // when : 유저마다 같은 좋아요 요청을 동시에 여러 번
+        Map<String, Integer> likeResults = runConcurrently(USER_COUNT * REQUESTS_PER_USER,
+                i -> postLikeService.likePost(post.getId(), users.get(i % USER_COUNT).getId()));
+
+        // then
+        assertThat(likeResults).containsOnlyKeys("SUCCESS", ErrorCode.ALREADY_LIKED.name());
+        assertThat(likeResults.get("SUCCESS")).isEqualTo(USER_COUNT);
+        assertThat(likeRows()).isEqualTo(USER_COUNT);
+        assertLikeCount(USER_COUNT);
+
+        // when : 취소도 같은 방식으로
+        Map<String, Integer> unlikeResults = runConcurrently(USER_COUNT * REQUESTS_PER_USER,
+                i -> postLikeService.unlikePost(post.getId(), users.get(i % USER_COUNT).getId()));
+
+        // then
+        assertThat(unlikeResults).containsOnlyKeys("SUCCESS", ErrorCode.LIKE_NOT_POST.name());
+        assertThat(unlikeResults.get("SUCCESS")).isEqualTo(USER_COUNT);
+        assertThat(likeRows()).isZero();
+        assertLikeCount(0);
+    }
+
+    @Test
+    void 좋아요와_취소가_섞인_동시요청_후_좋아요수는_실제_좋아요와_일치() throws Exception {
+        // given : 요청 순서는 고정된 시드로 섞음
+        Random random = new Random(42);
+        boolean[] like = new boolean[USER_COUNT * REQUESTS_PER_USER];
+        for (int i = 0; i < like.length; i++) {
+            like[i] = random.nextBoolean();
+        }
+        Map<Integer, Boolean> likeSucceeded = new ConcurrentHashMap<>();
+
+        // when
+        Map<String, Integer> results = runConcurrently(like.length, i -> {
+            Long userId = users.get(i % USER_COUNT).getId();
+            if (like[i]) {
+                postLikeService.likePost(post.getId(), userId);
+            } else {
+                postLikeService.unlikePost(post.getId(), userId);
+            }
+            likeSucceeded.put(i, like[i]);
+        });
+
+        // then : 성공한 좋아요 - 성공한 취소 = 남은 좋아요 행 = 좋아요 수
+        long likes = likeSucceeded.values().stream().filter(Boolean::booleanValue).count();
+        long unlikes = likeSucceeded.size() - likes;
+        int rows = likeRows();
+
+        assertThat(results).containsOnlyKeys("SUCCESS", ErrorCode.ALREADY_LIKED.name(), ErrorCode.LIKE_NOT_POST.name());
+        assertThat(likes - unlikes).isEqualTo(rows);
+        assertLikeCount(rows);
+    }
+
+    /// @return 결과별 요청 수 (SUCCESS 또는 ErrorCode 이름)
+    private Map<String, Integer> runConcurrently(int requestCount, IntConsumer request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<String, Integer> results = new ConcurrentHashMap<>();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < requestCount; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    String result;
+                    try {
+                        request.accept(index);
+                        result = "SUCCESS";
+                    } catch (PostException e) {
+                        result = e.getErrorCode().name();
+                    }
+                    results.merge(result, 1, Integer::sum);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                // 예상하지 못한 예외(제약조건 위반 등)는 그대로 테스트 실패
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private int likeRows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_like WHERE post_id = ?", Integer.class, post.getId());
+    }
+
+    /// 응답에 쓰이는 좋아요 수 (DB 값 + 아직 반영되지 않은 증감분)
+    /// 스케줄러의 반영과 증감분 차감 사이에는 잠깐 어긋날 수 있어 몇 번 다시 확인
+    private void assertLikeCount(int expected) throws InterruptedException {
+        int likeCount = -1;
+        for (int attempt = 0; attempt < 10 && likeCount != expected; attempt++) {
+            if (attempt > 0) {
+                Thread.sleep(200);
+            }
+            int stored = jdbcTemplate.queryForObject("SELECT like_count FROM post WHERE id = ?", Integer.class, post.getId());
+            PostCountDelta pending = postCounterService.pending(List.of(post.getId()))
+                    .getOrDefault(post.getId(), PostCountDelta.NONE);
+            likeCount = pending.applyToLikes(stored);
+        }
+        assertThat(likeCount).isEqualTo(expected);
+    }
+
+    private User createUser(String nickname) {
+        return User.builder()
+                .email(nickname + "@even.com")
+                .password("encodedPassword")
+                .nickname(nickname)
+                .provider(Provider.LOCAL)
+                .status(Status.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.even.zaro.integration.queryplan;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 실행된 SELECT 문과 바인딩 값을 기록하는 DataSource 래퍼 (실행 계획 테스트 전용)
+ * Connection / PreparedStatement 를 JDK 동적 프록시로 감싸 setXxx(index, value) 호출을 모아 두었다가,
+ * 쿼리 실행 시점에 SQL 과 함께 저장합니다.
+ */
+final class CapturingDataSource {
+
+    record CapturedQuery(String sql, List<Object> parameters) {
+    }
+
+    private static final List<CapturedQuery> captured = new CopyOnWriteArrayList<>();
+
+    private CapturingDataSource() {
+    }
+
+    static DataSource wrap(DataSource target) {
+        return proxy(DataSource.class, (method, args) -> {
+            Object result = method.invoke(target, args);
+            return result instanceof Connection connection ? wrapConnection(connection) : result;
+        });
+    }
+
+    static List<CapturedQuery> selects() {
+        return captured.stream()
+                .filter(query -> query.sql().stripLeading().toLowerCase(Locale.ROOT).matches("(?s)(/\\*.*?\\*/\\s*)?(select|with).*"))
+                .toList();
+    }
+
+    static void clear() {
+        captured.clear();
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, (method, args) -> {
+            Object result = method.invoke(connection, args);
+            if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                return wrapStatement(statement, (String) args[0]);
+            }
+            return result;
+        });
+    }
+
+    private static PreparedStatement wrapStatement(PreparedStatement statement, String sql) {
+        Map<Integer, Object> parameters = new TreeMap<>();
+        return proxy(PreparedStatement.class, (method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("executeQuery") && (args == null || args.length == 0)) {
+                captured.add(new CapturedQuery(sql, new ArrayList<>(parameters.values())));
+            }
+            return method.invoke(statement, args);
+        });
+    }
+
+    @FunctionalInterface
+    private interface Invocation {
+        Object invoke(Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Invocation invocation) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            try {
+                return invocation.invoke(method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
@@ -0,0 +1,251 @@
+package com.even.zaro.integration.queryplan;
+
+import com.even.zaro.entity.*;
+import com.even.zaro.repository.*;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 주요 조회 쿼리 실행 계획 회귀 테스트 (MySQL 전용)
+ * QUERY_PLAN_DB_URL 환경변수가 있을 때만 실행되며, 해당 DB 에 테이블을 새로 만들고(create-drop) 데이터를 채웁니다. 빈 스키마를 사용하세요.
+ * 각 repository 메서드가 실제로 실행한 SQL 과 바인딩 값 그대로 EXPLAIN 을 실행해서
+ * 전체 테이블 스캔(type=ALL) 이나 filesort 가 나오면 실패합니다.
+ * 대상은 요청마다 실행되는 게시글 / 댓글 / 알림 목록, 프로필 목록(작성 게시글 / 좋아요 게시글 / 작성 댓글 / 팔로우)과 휴면 전환 대상 조회입니다.
+ * 정렬은 각 API 의 기본 정렬(최신순)로 확인합니다. 다음은 제외합니다.
+ * - PK / 유니크 키 단건 조회 (findById*, findByToken, existsBy* 등) 와 수정 / 벌크 삭제 쿼리
+ * - 프로필 게시글 목록의 좋아요 / 댓글 수 정렬 (한 유저의 게시글 안에서만 정렬하므로 filesort 대상이 작음)
+ * - 캐시가 비었을 때만 실행되는 적재 쿼리 (findHomeTopPosts, findFolloweeIdsByFollowerId, findLikedPostIdsByUserId)
+ *   findHomeTopPosts 는 카테고리별 순번을 매긴 결과(카테고리 수 x limit 행)를 다시 정렬하므로 filesort 가 정상입니다.
+ * - 보관 기간 정리(id 범위 조회), 인기글 랭킹 재구축 / 정합성 검사(id keyset 조회) 처럼 주기적으로 한 번씩 도는 쿼리
+ *
+ * 예) QUERY_PLAN_DB_URL=jdbc:mysql://localhost:3306/zaro_plan QUERY_PLAN_DB_USERNAME=root QUERY_PLAN_DB_PASSWORD=... ./gradlew test --tests '*RepositoryQueryPlanTest'
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "QUERY_PLAN_DB_URL", matches = ".+")
+class RepositoryQueryPlanTest {
+
+    private static final int USER_COUNT = 50;
+    private static final int POST_COUNT = 600;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("QUERY_PLAN_DB_URL"));
+        registry.add("spring.datasource.username", () -> Objects.requireNonNullElse(System.getenv("QUERY_PLAN_DB_USERNAME"), "root"));
+        registry.add("spring.datasource.password", () -> Objects.requireNonNullElse(System.getenv("QUERY_PLAN_DB_PASSWORD"), ""));
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? CapturingDataSource.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private PostRepository postRepository;
+    @Autowired private PostQueryRepository postQueryRepository;
+    @Autowired private CommentRepository commentRepository;
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private FollowRepository followRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+
+    private User user;
+    private Post post;
+
+    @BeforeAll
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            users.add(User.builder()
+                    .email("plan" + i + "@even.com")
+                    .password("encodedPassword")
+                    .nickname("plan" + i)
+                    .provider(Provider.LOCAL)
+                    .status(i % 10 == 0 ? Status.DORMANT : Status.ACTIVE)
+                    // 휴면 전환 대상은 일부만
+                    .lastLoginAt(i % 10 == 1 ? now.minusYears(1) : now.minusDays(i))
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+        user = users.get(1);
+
+        Map<Post.Category, List<Post.Tag>> tagsByCategory = Map.of(
+                Post.Category.TOGETHER, List.of(Post.Tag.GROUP_BUY, Post.Tag.SHARING, Post.Tag.EXCHANGE),
+                Post.Category.DAILY_LIFE, List.of(Post.Tag.TIPS, Post.Tag.QUESTIONS),
+                Post.Category.RANDOM_BUY, List.of(Post.Tag.TREASURE, Post.Tag.REGRET));
+        Post.Category[] categories = Post.Category.values();
+        List<Post> posts = new ArrayList<>();
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post.Category category = categories[i % categories.length];
+            List<Post.Tag> tags = tagsByCategory.get(category);
+            posts.add(Post.builder()
+                    .user(users.get(i % USER_COUNT))
+                    .title("제목" + i)
+                    .content("내용" + i)
+                    .category(category)
+                    .tag(tags.get(i / categories.length % tags.size()))
+                    .isDeleted(i % 17 == 0)
+                    .score(i % 50)
+                    .build());
+        }
+        posts = postRepository.saveAll(posts);
+        post = posts.get(1);
+
+        List<Comment> comments = new ArrayList<>();
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < POST_COUNT; i++) {
+            comments.add(Comment.builder()
+                    .post(posts.get(i % 40))
+                    .user(users.get(i % USER_COUNT))
+                    .content("댓글" + i)
+                    .build());
+            notifications.add(Notification.builder()
+                    .user(users.get(i % USER_COUNT))
+                    .actorUserId(users.get((i + 1) % USER_COUNT).getId())
+                    .type(Notification.Type.COMMENT)
+                    .targetId(posts.get(i).getId())
+                    .build());
+        }
+        commentRepository.saveAll(comments);
+        notificationRepository.saveAll(notifications);
+
+        // 좋아요 / 팔로우는 엔티티 리스너(카운터, 알림)를 거치지 않도록 직접 저장
+        List<Object[]> likes = new ArrayList<>();
+        List<Object[]> follows = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            for (int j = 0; j < 12; j++) {
+                likes.add(new Object[]{users.get(i).getId(), posts.get((i * 7 + j * 13) % POST_COUNT).getId()});
+            }
+            for (int j = 1; j <= 5; j++) {
+                follows.add(new Object[]{users.get(i).getId(), users.get((i + j) % USER_COUNT).getId()});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO post_like (user_id, post_id, created_at) VALUES (?, ?, NOW())", likes);
+        jdbcTemplate.batchUpdate("INSERT INTO follow (follower_id, followee_id, created_at) VALUES (?, ?, NOW())", follows);
+
+        jdbcTemplate.execute("ANALYZE TABLE users, post, post_like, comment, notification, follow");
+    }
+
+    @TestFactory
+    Stream<DynamicTest> 주요_조회_쿼리는_전체_스캔과_filesort_없이_실행() {
+        LocalDateTime now = LocalDateTime.now();
+        return Stream.of(
+                // 게시글 목록 / 피드 / 인기글
+                plan("PostRepository.findByCategoryAndTagAndIsDeletedFalseAndIsReportedFalse", () ->
+                        postRepository.findByCategoryAndTagAndIsDeletedFalseAndIsReportedFalse(Post.Category.TOGETHER, Post.Tag.GROUP_BUY,
+                                PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt")))),
+                plan("PostRepository.findByCategoryAndIsDeletedFalseAndIsReportedFalse", () ->
+                        postRepository.findByCategoryAndIsDeletedFalseAndIsReportedFalse(Post.Category.DAILY_LIFE,
+                                PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt")))),
+                plan("PostRepository.findByIsDeletedFalseAndIsReportedFalse", () ->
+                        postRepository.findByIsDeletedFalseAndIsReportedFalse(
+                                PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt")))),
+                plan("PostRepository.findTopPosts", () ->
+                        postRepository.findTopPosts(0, PageRequest.of(0, 5))),
+                plan("PostQueryRepository.findFeedPreviews", () ->
+                        postQueryRepository.findFeedPreviews(Post.Category.DAILY_LIFE, null, null, 20)),
+                plan("PostQueryRepository.findPreviewPage", () ->
+                        postQueryRepository.findPreviewPage(Post.Category.RANDOM_BUY, Post.Tag.TREASURE,
+                                PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "createdAt")))),
+                // 프로필 목록
+                plan("PostQueryRepository.findUserPostPreviews", () ->
+                        postQueryRepository.findUserPostPreviews(user.getId(),
+                                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")))),
+                plan("PostQueryRepository.findLikedPostPreviews", () ->
+                        postQueryRepository.findLikedPostPreviews(user.getId(),
+                                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")))),
+                plan("CommentRepository.findByUserAndIsDeletedFalse", () ->
+                        commentRepository.findByUserAndIsDeletedFalse(user,
+                                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")))),
+                plan("FollowRepository.findByFollower", () ->
+                        followRepository.findByFollower(user)),
+                plan("FollowRepository.findByFollowee", () ->
+                        followRepository.findByFollowee(user)),
+                // 댓글 목록
+                plan("CommentRepository.findByPostIdAndIsDeletedFalse", () ->
+                        commentRepository.findByPostIdAndIsDeletedFalse(post.getId(),
+                                PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createdAt")))),
+                plan("CommentRepository.findByPostIdAndIsDeletedFalseOrderByCreatedAtAscIdAsc", () ->
+                        commentRepository.findByPostIdAndIsDeletedFalseOrderByCreatedAtAscIdAsc(post.getId(), PageRequest.of(0, 11))),
+                plan("CommentRepository.findByPostIdAfterCursor", () ->
+                        commentRepository.findByPostIdAfterCursor(post.getId(), now.minusDays(1), 0L, PageRequest.of(0, 11))),
+                // 알림 목록 / 읽지 않은 알림 수
+                plan("NotificationRepository.findAllByUserOrderByCreatedAtDesc", () ->
+                        notificationRepository.findAllByUserOrderByCreatedAtDesc(user)),
+                plan("NotificationRepository.findByUserIdOrderByCreatedAtDescIdDesc", () ->
+                        notificationRepository.findByUserIdOrderByCreatedAtDescIdDesc(user.getId(), PageRequest.of(0, 21))),
+                plan("NotificationRepository.findByUserIdBeforeCursor", () ->
+                        notificationRepository.findByUserIdBeforeCursor(user.getId(), now.plusDays(1), Long.MAX_VALUE, PageRequest.of(0, 21))),
+                plan("NotificationRepository.countByUserIdAndIsReadFalse", () ->
+                        notificationRepository.countByUserIdAndIsReadFalse(user.getId())),
+                // 스케줄러 (휴면 전환 대상)
+                plan("UserRepository.findByStatusAndLastLoginAtBefore", () ->
+                        userRepository.findByStatusAndLastLoginAtBefore(Status.ACTIVE, now.minusMonths(6)))
+        );
+    }
+
+    private DynamicTest plan(String name, Runnable query) {
+        return DynamicTest.dynamicTest(name, () -> assertIndexedPlan(query));
+    }
+
+    private void assertIndexedPlan(Runnable query) {
+        transactionTemplate.executeWithoutResult(status -> {
+            CapturingDataSource.clear();
+            query.run();
+            List<CapturingDataSource.CapturedQuery> selects = CapturingDataSource.selects();
+            CapturingDataSource.clear();
+
+            assertThat(selects).as("실행된 SELECT 문").isNotEmpty();
+            for (CapturingDataSource.CapturedQuery select : selects) {
+                List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + select.sql(), select.parameters().toArray());
+                for (Map<String, Object> row : plan) {
+                    String table = String.valueOf(row.get("table"));
+                    assertThat(row.get("type"))
+                            .as("전체 테이블 스캔 : %s%n%s", table, select.sql())
+                            .isNotEqualTo("ALL");
+                    assertThat(String.valueOf(row.get("Extra")))
+                            .as("filesort : %s%n%s", table, select.sql())
+                            .doesNotContain("Using filesort");
+                }
+            }
+        });
+    }
+}
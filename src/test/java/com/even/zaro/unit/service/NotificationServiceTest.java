@@ -3,19 +3,23 @@ package com.even.zaro.unit.service;
 import com.even.zaro.dto.notification.NotificationDto;
 import com.even.zaro.entity.*;
 import com.even.zaro.global.ErrorCode;
+import com.even.zaro.global.event.event.UnreadNotificationCountChangedEvent;
 import com.even.zaro.global.exception.notification.NotificationException;
 import com.even.zaro.global.util.NotificationMapper;
 import com.even.zaro.repository.NotificationRepository;
 import com.even.zaro.repository.UserRepository;
+import com.even.zaro.service.NotificationCounterService;
+import com.even.zaro.service.NotificationPipeline;
 import com.even.zaro.service.NotificationService;
-import com.even.zaro.service.NotificationSseService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -41,7 +45,13 @@ public class NotificationServiceTest {
     private NotificationMapper notificationMapper;
 
     @Mock
-    private NotificationSseService notificationSseService;
+    private NotificationPipeline notificationPipeline;
+
+    @Mock
+    private NotificationCounterService notificationCounterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private final Long userId = 1L;
     private User user;
@@ -69,8 +79,7 @@ public class NotificationServiceTest {
             NotificationDto dto2 = createDto(noti2);
 
             when(notificationRepository.findAllByUserOrderByCreatedAtDesc(user)).thenReturn(List.of(noti1, noti2));
-            when(notificationMapper.toDto(noti1)).thenReturn(dto1);
-            when(notificationMapper.toDto(noti2)).thenReturn(dto2);
+            when(notificationMapper.toDtos(List.of(noti1, noti2))).thenReturn(List.of(dto1, dto2));
 
             // when
             List<NotificationDto> result = notificationService.getNotificationsList(userId);
@@ -97,8 +106,7 @@ public class NotificationServiceTest {
             NotificationDto dtoOld = createDto(oldOne);
 
             when(notificationRepository.findAllByUserOrderByCreatedAtDesc(user)).thenReturn(List.of(newOne, oldOne));
-            when(notificationMapper.toDto(newOne)).thenReturn(dtoNew);
-            when(notificationMapper.toDto(oldOne)).thenReturn(dtoOld);
+            when(notificationMapper.toDtos(List.of(newOne, oldOne))).thenReturn(List.of(dtoNew, dtoOld));
 
             List<NotificationDto> result = notificationService.getNotificationsList(userId);
 
@@ -120,8 +128,7 @@ public class NotificationServiceTest {
             notificationService.createCommentNotification(comment);
 
             // then
-            verify(notificationRepository, never()).save(any());
-            verify(notificationSseService, never()).send(anyLong(), any());
+            verify(notificationPipeline, never()).submit(any());
         }
     }
 
@@ -135,8 +142,7 @@ public class NotificationServiceTest {
 
             notificationService.createPostLikeNotification(like);
 
-            verify(notificationRepository, never()).save(any());
-            verify(notificationSseService, never()).send(anyLong(), any());
+            verify(notificationPipeline, never()).submit(any());
         }
     }
 
@@ -179,47 +185,27 @@ public class NotificationServiceTest {
     class MarkAllAsReadTest {
 
         @Test
-        void 알림_전체_읽음_처리_성공() {
-            Notification n1 = createNotification(user, Notification.Type.FOLLOW, false);
-            Notification n2 = createNotification(user, Notification.Type.LIKE, false);
-
-            mockUnreadNotifications(n1,n2);
+        void 알림_전체_읽음_처리는_벌크_update_한번() {
+            when(notificationRepository.markAllAsReadByUserId(userId)).thenReturn(2);
 
             notificationService.markAllAsRead(userId);
 
-            assertThat(n1.isRead()).isTrue();
-            assertThat(n2.isRead()).isTrue();
+            verify(notificationRepository).markAllAsReadByUserId(userId);
+            ArgumentCaptor<UnreadNotificationCountChangedEvent> captor =
+                    ArgumentCaptor.forClass(UnreadNotificationCountChangedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().getUserId()).isEqualTo(userId);
+            assertThat(captor.getValue().getDelta()).isEqualTo(-2);
         }
 
         @Test
-        void 모든_알림이_이미_읽음상태면_예외없이_전체_유지() {
-            mockUnreadNotifications();
+        void 모든_알림이_이미_읽음상태면_읽지_않은_알림_수_변경_없음() {
+            when(notificationRepository.markAllAsReadByUserId(userId)).thenReturn(0);
 
             assertThatCode(() -> notificationService.markAllAsRead(userId))
                     .doesNotThrowAnyException();
 
-            verify(notificationRepository).findAllByUserIdAndIsReadFalse(userId);
-        }
-
-        @Test
-        void 일부_알림만_읽지_않은_경우_읽지_않은_알림만_읽음처리_성공() {
-            Notification unread = createNotification(user, Notification.Type.FOLLOW, false);
-            Notification alreadyRead = createNotification(user, Notification.Type.LIKE, true);
-
-            // markAllAsRead는 isRead=false인 알림만 가져옴
-            mockUnreadNotifications(unread);
-
-            notificationService.markAllAsRead(userId);
-
-            assertThat(unread.isRead()).isTrue();
-            assertThat(alreadyRead.isRead()).isTrue();
-
-            verify(notificationRepository).findAllByUserIdAndIsReadFalse(userId);
-        }
-
-        private void mockUnreadNotifications(Notification... notifications) {
-            when(notificationRepository.findAllByUserIdAndIsReadFalse(userId))
-                    .thenReturn(List.of(notifications));
+            verify(eventPublisher, never()).publishEvent(any());
         }
     }
 
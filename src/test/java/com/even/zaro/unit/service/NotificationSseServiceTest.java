@@ -2,18 +2,25 @@ package com.even.zaro.unit.service;
 
 import com.even.zaro.dto.notification.NotificationDto;
 import com.even.zaro.entity.Notification;
-import com.even.zaro.global.util.NotificationMapper;
+import com.even.zaro.service.NotificationPresenceRegistry;
+import com.even.zaro.service.NotificationReplayBuffer;
 import com.even.zaro.service.NotificationSseService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.io.IOException;
-import java.util.Map;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -22,97 +29,170 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class NotificationSseServiceTest {
 
-    @InjectMocks
     private NotificationSseService notificationSseService;
 
     @Mock
-    private NotificationMapper notificationMapper;
+    private NotificationPresenceRegistry notificationPresenceRegistry;
+
+    @Mock
+    private NotificationReplayBuffer notificationReplayBuffer;
+
+    // 비어 있으면 실제 SseEmitter 사용
+    private final Deque<SseEmitter> stubEmitters = new ArrayDeque<>();
 
     private final Long userId = 1L;
 
+    @BeforeEach
+    void setUp() {
+        notificationSseService = new NotificationSseService(notificationPresenceRegistry, notificationReplayBuffer) {
+            @Override
+            protected SseEmitter createEmitter(long timeout) {
+                SseEmitter stub = stubEmitters.poll();
+                return stub != null ? stub : super.createEmitter(timeout);
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationSseService.shutdown();
+    }
+
     @Nested
     class ConnectTest {
         @Test
         void connect_호출시_emitter_등록되고_초기이벤트_전송시도() {
-            SseEmitter emitter = notificationSseService.connect(userId);
+            SseEmitter emitter = notificationSseService.connect(userId, null);
 
             assertThat(emitter).isNotNull();
+            assertThat(notificationSseService.isConnected(userId)).isTrue();
+            verify(notificationPresenceRegistry).register(userId);
+        }
+
+        @Test
+        void 같은_유저가_두번째로_연결해도_첫번째_연결은_유지되고_알림은_모든_연결로_전송() throws Exception {
+            SseEmitter first = stubEmitter();
+            SseEmitter second = stubEmitter();
+            notificationSseService.connect(userId, null);
+            notificationSseService.connect(userId, null);
+
+            notificationSseService.send(userId, createDto(1L));
+
+            // 연결 이벤트 + 알림
+            verify(first, timeout(1000).times(2)).send(any(SseEmitter.SseEventBuilder.class));
+            verify(second, timeout(1000).times(2)).send(any(SseEmitter.SseEventBuilder.class));
+            verify(first, never()).complete();
+            assertThat(notificationSseService.metrics().connections()).isEqualTo(2);
+        }
+
+        @Test
+        void Last_Event_ID_로_재연결하면_놓친_알림만_다시_전송() throws Exception {
+            SseEmitter emitter = stubEmitter();
+            when(notificationReplayBuffer.missedSince(userId, 10L)).thenReturn(List.of(createDto(11L), createDto(12L)));
+
+            notificationSseService.connect(userId, "10");
+
+            ArgumentCaptor<SseEmitter.SseEventBuilder> events = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+            verify(emitter, timeout(1000).times(3)).send(events.capture());
+            assertThat(events.getAllValues()).extracting(NotificationSseServiceTest::render)
+                    .satisfiesExactly(
+                            connect -> assertThat(connect).contains("event:connect"),
+                            missed -> assertThat(missed).contains("id:11"),
+                            missed -> assertThat(missed).contains("id:12"));
+        }
+
+        @Test
+        void 놓친_알림을_확인할_수_없으면_reset_이벤트_전송() throws Exception {
+            SseEmitter emitter = stubEmitter();
+            when(notificationReplayBuffer.missedSince(userId, 10L)).thenReturn(null);
+
+            notificationSseService.connect(userId, "10");
+
+            ArgumentCaptor<SseEmitter.SseEventBuilder> events = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+            verify(emitter, timeout(1000).times(2)).send(events.capture());
+            assertThat(render(events.getAllValues().get(1))).contains("event:reset");
         }
     }
 
     @Nested
     class SendTest {
         @Test
-        void send_성공시_emitter에_이벤트_전송() throws IOException {
-            Notification notification = createNotification();
-            NotificationDto dto = createDto();
+        void send_성공시_emitter에_이벤트_전송() throws Exception {
+            SseEmitter stubEmitter = stubEmitter();
+            notificationSseService.connect(userId, null);
 
-            // 수동으로 SseEmitter 생성 후 등록
-            SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
-            getEmittersMap().put(userId, emitter);
+            notificationSseService.send(userId, createDto(1L));
 
-            when(notificationMapper.toDto(notification)).thenReturn(dto);
-
-            notificationSseService.send(userId, notification); // 예외 안 나면 성공
+            // 연결 이벤트 + 알림 (연결별 가상 스레드에서 전송)
+            verify(stubEmitter, timeout(1000).times(2)).send(any(SseEmitter.SseEventBuilder.class));
+            assertThat(notificationSseService.metrics().connections()).isEqualTo(1);
         }
 
         @Test
         void send_시_emitter가_null이면_예외없이_스킵() {
-            Notification notification = createNotification();
-
             // emitters 등록 안할 때
-            notificationSseService.send(userId, notification);
+            assertThat(notificationSseService.isConnected(userId)).isFalse();
+            notificationSseService.send(userId, createDto(1L));
         }
 
-
         @Test
-        void send_도중_IOException_발생시_emitter_제거() throws IOException {
-            Notification notification = createNotification();
-            NotificationDto dto = createDto();
-
-            SseEmitter emitter = mock(SseEmitter.class);
-            when(notificationMapper.toDto(notification)).thenReturn(dto);
-
-            getEmittersMap().put(userId, emitter);
-
-            // void 메서드에 예외 발생하도록 설정
-            doThrow(new IOException("SSE 전송 실패 메시지"))
-                    .when(emitter)
+        void send_도중_IOException_발생시_emitter_제거() throws Exception {
+            SseEmitter stubEmitter = stubEmitter();
+            // 연결 이벤트는 성공, 알림 전송부터 실패
+            doNothing()
+                    .doThrow(new IOException("SSE 전송 실패 메시지"))
+                    .when(stubEmitter)
                     .send(any(SseEmitter.SseEventBuilder.class));
+            notificationSseService.connect(userId, null);
 
-            notificationSseService.send(userId, notification);
-
-            assertThat(getEmittersMap().containsKey(userId)).isFalse(); // 제거 확인
-        }
-
+            notificationSseService.send(userId, createDto(1L));
 
-        private Notification createNotification() {
-            return Notification.builder()
-                    .id(1L)
-                    .type(Notification.Type.FOLLOW)
-                    .actorUserId(2L)
-                    .targetId(3L)
-                    .build();
+            verify(notificationPresenceRegistry, timeout(1000)).unregister(userId);
+            assertThat(notificationSseService.isConnected(userId)).isFalse(); // 제거 확인
         }
 
-        private NotificationDto createDto() {
-            return NotificationDto.builder()
-                    .id(1L)
-                    .type(Notification.Type.FOLLOW)
-                    .build();
-        }
+        @Test
+        void 느린_클라이언트의_전송_큐가_가득_차면_호출_스레드를_막지_않고_연결_종료() throws Exception {
+            SseEmitter stubEmitter = stubEmitter();
+            CountDownLatch release = new CountDownLatch(1);
+            doAnswer(invocation -> {
+                release.await(5, TimeUnit.SECONDS); // 응답하지 않는 클라이언트
+                return null;
+            }).when(stubEmitter).send(any(SseEmitter.SseEventBuilder.class));
+            notificationSseService.connect(userId, null);
 
-        // NotificationSseService 내부의 private Map<Long, SseEmitter> emitters 필드에 접근
-        // 리플렉션으로 접근해서 직접 조작
-        @SuppressWarnings("unchecked")
-        private Map<Long, SseEmitter> getEmittersMap() {
             try {
-                var field = NotificationSseService.class.getDeclaredField("emitters");
-                field.setAccessible(true);
-                return (Map<Long, SseEmitter>) field.get(notificationSseService);
-            } catch (Exception e) {
-                throw new RuntimeException(e);
+                // 전송 큐(100) 보다 많이 보내도 send 는 바로 반환
+                for (int i = 0; i < 200; i++) {
+                    notificationSseService.send(userId, createDto(1L));
+                }
+
+                assertThat(notificationSseService.isConnected(userId)).isFalse();
+                verify(stubEmitter).complete();
+                verify(notificationPresenceRegistry).unregister(userId);
+            } finally {
+                release.countDown();
             }
         }
+
+    }
+
+    private SseEmitter stubEmitter() {
+        SseEmitter emitter = mock(SseEmitter.class);
+        stubEmitters.add(emitter);
+        return emitter;
+    }
+
+    private NotificationDto createDto(long id) {
+        return NotificationDto.builder()
+                .id(id)
+                .type(Notification.Type.FOLLOW)
+                .build();
+    }
+
+    private static String render(SseEmitter.SseEventBuilder event) {
+        StringBuilder text = new StringBuilder();
+        event.build().forEach(part -> text.append(part.getData()));
+        return text.toString();
     }
 }
@@ -4,22 +4,28 @@ import com.even.zaro.dto.post.ReportRequestDTO;
 import com.even.zaro.entity.Post;
 import com.even.zaro.entity.PostReport;
 import com.even.zaro.entity.User;
+import com.even.zaro.global.event.event.ReportThresholdReachedEvent;
 import com.even.zaro.repository.PostReportRepository;
 import com.even.zaro.repository.PostRepository;
 import com.even.zaro.repository.UserRepository;
+import com.even.zaro.service.ModerationService;
 import com.even.zaro.service.PostReportService;
 import com.even.zaro.service.PostService;
 import com.even.zaro.service.UserService;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -35,6 +41,7 @@ class PostReportTest {
     @Mock private UserRepository userRepository;
     @Mock private PostService postService;
     @Mock private UserService userService;
+    @Mock private ApplicationEventPublisher eventPublisher;
 
     @Nested
     class GetPostReportTest {
@@ -55,6 +62,32 @@ class PostReportTest {
             postReportService.reportPost(postId, request, userId);
 
             verify(postReportRepository).save(any(PostReport.class));
+            verify(postRepository).incrementReportCount(postId);
+            verify(eventPublisher, never()).publishEvent(any());
+        }
+
+        @Test
+        void 신고_수가_기준에_도달하면_숨김_작업만_등록() {
+            Long postId = 1L;
+            Long userId = 2L;
+
+            Post post = Post.builder().id(postId).user(User.builder().id(3L).build()).build();
+            User reporter = User.builder().id(userId).build();
+
+            ReportRequestDTO request = new ReportRequestDTO(ETC,"비속어가 너무 심합니다");
+
+            when(postService.findPostOrThrow(postId)).thenReturn(post);
+            when(userService.findUserById(userId)).thenReturn(reporter);
+            when(postRepository.findReportCountById(postId)).thenReturn(ModerationService.HIDE_THRESHOLD);
+
+            postReportService.reportPost(postId, request, userId);
+
+            // 숨김 처리는 신고 요청 안에서 하지 않음
+            assertThat(post.isReported()).isFalse();
+            ArgumentCaptor<ReportThresholdReachedEvent> captor = ArgumentCaptor.forClass(ReportThresholdReachedEvent.class);
+            verify(eventPublisher).publishEvent(captor.capture());
+            assertThat(captor.getValue().getTarget()).isEqualTo(ReportThresholdReachedEvent.Target.POST);
+            assertThat(captor.getValue().getTargetId()).isEqualTo(postId);
         }
     }
 
@@ -8,10 +8,20 @@ import com.even.zaro.entity.User;
 import com.even.zaro.global.event.event.PostDeletedEvent;
 import com.even.zaro.global.event.event.PostSavedEvent;
 import com.even.zaro.mapper.PostMapper;
-import com.even.zaro.repository.FollowRepository;
+import com.even.zaro.dto.CursorResponse;
+import com.even.zaro.global.util.CursorCodec;
+import com.even.zaro.repository.PostQueryRepository;
 import com.even.zaro.repository.PostRepository;
 import com.even.zaro.repository.UserRepository;
-import com.even.zaro.service.PostRankBaselineMemoryStore;
+import com.even.zaro.global.event.event.PostScoreChangedEvent;
+import com.even.zaro.global.exception.post.PostException;
+import com.even.zaro.service.FollowGraphService;
+import com.even.zaro.service.HomePostPreviewCache;
+import com.even.zaro.service.LikedPostCache;
+import com.even.zaro.service.PostCounterService;
+import com.even.zaro.service.PostDetailCache;
+import com.even.zaro.service.PostRankSnapshotStore;
+import com.even.zaro.service.PostRankingService;
 import com.even.zaro.service.PostService;
 import com.even.zaro.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -27,9 +37,15 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -45,8 +61,14 @@ class PostServiceTest {
     @Mock private UserService userService;
     @Mock private PostMapper postMapper;
     @Mock private ApplicationEventPublisher eventPublisher;
-    @Mock private PostRankBaselineMemoryStore postRankBaselineMemoryStore;
-    @Mock private FollowRepository followRepository;
+    @Mock private PostRankSnapshotStore postRankSnapshotStore;
+    @Mock private FollowGraphService followGraphService;
+    @Mock private PostCounterService postCounterService;
+    @Mock private LikedPostCache likedPostCache;
+    @Mock private PostQueryRepository postQueryRepository;
+    @Mock private PostRankingService postRankingService;
+    @Mock private HomePostPreviewCache homePostPreviewCache;
+    @Mock private PostDetailCache postDetailCache;
 
     private final Long userId = 1L;
     private final Long postId = 10L;
@@ -104,6 +126,7 @@ class PostServiceTest {
 
             assertEquals("수정제목", post.getTitle());
             assertEquals("수정내용", post.getContent());
+            assertEquals("수정내용", post.getContentPreview());
             assertEquals("new.jpg", post.getThumbnailImage());
             verify(eventPublisher).publishEvent(any(PostSavedEvent.class));
         }
@@ -135,17 +158,20 @@ class PostServiceTest {
 
         @Test
         void getHomePostPreview_success() {
-            List<Post> togetherPosts = List.of(Post.builder().id(1L).build());
-            List<Post> dailyLifePosts = List.of(Post.builder().id(2L).build());
-            List<Post> randomBuyPosts = List.of(Post.builder().id(3L).build());
-
-            when(postRepository.findTop5ByCategoryAndIsDeletedFalseAndIsReportedFalseOrderByCreatedAtDesc(Post.Category.TOGETHER)).thenReturn(togetherPosts);
-            when(postRepository.findTop5ByCategoryAndIsDeletedFalseAndIsReportedFalseOrderByCreatedAtDesc(Post.Category.DAILY_LIFE)).thenReturn(dailyLifePosts);
-            when(postRepository.findTop5ByCategoryAndIsDeletedFalseAndIsReportedFalseOrderByCreatedAtDesc(Post.Category.RANDOM_BUY)).thenReturn(randomBuyPosts);
-
-            when(postMapper.toSimplePostDto(any(Post.class))).thenReturn(
+            // 캐시 miss : 누락된 카테고리 전체를 loader 한 번으로 적재
+            when(homePostPreviewCache.getPosts(anyCollection(), any())).thenAnswer(invocation -> {
+                Function<Set<Post.Category>, Map<Post.Category, List<HomePostRow>>> loader = invocation.getArgument(1);
+                return loader.apply(EnumSet.of(Post.Category.TOGETHER, Post.Category.DAILY_LIFE, Post.Category.RANDOM_BUY));
+            });
+            List<PostRepository.HomePostView> views = List.of(
+                    homePostView(Post.Category.TOGETHER, 1L),
+                    homePostView(Post.Category.DAILY_LIFE, 2L),
+                    homePostView(Post.Category.RANDOM_BUY, 3L));
+            when(postRepository.findHomeTopPosts(anyCollection(), eq(5))).thenReturn(views);
+
+            when(postMapper.toSimplePostDto(any(HomePostRow.class))).thenReturn(
                     HomePostPreviewResponse.SimplePostDto.builder().postId(1l).title("같이씁시다").build());
-            when(postMapper.toRandomBuyDto(any(Post.class))).thenReturn(
+            when(postMapper.toRandomBuyDto(any(HomePostRow.class))).thenReturn(
                     HomePostPreviewResponse.RandomBuyPostDto.builder().postId(3l).title("이븐테스트").thumbnailImage("b.jpg").build());
 
             HomePostPreviewResponse result = postService.getHomePostPreview();
@@ -154,9 +180,33 @@ class PostServiceTest {
             assertEquals(1, result.getDailyLife().size());
             assertEquals(1, result.getRandomBuy().size());
 
-            verify(postRepository, times(1)).findTop5ByCategoryAndIsDeletedFalseAndIsReportedFalseOrderByCreatedAtDesc(Post.Category.TOGETHER);
-            verify(postRepository, times(1)).findTop5ByCategoryAndIsDeletedFalseAndIsReportedFalseOrderByCreatedAtDesc(Post.Category.DAILY_LIFE);
-            verify(postRepository, times(1)).findTop5ByCategoryAndIsDeletedFalseAndIsReportedFalseOrderByCreatedAtDesc(Post.Category.RANDOM_BUY);
+            verify(postRepository, times(1)).findHomeTopPosts(anyCollection(), eq(5));
+        }
+
+        @Test
+        void getHomePostPreview_캐시_적중시_DB_조회_없음() {
+            HomePostRow cached = new HomePostRow(Post.Category.TOGETHER, 1L, "같이씁시다", null, null,
+                    0, 0, LocalDateTime.now(), "이브니", null, Status.ACTIVE);
+            when(homePostPreviewCache.getPosts(anyCollection(), any()))
+                    .thenReturn(Map.of(Post.Category.TOGETHER, List.of(cached)));
+            when(postMapper.toSimplePostDto(cached)).thenReturn(
+                    HomePostPreviewResponse.SimplePostDto.builder().postId(1L).title("같이씁시다").build());
+
+            HomePostPreviewResponse result = postService.getHomePostPreview();
+
+            assertEquals(1, result.getTogether().size());
+            assertEquals(0, result.getDailyLife().size());
+            assertEquals(0, result.getRandomBuy().size());
+            verifyNoInteractions(postRepository);
+        }
+
+        private PostRepository.HomePostView homePostView(Post.Category category, Long postId) {
+            PostRepository.HomePostView view = mock(PostRepository.HomePostView.class);
+            when(view.getCategory()).thenReturn(category);
+            when(view.getPostId()).thenReturn(postId);
+            when(view.getLikeCount()).thenReturn(0);
+            when(view.getCommentCount()).thenReturn(0);
+            return view;
         }
     }
 
@@ -165,24 +215,61 @@ class PostServiceTest {
 
         @Test
         void getRankedPosts_success() {
-            Post post1 = Post.builder().id(1L).title("첫번째").build();
-            Post post2 = Post.builder().id(2L).title("두번째").build();
-            List<Post> topPosts = List.of(post1, post2);
+            LocalDateTime now = LocalDateTime.now();
+            PostRankEntry entry1 = new PostRankEntry(1L, "첫번째", Post.Category.DAILY_LIFE, 3, 1, 14.0, now);
+            PostRankEntry entry2 = new PostRankEntry(2L, "두번째", Post.Category.TOGETHER, 1, 0, 3.0, now);
 
-            when(postRepository.findTopPosts(eq(0),any())).thenReturn(topPosts);
-            when(postRankBaselineMemoryStore.getBaselineRankIndexMap()).thenReturn(new ConcurrentHashMap<>());
-            when(postRankBaselineMemoryStore.getPrevRankIndexMap()).thenReturn(new ConcurrentHashMap<>());
+            when(postRankingService.getTopPosts(PostRankType.REALTIME, null, 5)).thenReturn(List.of(entry1, entry2));
+            when(postRankSnapshotStore.current()).thenReturn(PostRankSnapshot.EMPTY);
 
-            List<PostRankResponseDto> result = postService.getRankedPosts();
+            List<PostRankResponseDto> result = postService.getRankedPosts(null, null);
 
             assertEquals(2, result.size());
             assertEquals(1, result.get(0).getCurrentRankIndex());
             assertEquals(2, result.get(1).getCurrentRankIndex());
             assertEquals(0, result.get(0).getRankChange());
             assertEquals(0, result.get(1).getRankChange());
+            assertEquals("DAILY_LIFE", result.get(0).getCategory());
+
+            assertEquals(1, result.get(0).getBaselineRankIndex());
+            verifyNoInteractions(postRepository);
+        }
+
+        @Test
+        void getRankedPosts_카테고리별_주간랭킹_스냅샷_기준_순위변화() {
+            PostRankEntry entry1 = new PostRankEntry(1L, "첫번째", Post.Category.TOGETHER, 3, 1, 14.0, LocalDateTime.now());
+            PostRankEntry entry2 = new PostRankEntry(2L, "두번째", Post.Category.TOGETHER, 1, 0, 3.0, LocalDateTime.now());
+            String rankKey = "post:rank:weekly:TOGETHER";
+            PostRankSnapshot snapshot = new PostRankSnapshot("1", LocalDate.now(),
+                    Map.of(rankKey, Map.of(1L, 3, 2L, 1)),
+                    Map.of(rankKey, Map.of(1L, 2, 2L, 1)));
+
+            when(postRankingService.getTopPosts(PostRankType.WEEKLY, Post.Category.TOGETHER, 5)).thenReturn(List.of(entry1, entry2));
+            when(postRankSnapshotStore.current()).thenReturn(snapshot);
+
+            List<PostRankResponseDto> result = postService.getRankedPosts("weekly", "TOGETHER");
+
+            assertEquals(2, result.size());
+            assertEquals(3, result.get(0).getBaselineRankIndex());
+            assertEquals(1, result.get(0).getRankChange());
+            assertEquals(-1, result.get(1).getRankChange());
+        }
 
-            verify(postRankBaselineMemoryStore).updateBaselineRank(topPosts);
-            verify(postRankBaselineMemoryStore,times(2)).updatePrevRank(topPosts);
+        @Test
+        void getRankedPosts_잘못된_유형() {
+            assertThrows(PostException.class, () -> postService.getRankedPosts("MONTHLY", null));
+        }
+
+        @Test
+        void updatePostScore_점수변경_이벤트_발행() {
+            Post post = Post.builder().id(postId).likeCount(2).commentCount(1).score(11.0).build();
+
+            postService.updatePostScore(post.getId(), 1, 0);
+
+            // 게시글 행은 카운터 flush 로만 갱신 (요청 트랜잭션에서 변경하지 않음)
+            assertEquals(2, post.getLikeCount());
+            assertEquals(11.0, post.getScore());
+            verify(eventPublisher).publishEvent(any(PostScoreChangedEvent.class));
         }
     }
 
@@ -193,47 +280,87 @@ class PostServiceTest {
         void getPostDetails_success() {
             Long postId = 1L;
             Long currentUserId = 2L;
+            Long ownerId = 1L;
 
-            User postOwner = User.builder().id(1L).build();
-            User loginUser = User.builder().id(currentUserId).build();
-
-            Post post = Post.builder()
-                    .id(postId)
-                    .title("제목")
-                    .content("내용")
-                    .category(Post.Category.TOGETHER)
-                    .tag(Post.Tag.GROUP_BUY)
-                    .user(postOwner)
-                    .build();
-
+            PostDetailSnapshot snapshot = new PostDetailSnapshot(postId, "제목", "내용", null,
+                    "TOGETHER", "GROUP_BUY", List.of(), LocalDateTime.now(), ownerId, "owner", null, null);
             PostDetailResponse mockResponse = PostDetailResponse.builder()
                     .postId(postId)
                     .title("제목")
                     .content("내용")
                     .category(String.valueOf(Post.Category.TOGETHER))
                     .tag(String.valueOf(Post.Tag.GROUP_BUY))
+                    .likeCount(3)
+                    .commentCount(1)
                     .user(PostDetailResponse.UserInfo.builder()
-                            .userId(postOwner.getId())
+                            .userId(ownerId)
                             .nickname("owner")
-                            .profileImage(null)
-                            .liveAloneDate(null)
-                            .following(false)
+                            .following(true)
                             .build())
                     .build();
 
-            when(postRepository.findByIdAndIsDeletedFalseAndIsReportedFalse(postId)).thenReturn(Optional.of(post));
-            when(userService.findUserById(currentUserId)).thenReturn(loginUser);
-            when(postMapper.toPostDetailDto(post)).thenReturn(mockResponse);
-            when(followRepository.existsByFollowerAndFollowee(loginUser, postOwner)).thenReturn(false);
+            // DB 반영 전 좋아요 1 건은 카운터 증감분으로 합산
+            PostRepository.CountView counts = counts(2, 1);
+            when(postRepository.findVisibleCountsById(postId)).thenReturn(Optional.of(counts));
+            when(postCounterService.pending(List.of(postId))).thenReturn(Map.of(postId, new PostCountDelta(1, 0)));
+            when(postDetailCache.get(eq(postId), any())).thenReturn(snapshot);
+            when(followGraphService.follows(currentUserId, ownerId)).thenReturn(true);
+            when(postMapper.toPostDetailDto(snapshot, 3, 1, true)).thenReturn(mockResponse);
 
             PostDetailResponse result = postService.getPostDetail(postId, currentUserId);
 
             assertEquals(postId, result.getPostId());
             assertEquals("제목", result.getTitle());
-            assertEquals("내용", result.getContent());
             assertEquals("TOGETHER", result.getCategory());
-            assertEquals("GROUP_BUY", result.getTag());
-            assertFalse(result.getUser().isFollowing());
+            assertEquals(3, result.getLikeCount());
+            assertTrue(result.getUser().isFollowing());
+            // 캐시 적중 시 게시글/작성자/조회자 엔티티를 로딩하지 않음
+            verify(postRepository, never()).findByIdAndIsDeletedFalseAndIsReportedFalse(any());
+            verifyNoInteractions(userService);
+        }
+
+        @Test
+        void getPostDetails_캐시_miss시_게시글_로딩() {
+            Long postId = 1L;
+            User postOwner = User.builder().id(1L).status(Status.ACTIVE).build();
+            Post post = Post.builder()
+                    .id(postId)
+                    .title("제목")
+                    .content("내용")
+                    .category(Post.Category.TOGETHER)
+                    .tag(Post.Tag.GROUP_BUY)
+                    .user(postOwner)
+                    .build();
+            PostDetailSnapshot snapshot = new PostDetailSnapshot(postId, "제목", "내용", null,
+                    "TOGETHER", "GROUP_BUY", List.of(), LocalDateTime.now(), postOwner.getId(), null, null, null);
+
+            PostRepository.CountView counts = counts(0, 0);
+            when(postRepository.findVisibleCountsById(postId)).thenReturn(Optional.of(counts));
+            when(postDetailCache.get(eq(postId), any()))
+                    .thenAnswer(invocation -> invocation.<Supplier<PostDetailSnapshot>>getArgument(1).get());
+            when(postRepository.findByIdAndIsDeletedFalseAndIsReportedFalse(postId)).thenReturn(Optional.of(post));
+            when(postMapper.toPostDetailSnapshot(post)).thenReturn(snapshot);
+
+            postService.getPostDetail(postId, postOwner.getId());
+
+            verify(postMapper).toPostDetailDto(snapshot, 0, 0, false);
+            // 본인 게시글은 팔로우 여부를 조회하지 않음
+            verifyNoInteractions(followGraphService);
+        }
+
+        @Test
+        void getPostDetails_삭제_또는_신고된_게시글() {
+            when(postRepository.findVisibleCountsById(1L)).thenReturn(Optional.empty());
+
+            assertThrows(PostException.class, () -> postService.getPostDetail(1L, 2L));
+            verifyNoInteractions(postDetailCache);
+        }
+
+        private PostRepository.CountView counts(int likeCount, int commentCount) {
+            PostRepository.CountView counts = mock(PostRepository.CountView.class);
+            when(counts.getLikeCount()).thenReturn(likeCount);
+            when(counts.getCommentCount()).thenReturn(commentCount);
+            return counts;
         }
     }
 
@@ -244,17 +371,76 @@ class PostServiceTest {
         void getPostList_success() {
             Pageable pageable = PageRequest.of(0, 10);
             Post.Category category = Post.Category.TOGETHER;
-            Post post = Post.builder().id(1L).title("테스트").build();
-            Page<Post> page = new PageImpl<>(List.of(post));
+            Page<PostPreviewRow> page = new PageImpl<>(List.of(row(1L, LocalDateTime.now())));
 
-            when(postRepository.findByCategoryAndIsDeletedFalseAndIsReportedFalse(category, pageable)).thenReturn(page);
-            when(postMapper.toPostPreviewDto(any(Post.class))).thenReturn(PostPreviewDto.builder().postId(1L).title("같이쓰기").build());
+            when(postQueryRepository.findPreviewPage(category, null, pageable)).thenReturn(page);
+            when(postMapper.toPostPreviewDto(any(PostPreviewRow.class), any())).thenReturn(PostPreviewDto.builder().postId(1L).title("같이쓰기").build());
 
-            PageResponse<PostPreviewDto> result =  postService.getPostListPage("TOGETHER", null, pageable);
+            PageResponse<PostPreviewDto> result =  postService.getPostListPage("TOGETHER", null, pageable, null);
 
             assertEquals(1, result.getContent().size());
             assertEquals("같이쓰기", result.getContent().get(0).getTitle());
         }
     }
 
-}
\ No newline at end of file
+    @Nested
+    class GetPostFeedTest {
+
+        @Test
+        void getPostFeed_다음페이지_있으면_마지막_게시글_커서_반환() {
+            LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+            PostPreviewRow row1 = row(3L, now);
+            PostPreviewRow row2 = row(2L, now.minusMinutes(1));
+            PostPreviewRow row3 = row(1L, now.minusMinutes(2));
+
+            when(postQueryRepository.findFeedPreviews(Post.Category.DAILY_LIFE, null, null, 3))
+                    .thenReturn(List.of(row1, row2, row3));
+            when(postMapper.toPostPreviewDto(any(PostPreviewRow.class), any())).thenReturn(PostPreviewDto.builder().postId(1L).build());
+
+            CursorResponse<PostPreviewDto> result = postService.getPostFeed("DAILY_LIFE", null, null, 2, null);
+
+            assertEquals(2, result.getContent().size());
+            assertTrue(result.isHasNext());
+            CursorCodec.Position position = CursorCodec.decode(result.getNextCursor());
+            assertEquals(row2.postId(), position.id());
+            assertEquals(row2.createdAt(), position.createdAt());
+        }
+
+        @Test
+        void getPostFeed_마지막페이지면_커서_null() {
+            CursorCodec.Position cursor = new CursorCodec.Position(LocalDateTime.of(2025, 6, 1, 12, 0), 5L);
+
+            when(postQueryRepository.findFeedPreviews(null, null, cursor, 11))
+                    .thenReturn(List.of(row(1L, LocalDateTime.of(2025, 6, 1, 11, 0))));
+            when(postMapper.toPostPreviewDto(any(PostPreviewRow.class), any())).thenReturn(PostPreviewDto.builder().postId(1L).build());
+
+            CursorResponse<PostPreviewDto> result = postService.getPostFeed(null, null,
+                    CursorCodec.encode(cursor.createdAt(), cursor.id()), 10, null);
+
+            assertEquals(1, result.getContent().size());
+            assertFalse(result.isHasNext());
+            assertNull(result.getNextCursor());
+        }
+
+        @Test
+        void getPostFeed_로그인시_좋아요_여부를_한번에_조회() {
+            Long currentUserId = 7L;
+            PostPreviewRow row1 = row(2L, LocalDateTime.of(2025, 6, 1, 12, 0));
+            PostPreviewRow row2 = row(1L, LocalDateTime.of(2025, 6, 1, 11, 0));
+
+            when(postQueryRepository.findFeedPreviews(null, null, null, 11)).thenReturn(List.of(row1, row2));
+            when(likedPostCache.likedAmong(currentUserId, List.of(2L, 1L))).thenReturn(Set.of(1L));
+
+            postService.getPostFeed(null, null, null, 10, currentUserId);
+
+            verify(postMapper).toPostPreviewDto(row1, false);
+            verify(postMapper).toPostPreviewDto(row2, true);
+            verify(likedPostCache, times(1)).likedAmong(any(), any());
+        }
+    }
+
+    private PostPreviewRow row(Long id, LocalDateTime createdAt) {
+        return new PostPreviewRow(id, "제목" + id, "내용", null, Post.Category.DAILY_LIFE, null,
+                0, 0, createdAt, "이브니", null, Status.ACTIVE);
+    }
+}
@@ -1,14 +1,19 @@
 package com.even.zaro.unit.service;
 
+import com.even.zaro.dto.profile.FollowerFollowingListDto;
 import com.even.zaro.dto.profile.UserProfileDto;
+import com.even.zaro.entity.Follow;
 import com.even.zaro.entity.Provider;
 import com.even.zaro.entity.Status;
 import com.even.zaro.entity.User;
 import com.even.zaro.global.ErrorCode;
+import com.even.zaro.global.event.event.FollowDeletedEvent;
 import com.even.zaro.global.exception.profile.ProfileException;
 import com.even.zaro.global.exception.user.UserException;
 import com.even.zaro.repository.FollowRepository;
 import com.even.zaro.repository.PostRepository;
+import com.even.zaro.repository.UserRepository;
+import com.even.zaro.service.FollowGraphService;
 import com.even.zaro.service.ProfileService;
 import com.even.zaro.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +23,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -32,12 +42,21 @@ public class ProfileServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private UserRepository userRepository;
+
     @Mock
     private PostRepository postRepository;
 
     @Mock
     private FollowRepository followRepository;
 
+    @Mock
+    private FollowGraphService followGraphService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Nested
     class GetUserProfileTest {
 
@@ -131,6 +150,39 @@ public class ProfileServiceTest {
 
             assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.FOLLOW_NOT_EXIST);
         }
+
+        @Test
+        void 언팔로우_성공시_팔로우_그래프_갱신_이벤트_발행() {
+            Follow follow = Follow.builder().follower(follower).followee(followee).build();
+            when(userService.findUserById(follower.getId())).thenReturn(follower);
+            when(userService.findUserById(followee.getId())).thenReturn(followee);
+            when(followRepository.findByFollowerAndFollowee(follower, followee)).thenReturn(Optional.of(follow));
+
+            profileService.unfollowUser(follower.getId(), followee.getId());
+
+            verify(followRepository).delete(follow);
+            verify(eventPublisher).publishEvent(any(FollowDeletedEvent.class));
+        }
+
+        @Test
+        void 팔로잉_목록의_팔로우_여부는_한번에_조회() {
+            User viewer = createUser(3L, "viewer@even.com", "viewer");
+            User other = createUser(4L, "other@even.com", "other");
+            when(userService.findUserById(follower.getId())).thenReturn(follower);
+            when(userService.findUserById(viewer.getId())).thenReturn(viewer);
+            when(followRepository.findByFollower(follower)).thenReturn(List.of(
+                    Follow.builder().follower(follower).followee(followee).build(),
+                    Follow.builder().follower(follower).followee(other).build()));
+            when(followGraphService.followsAny(viewer.getId(), List.of(followee.getId(), other.getId())))
+                    .thenReturn(Set.of(other.getId()));
+
+            List<FollowerFollowingListDto> result = profileService.getUserFollowings(follower.getId(), viewer.getId());
+
+            assertThat(result).extracting(FollowerFollowingListDto::getUserId).containsExactly(2L, 4L);
+            assertThat(result).extracting(FollowerFollowingListDto::isFollowing).containsExactly(false, true);
+            verify(followGraphService, times(1)).followsAny(any(), any());
+            verify(followRepository, never()).existsByFollowerAndFollowee(any(), any());
+        }
     }
 
     private User createUser(Long id, String email, String nickname) {
@@ -0,0 +1,65 @@
+package com.even.zaro.unit.util;
+
+import com.even.zaro.dto.comment.CommentPageSnapshot;
+import com.even.zaro.dto.comment.CommentSnapshot;
+import com.even.zaro.global.util.CursorCodec;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CommentPageSnapshotTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Test
+    void 커서_이후_댓글을_작성순으로_자름() {
+        CommentPageSnapshot snapshot = new CommentPageSnapshot(comments(5), true);
+
+        List<CommentSnapshot> page = snapshot.after(new CursorCodec.Position(now.plusMinutes(2), 2L), 2);
+
+        assertThat(page).extracting(CommentSnapshot::id).containsExactly(3L, 4L);
+    }
+
+    @Test
+    void 같은_작성시각이면_id_로_이어서_조회() {
+        List<CommentSnapshot> sameTime = List.of(comment(1L, now), comment(2L, now), comment(3L, now));
+        CommentPageSnapshot snapshot = new CommentPageSnapshot(sameTime, true);
+
+        List<CommentSnapshot> page = snapshot.after(new CursorCodec.Position(now, 1L), 10);
+
+        assertThat(page).extracting(CommentSnapshot::id).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void 캐시된_범위를_벗어나면_null() {
+        CommentPageSnapshot partial = new CommentPageSnapshot(comments(5), false);
+
+        assertThat(partial.after(null, 5)).hasSize(5);
+        assertThat(partial.after(new CursorCodec.Position(now.plusMinutes(3), 3L), 3)).isNull();
+        assertThat(partial.range(4, 2)).isNull();
+    }
+
+    @Test
+    void 모든_댓글을_담고_있으면_범위를_벗어나도_빈_목록() {
+        CommentPageSnapshot complete = new CommentPageSnapshot(comments(5), true);
+
+        assertThat(complete.range(3, 10)).extracting(CommentSnapshot::id).containsExactly(4L, 5L);
+        assertThat(complete.range(20, 10)).isEmpty();
+        assertThat(complete.after(new CursorCodec.Position(now.plusMinutes(5), 5L), 10)).isEmpty();
+    }
+
+    /// id 1..count, id 분 만큼 뒤에 작성
+    private List<CommentSnapshot> comments(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> comment(id, now.plusMinutes(id)))
+                .toList();
+    }
+
+    private CommentSnapshot comment(Long id, LocalDateTime createdAt) {
+        return new CommentSnapshot(id, "댓글" + id, 1L, "이브니", null, null, createdAt, createdAt, null, null);
+    }
+}
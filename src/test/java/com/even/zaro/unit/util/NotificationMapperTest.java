@@ -7,6 +7,7 @@ import com.even.zaro.entity.Post;
 import com.even.zaro.entity.User;
 import com.even.zaro.global.ErrorCode;
 import com.even.zaro.global.exception.notification.NotificationException;
+import com.even.zaro.global.exception.post.PostException;
 import com.even.zaro.global.util.NotificationMapper;
 import com.even.zaro.repository.CommentRepository;
 import com.even.zaro.repository.PostRepository;
@@ -18,11 +19,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class NotificationMapperTest {
@@ -112,6 +117,69 @@ class NotificationMapperTest {
         assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ACTOR_USER_NOT_FOUND);
     }
 
+    @Test
+    void 알림_목록은_종류별로_한번씩만_조회해서_변환() {
+        Notification follow = createNotification(Notification.Type.FOLLOW, 2L, false);
+        Notification like = createNotification(Notification.Type.LIKE, 8L, true);
+        Notification comment = createNotification(Notification.Type.COMMENT, 5L, false);
+
+        UserRepository.ActorView actorView = mock(UserRepository.ActorView.class);
+        when(actorView.getId()).thenReturn(actor.getId());
+        when(actorView.getNickname()).thenReturn(actor.getNickname());
+        PostRepository.NotificationPostView postView = mock(PostRepository.NotificationPostView.class);
+        when(postView.getId()).thenReturn(8L);
+        when(postView.getCategory()).thenReturn(Post.Category.TOGETHER);
+        CommentRepository.NotificationCommentView commentView = mock(CommentRepository.NotificationCommentView.class);
+        when(commentView.getId()).thenReturn(5L);
+        when(commentView.getContent()).thenReturn("댓글 내용");
+        when(commentView.getPostId()).thenReturn(10L);
+        when(commentView.getCategory()).thenReturn(Post.Category.DAILY_LIFE);
+
+        when(userRepository.findActorViewsByIdIn(Set.of(actor.getId()))).thenReturn(List.of(actorView));
+        when(postRepository.findNotificationViewsByIdIn(Set.of(8L))).thenReturn(List.of(postView));
+        when(commentRepository.findNotificationViewsByIdIn(Set.of(5L))).thenReturn(List.of(commentView));
+
+        List<NotificationDto> dtos = notificationMapper.toDtos(List.of(follow, like, comment));
+
+        assertThat(dtos).extracting(NotificationDto::getType)
+                .containsExactly(Notification.Type.FOLLOW, Notification.Type.LIKE, Notification.Type.COMMENT);
+        assertThat(dtos).extracting(NotificationDto::getActorName).containsOnly(actor.getNickname());
+        assertThat(dtos.get(1).getCategory()).isEqualTo("TOGETHER");
+        assertThat(dtos.get(2).getComment()).isEqualTo("댓글 내용");
+        assertThat(dtos.get(2).getPostId()).isEqualTo(10L);
+        verify(userRepository, times(1)).findActorViewsByIdIn(any());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void 알림_목록에서_게시글을_찾지_못하면_예외발생() {
+        Notification like = createNotification(Notification.Type.LIKE, 8L, false);
+
+        UserRepository.ActorView actorView = mock(UserRepository.ActorView.class);
+        when(actorView.getId()).thenReturn(actor.getId());
+        when(userRepository.findActorViewsByIdIn(Set.of(actor.getId()))).thenReturn(List.of(actorView));
+        when(postRepository.findNotificationViewsByIdIn(Set.of(8L))).thenReturn(List.of());
+
+        PostException exception = assertThrows(PostException.class,
+                () -> notificationMapper.toDtos(List.of(like)));
+        assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.POST_NOT_FOUND);
+    }
+
+    @Test
+    void 실시간_전송용_변환은_대상을_찾지_못한_알림만_제외() {
+        Notification follow = createNotification(Notification.Type.FOLLOW, 2L, false);
+        Notification like = createNotification(Notification.Type.LIKE, 8L, false);
+
+        UserRepository.ActorView actorView = mock(UserRepository.ActorView.class);
+        when(actorView.getId()).thenReturn(actor.getId());
+        when(userRepository.findActorViewsByIdIn(Set.of(actor.getId()))).thenReturn(List.of(actorView));
+        when(postRepository.findNotificationViewsByIdIn(Set.of(8L))).thenReturn(List.of());
+
+        List<NotificationDto> dtos = notificationMapper.toDtosSkippingMissing(List.of(follow, like));
+
+        assertThat(dtos).extracting(NotificationDto::getType).containsExactly(Notification.Type.FOLLOW);
+    }
+
     private Notification createNotification(Notification.Type type, Long targetId, boolean isRead) {
         return Notification.builder()
                 .id(notificationId)
@@ -119,6 +187,7 @@ class NotificationMapperTest {
                 .targetId(targetId)
                 .actorUserId(actor.getId())
                 .isRead(isRead)
+                .createdAt(LocalDateTime.now())
                 .build();
     }
 
@@ -0,0 +1,43 @@
+package com.even.zaro.unit.util;
+
+import com.even.zaro.global.util.PostContentSanitizer;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostContentSanitizerTest {
+
+    @Test
+    void 태그와_마크다운_기호_제거_후_공백_정리() {
+        String html = "<p>오늘의   <b>꿀템</b></p><br/>**강추** ~_`\\\n  &lt;span&gt;합니다&lt;/span&gt;";
+
+        assertThat(PostContentSanitizer.toPreview(html)).isEqualTo("오늘의 꿀템강추 합니다");
+    }
+
+    @Test
+    void 마크다운_이미지_제거() {
+        String content = "사진 ![이미지](https://cdn.example.com/a.png) 첨부";
+
+        assertThat(PostContentSanitizer.toPlainText(content)).isEqualTo("사진 첨부");
+    }
+
+    @Test
+    void 닫히지_않은_꺾쇠는_그대로_유지() {
+        assertThat(PostContentSanitizer.toPreview("3 < 5 입니다")).isEqualTo("3 < 5 입니다");
+    }
+
+    @Test
+    void 미리보기_길이_제한_및_이모지_보존() {
+        String content = "가".repeat(PostContentSanitizer.PREVIEW_LENGTH - 1) + "😀😀";
+
+        String preview = PostContentSanitizer.toPreview(content);
+
+        assertThat(preview.codePointCount(0, preview.length())).isEqualTo(PostContentSanitizer.PREVIEW_LENGTH);
+        assertThat(preview).endsWith("😀");
+    }
+
+    @Test
+    void null_이면_빈문자열() {
+        assertThat(PostContentSanitizer.toPreview(null)).isEmpty();
+    }
+}
@@ -0,0 +1,34 @@
+package com.even.zaro.unit.util;
+
+import com.even.zaro.global.util.PostHotScore;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostHotScoreTest {
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+    @Test
+    void 같은_점수면_최근_게시글이_더_높음() {
+        double recent = PostHotScore.calculate(30, now.minusHours(1), now);
+        double old = PostHotScore.calculate(30, now.minusDays(2), now);
+
+        assertThat(recent).isGreaterThan(old);
+    }
+
+    @Test
+    void 오래된_인기글보다_최근_게시글이_앞설_수_있음() {
+        double oldViral = PostHotScore.calculate(300, now.minusDays(5), now);
+        double freshPost = PostHotScore.calculate(15, now.minusHours(1), now);
+
+        assertThat(freshPost).isGreaterThan(oldViral);
+    }
+
+    @Test
+    void 점수가_없으면_0() {
+        assertThat(PostHotScore.calculate(0, now, now)).isZero();
+    }
+}